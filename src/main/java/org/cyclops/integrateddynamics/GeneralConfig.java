@@ -61,7 +61,43 @@ public class GeneralConfig extends DummyConfig {
      */
     @ConfigurableProperty(category = ConfigurableTypeCategory.CORE, comment = "If cable models should be cached for rendering optimization.", isCommandable = true)
     public static boolean cacheCableModels = true;
+
+    /**
+     * If capabilities of tile entities should be cached by position.
+     */
+    @ConfigurableProperty(category = ConfigurableTypeCategory.CORE, comment = "If capabilities of tile entities should be cached by position, so that networks do not have to look them up in the world each tick.", isCommandable = true)
+    public static boolean cacheCapabilities = true;
     
+    /**
+     * The maximum number of elements that are cached for each lazily built list.
+     */
+    @ConfigurableProperty(category = ConfigurableTypeCategory.GENERAL, comment = "The maximum number of elements that are cached for each lazily built list. The higher, the more memory is used, but the less often elements need to be recalculated.", isCommandable = true, minimalValue = 2)
+    public static int lazyBuiltListCacheSize = 128;
+
+    /**
+     * The interval in ticks at which network ticks are sampled by the profiler.
+     */
+    @ConfigurableProperty(category = ConfigurableTypeCategory.GENERAL, comment = "The interval in ticks at which network ticks are sampled by the profiler, 0 disables the profiler. The results can be exported with the networkprofiler command.", isCommandable = true, minimalValue = 0)
+    public static int networkProfilerSampleInterval = 20;
+
+    /**
+     * If networks should be ticked in two phases, of which the first runs in parallel for all networks.
+     */
+    @ConfigurableProperty(category = ConfigurableTypeCategory.CORE, comment = "If networks should be ticked in two phases. In the first phase, readers are updated on the server thread, after which variables are evaluated for all networks in parallel. Evaluations that need to read the world are left to the second phase. In the second phase, all changes are applied to the world on the server thread.", isCommandable = true)
+    public static boolean parallelNetworkTicking = false;
+
+    /**
+     * The number of threads for parallel network ticking.
+     */
+    @ConfigurableProperty(category = ConfigurableTypeCategory.CORE, comment = "The number of threads for parallel network ticking, 0 uses one thread per processor. With 1 thread, the first phase runs on the server thread in a deterministic order.", isCommandable = true, minimalValue = 0)
+    public static int parallelNetworkTickingThreads = 0;
+
+    /**
+     * The maximum number of part state syncs that are sent to each player per tick.
+     */
+    @ConfigurableProperty(category = ConfigurableTypeCategory.CORE, comment = "The maximum number of part state syncs, such as changed display panel values, that are sent to each player per tick. Further syncs are delayed to later ticks. 0 disables this limit.", isCommandable = true, minimalValue = 0)
+    public static int partStateSyncsPerPlayerPerTick = 200;
+
     /**
      * Create a new instance.
      */
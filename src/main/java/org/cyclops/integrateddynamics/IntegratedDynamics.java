@@ -45,6 +45,7 @@ import org.cyclops.integrateddynamics.client.render.valuetype.ValueTypeWorldRend
 import org.cyclops.integrateddynamics.client.render.valuetype.ValueTypeWorldRenderers;
 import org.cyclops.integrateddynamics.command.CommandCrash;
 import org.cyclops.integrateddynamics.command.CommandNetworkDiagnostics;
+import org.cyclops.integrateddynamics.command.CommandNetworkProfiler;
 import org.cyclops.integrateddynamics.command.CommandTest;
 import org.cyclops.integrateddynamics.core.NoteBlockEventReceiver;
 import org.cyclops.integrateddynamics.core.TickHandler;
@@ -55,6 +56,7 @@ import org.cyclops.integrateddynamics.core.evaluate.ProxyVariableFacadeHandler;
 import org.cyclops.integrateddynamics.core.evaluate.operator.OperatorRegistry;
 import org.cyclops.integrateddynamics.core.evaluate.operator.Operators;
 import org.cyclops.integrateddynamics.core.evaluate.variable.*;
+import org.cyclops.integrateddynamics.core.helper.CapabilityCache;
 import org.cyclops.integrateddynamics.core.item.ItemBlockEnergyContainer;
 import org.cyclops.integrateddynamics.core.item.VariableFacadeHandlerRegistry;
 import org.cyclops.integrateddynamics.core.logicprogrammer.LogicProgrammerElementTypeRegistry;
@@ -161,6 +163,7 @@ public class IntegratedDynamics extends ModBaseVersionable {
             commands.put(CommandTest.NAME, new CommandTest(this));
         }
         commands.put(CommandNetworkDiagnostics.NAME, new CommandNetworkDiagnostics(this));
+        commands.put(CommandNetworkProfiler.NAME, new CommandNetworkProfiler(this));
         commands.put(CommandCrash.NAME, new CommandCrash(this));
         return new CommandMod(this, commands);
     }
@@ -240,6 +243,7 @@ public class IntegratedDynamics extends ModBaseVersionable {
 
         MinecraftForge.EVENT_BUS.register(TickHandler.getInstance());
         MinecraftForge.EVENT_BUS.register(NoteBlockEventReceiver.getInstance());
+        MinecraftForge.EVENT_BUS.register(CapabilityCache.getInstance());
         MinecraftForge.EVENT_BUS.register(new NetworkCapabilityConstructors());
     }
 
@@ -2,6 +2,8 @@ package org.cyclops.integrateddynamics.api.evaluate.expression;
 
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
 
+import javax.annotation.Nullable;
+
 /**
  * Cache object that is responsible for storing values of this expression.
  * This cache object is responsible for determining when the values need to be ejected from the cache.
@@ -9,8 +11,47 @@ import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
  */
 public interface ILazyExpressionValueCache {
 
+    /**
+     * Store a value that is only valid for the current tick.
+     * @param id The expression id.
+     * @param value The value.
+     */
     public void setValue(int id, IValue value);
+
+    /**
+     * Store a value together with the versions of the inputs it was derived from.
+     * The value can be reused in later ticks for as long as the input versions do not change.
+     * @param id The expression id.
+     * @param value The value.
+     * @param inputVersions The versions of the inputs, or null if they are not known.
+     */
+    public void setValue(int id, IValue value, @Nullable long[] inputVersions);
+
+    /**
+     * @param id The expression id.
+     * @return If a value is available for the current tick.
+     */
     public boolean hasValue(int id);
+
+    /**
+     * Check if a value is available that was derived from inputs with the given versions.
+     * If so, that value will become available for the current tick.
+     * @param id The expression id.
+     * @param inputVersions The current versions of the inputs.
+     * @return If a value is available.
+     */
+    public boolean hasValue(int id, long[] inputVersions);
+
+    /**
+     * @param id The expression id.
+     * @return The cached value.
+     */
     public IValue getValue(int id);
 
+    /**
+     * @param id The expression id.
+     * @return The version of the cached value, this changes every time the value changes.
+     */
+    public long getVersion(int id);
+
 }
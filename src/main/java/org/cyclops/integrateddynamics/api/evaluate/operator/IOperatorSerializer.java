@@ -10,6 +10,8 @@ import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
 public interface IOperatorSerializer<O extends IOperator> {
 
     /**
+     * Serializers are looked up by operator class,
+     * so if no serializer can handle an operator, the default serializer is used for all operators of that class.
      * @param operator The operator to test.
      * @return If this can serialize the given operator.
      */
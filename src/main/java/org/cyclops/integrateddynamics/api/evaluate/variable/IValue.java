@@ -2,6 +2,8 @@ package org.cyclops.integrateddynamics.api.evaluate.variable;
 
 /**
  * An immutable value.
+ * Implementations must override {@link Object#hashCode()} consistently with {@link Object#equals(Object)},
+ * as values are used as keys in hashed collections.
  * @author rubensworks
  */
 public interface IValue {
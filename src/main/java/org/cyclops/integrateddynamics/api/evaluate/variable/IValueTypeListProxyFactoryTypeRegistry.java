@@ -1,5 +1,6 @@
 package org.cyclops.integrateddynamics.api.evaluate.variable;
 
+import net.minecraft.nbt.NBTBase;
 import org.cyclops.cyclopscore.init.IRegistry;
 
 /**
@@ -51,6 +52,29 @@ public interface IValueTypeListProxyFactoryTypeRegistry extends IRegistry {
      */
     public <T extends IValueType<V>, V extends IValue, P extends IValueTypeListProxy<T, V>> P deserialize(String value) throws SerializationException;
 
+    /**
+     * Serialize the given list proxy to NBT.
+     * @param proxy The proxy to serialize.
+     * @param <T> The list element type value type.
+     * @param <V> The list element type.
+     * @param <P> The proxy type.
+     * @return The serialized tag.
+     * @throws SerializationException If something goes wrong while serializing.
+     */
+    public <T extends IValueType<V>, V extends IValue, P extends IValueTypeListProxy<T, V>> NBTBase serializeNbt(P proxy) throws SerializationException;
+
+    /**
+     * Deserialize the given NBT list proxy to a list proxy instance.
+     * String tags are deserialized with {@link #deserialize(String)}.
+     * @param value The serialized list proxy.
+     * @param <T> The list element type value type.
+     * @param <V> The list element type.
+     * @param <P> The proxy type.
+     * @return The deserialized list proxy.
+     * @throws SerializationException If something goes wrong while serializing.
+     */
+    public <T extends IValueType<V>, V extends IValue, P extends IValueTypeListProxy<T, V>> P deserializeNbt(NBTBase value) throws SerializationException;
+
     /**
      * Factory for a list proxy.
      * @param <T> The list element type value type.
@@ -0,0 +1,20 @@
+package org.cyclops.integrateddynamics.api.evaluate.variable;
+
+import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
+
+/**
+ * A variable that reports changes of its value by a version number.
+ * This allows values that were derived from this variable to be reused for as long as the version does not change.
+ * @author rubensworks
+ */
+public interface IVariableVersioned<V extends IValue> extends IVariable<V> {
+
+    /**
+     * A version must never be reused by another variable or another value,
+     * so a new version must be created by {@link org.cyclops.integrateddynamics.core.evaluate.variable.ValueHelpers#createVersion()}.
+     * @return The version of the current value of this variable, this changes every time the value changes.
+     * @throws EvaluationException If something went wrong while evaluating
+     */
+    public long getVersion() throws EvaluationException;
+
+}
@@ -37,6 +37,15 @@ public interface INetwork extends IFullNetworkListener, INBTSerializable {
      */
     public void setPriority(INetworkElement element, int priority);
 
+    /**
+     * Run the first phase of a two-phase update.
+     * This advances the tick, updates all due readers and determines the variables of the other due elements,
+     * without modifying the world.
+     * It must be called on the server thread.
+     * The next call to {@link #update()} will then only finish the remaining updates of this tick.
+     */
+    public void prepareUpdate();
+
     /**
      * Kills the network is it had no more network elements.
      * @return If the network was killed.
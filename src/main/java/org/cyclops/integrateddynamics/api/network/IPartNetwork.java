@@ -10,6 +10,8 @@ import org.cyclops.integrateddynamics.api.part.IPartType;
 import org.cyclops.integrateddynamics.api.part.PartPos;
 import org.cyclops.integrateddynamics.api.part.aspect.IAspectRead;
 
+import java.util.Collection;
+
 /**
  * A network capability that can hold parts.
  * Note that this network only contains references to the relevant data, it does not contain the actual information.
@@ -99,6 +101,28 @@ public interface IPartNetwork extends ILazyExpressionValueCache {
      */
     public void removeVariableContainer(DimPos dimPos);
 
+    /**
+     * Update the given variables of the variable container at the given position in the variable index of this network,
+     * and notify the network elements that depend on them.
+     * @param dimPos The variable container position.
+     * @param variableIds The ids of the variables that were added, removed or changed in the container.
+     */
+    public void onVariablesChanged(DimPos dimPos, Collection<Integer> variableIds);
+
+    /**
+     * Notify the network elements that depend on the given variables or proxies,
+     * directly or through other variables in this network.
+     * @param variableIds The ids of the changed variables.
+     * @param proxyIds The ids of the proxies of which the variable changed.
+     */
+    public void notifyVariablesChanged(Collection<Integer> variableIds, Collection<Integer> proxyIds);
+
+    /**
+     * @param variableId The variable id.
+     * @return If the variable with the given id in this network directly or indirectly refers to itself.
+     */
+    public boolean isVariableCyclic(int variableId);
+
     /**
      * Add the given proxy to the network.
      * @param proxyId The id of the proxy.
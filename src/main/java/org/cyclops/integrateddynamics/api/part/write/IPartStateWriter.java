@@ -4,11 +4,13 @@ import org.cyclops.cyclopscore.helper.L10NHelpers;
 import org.cyclops.cyclopscore.inventory.SimpleInventory;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IVariable;
+import org.cyclops.integrateddynamics.api.item.IVariableFacade;
 import org.cyclops.integrateddynamics.api.network.IPartNetwork;
 import org.cyclops.integrateddynamics.api.part.IPartState;
 import org.cyclops.integrateddynamics.api.part.PartTarget;
 import org.cyclops.integrateddynamics.api.part.aspect.IAspectWrite;
 
+import javax.annotation.Nullable;
 import java.util.List;
 
 /**
@@ -55,6 +57,12 @@ public interface IPartStateWriter<P extends IPartTypeWriter> extends IPartState<
      */
     public void onVariableContentsUpdated(P partType, PartTarget target);
 
+    /**
+     * @return The variable that was last validated, or null if the variable has not been validated yet.
+     */
+    @Nullable
+    public IVariableFacade getCurrentVariableFacade();
+
     /**
      * @return The currently active aspect for this part, can be null.
      */
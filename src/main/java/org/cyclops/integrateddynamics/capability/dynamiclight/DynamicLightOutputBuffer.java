@@ -0,0 +1,76 @@
+package org.cyclops.integrateddynamics.capability.dynamiclight;
+
+import com.google.common.collect.Maps;
+import net.minecraft.util.EnumFacing;
+import org.cyclops.cyclopscore.datastructure.EnumFacingMap;
+import org.cyclops.integrateddynamics.core.tileentity.TileMultipartTicking;
+
+import java.util.Map;
+
+/**
+ * Collects the light level changes of all cables during a tick,
+ * so that each changed block only has to be synced once at the end of the tick.
+ * Blocks of which all light levels at the end of the tick equal the levels at the start of the tick are skipped.
+ * @author rubensworks
+ */
+public final class DynamicLightOutputBuffer {
+
+    private static DynamicLightOutputBuffer INSTANCE;
+    private Map<TileMultipartTicking, EnumFacingMap<Integer>> initialLevels = Maps.newLinkedHashMap();
+
+    private DynamicLightOutputBuffer() {
+
+    }
+
+    public static DynamicLightOutputBuffer getInstance() {
+        if(INSTANCE == null) {
+            INSTANCE = new DynamicLightOutputBuffer();
+        }
+        return INSTANCE;
+    }
+
+    /**
+     * Signal that the light level of the given side is about to change.
+     * @param tile The tile.
+     * @param side The side.
+     * @param level The light level before the change.
+     */
+    public synchronized void onChange(TileMultipartTicking tile, EnumFacing side, int level) {
+        EnumFacingMap<Integer> tileLevels = initialLevels.get(tile);
+        if(tileLevels == null) {
+            tileLevels = EnumFacingMap.newMap();
+            initialLevels.put(tile, tileLevels);
+        }
+        if(!tileLevels.containsKey(side)) {
+            tileLevels.put(side, level);
+        }
+    }
+
+    /**
+     * Sync all blocks of which a light level has changed since the last flush.
+     */
+    public void flush() {
+        Map<TileMultipartTicking, EnumFacingMap<Integer>> flushLevels;
+        synchronized(this) {
+            if(initialLevels.isEmpty()) {
+                return;
+            }
+            flushLevels = initialLevels;
+            initialLevels = Maps.newLinkedHashMap();
+        }
+        for(Map.Entry<TileMultipartTicking, EnumFacingMap<Integer>> entry : flushLevels.entrySet()) {
+            TileMultipartTicking tile = entry.getKey();
+            if(tile.isInvalid() || tile.getWorld() == null) {
+                continue;
+            }
+            for(Map.Entry<EnumFacing, Integer> sideEntry : entry.getValue().entrySet()) {
+                Integer level = tile.getLightLevels().get(sideEntry.getKey());
+                if((level == null ? 0 : level) != sideEntry.getValue()) {
+                    tile.updateLightInfo();
+                    break;
+                }
+            }
+        }
+    }
+
+}
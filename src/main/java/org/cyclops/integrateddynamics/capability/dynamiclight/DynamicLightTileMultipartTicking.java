@@ -7,6 +7,7 @@ import org.cyclops.integrateddynamics.core.tileentity.TileMultipartTicking;
 
 /**
  * Default implementation of {@link IDynamicLight}.
+ * Level changes are buffered in {@link DynamicLightOutputBuffer} until the end of the tick.
  * @author rubensworks
  */
 public class DynamicLightTileMultipartTicking implements IDynamicLight {
@@ -27,6 +28,7 @@ public class DynamicLightTileMultipartTicking implements IDynamicLight {
     public void setLightLevel(int level) {
         if(!tile.getWorld().isRemote) {
             boolean sendUpdate = false;
+            int previousLevel = getLightLevel();
             EnumFacingMap<Integer> lightLevels = getLightLevels();
             if(lightLevels.containsKey(side)) {
                 if(lightLevels.get(side) != level) {
@@ -38,7 +40,7 @@ public class DynamicLightTileMultipartTicking implements IDynamicLight {
                 lightLevels.put(side, level);
             }
             if(sendUpdate) {
-                tile.updateLightInfo();
+                DynamicLightOutputBuffer.getInstance().onChange(tile, side, previousLevel);
             }
         }
     }
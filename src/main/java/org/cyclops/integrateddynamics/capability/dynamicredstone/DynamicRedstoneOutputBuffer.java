@@ -0,0 +1,87 @@
+package org.cyclops.integrateddynamics.capability.dynamicredstone;
+
+import com.google.common.collect.Maps;
+import net.minecraft.util.EnumFacing;
+import org.apache.commons.lang3.tuple.Pair;
+import org.cyclops.cyclopscore.datastructure.EnumFacingMap;
+import org.cyclops.integrateddynamics.core.tileentity.TileMultipartTicking;
+
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Collects the redstone level changes of all cables during a tick,
+ * so that each changed block only has to notify its neighbours once at the end of the tick.
+ * Sides of which the level at the end of the tick equals the level at the start of the tick are skipped.
+ * @author rubensworks
+ */
+public final class DynamicRedstoneOutputBuffer {
+
+    private static DynamicRedstoneOutputBuffer INSTANCE;
+    private Map<TileMultipartTicking, EnumFacingMap<Pair<Integer, Boolean>>> initialLevels = Maps.newLinkedHashMap();
+
+    private DynamicRedstoneOutputBuffer() {
+
+    }
+
+    public static DynamicRedstoneOutputBuffer getInstance() {
+        if(INSTANCE == null) {
+            INSTANCE = new DynamicRedstoneOutputBuffer();
+        }
+        return INSTANCE;
+    }
+
+    /**
+     * Signal that the redstone level of the given side is about to change.
+     * @param tile The tile.
+     * @param side The side.
+     * @param level The redstone level before the change.
+     * @param strongPower The strong power flag before the change.
+     */
+    public synchronized void onChange(TileMultipartTicking tile, EnumFacing side, int level, boolean strongPower) {
+        EnumFacingMap<Pair<Integer, Boolean>> tileLevels = initialLevels.get(tile);
+        if(tileLevels == null) {
+            tileLevels = EnumFacingMap.newMap();
+            initialLevels.put(tile, tileLevels);
+        }
+        if(!tileLevels.containsKey(side)) {
+            tileLevels.put(side, Pair.of(level, strongPower));
+        }
+    }
+
+    /**
+     * Notify the neighbours of all blocks of which a redstone level has changed since the last flush.
+     */
+    public void flush() {
+        Map<TileMultipartTicking, EnumFacingMap<Pair<Integer, Boolean>>> flushLevels;
+        synchronized(this) {
+            if(initialLevels.isEmpty()) {
+                return;
+            }
+            // Neighbour updates can change levels again, those are flushed in the next tick.
+            flushLevels = initialLevels;
+            initialLevels = Maps.newLinkedHashMap();
+        }
+        for(Map.Entry<TileMultipartTicking, EnumFacingMap<Pair<Integer, Boolean>>> entry : flushLevels.entrySet()) {
+            TileMultipartTicking tile = entry.getKey();
+            if(tile.isInvalid() || tile.getWorld() == null) {
+                continue;
+            }
+            Set<EnumFacing> changedSides = EnumSet.noneOf(EnumFacing.class);
+            for(Map.Entry<EnumFacing, Pair<Integer, Boolean>> sideEntry : entry.getValue().entrySet()) {
+                EnumFacing side = sideEntry.getKey();
+                Integer level = tile.getRedstoneLevels().get(side);
+                Boolean strongPower = tile.getRedstoneStrong().get(side);
+                if((level == null ? -1 : level) != sideEntry.getValue().getLeft()
+                        || (strongPower != null && strongPower) != sideEntry.getValue().getRight()) {
+                    changedSides.add(side);
+                }
+            }
+            if(!changedSides.isEmpty()) {
+                tile.updateRedstoneInfo(changedSides);
+            }
+        }
+    }
+
+}
@@ -7,6 +7,7 @@ import org.cyclops.integrateddynamics.core.tileentity.TileMultipartTicking;
 
 /**
  * Default implementation of {@link IDynamicRedstone}.
+ * Level changes are buffered in {@link DynamicRedstoneOutputBuffer} until the end of the tick.
  * @author rubensworks
  */
 public class DynamicRedstoneTileMultipartTicking implements IDynamicRedstone {
@@ -36,6 +37,8 @@ public class DynamicRedstoneTileMultipartTicking implements IDynamicRedstone {
         if(!tile.getWorld().isRemote) {
             EnumFacingMap<Integer> redstoneLevels = getRedstoneLevels();
             EnumFacingMap<Boolean> redstoneStrongs = getRedstoneStrong();
+            int previousLevel = getRedstoneLevel();
+            boolean previousStrongPower = isStrong();
             boolean sendUpdate = false;
             if(redstoneLevels.containsKey(side)) {
                 if(redstoneLevels.get(side) != level) {
@@ -56,7 +59,7 @@ public class DynamicRedstoneTileMultipartTicking implements IDynamicRedstone {
                 redstoneStrongs.put(side, strongPower);
             }
             if(sendUpdate) {
-                tile.updateRedstoneInfo(side);
+                DynamicRedstoneOutputBuffer.getInstance().onChange(tile, side, previousLevel, previousStrongPower);
             }
         }
     }
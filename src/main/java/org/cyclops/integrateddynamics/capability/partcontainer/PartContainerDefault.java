@@ -24,6 +24,8 @@ import org.cyclops.integrateddynamics.api.part.IPartState;
 import org.cyclops.integrateddynamics.api.part.IPartType;
 import org.cyclops.integrateddynamics.core.helper.NetworkHelpers;
 import org.cyclops.integrateddynamics.core.helper.PartHelpers;
+import org.cyclops.integrateddynamics.core.network.packet.PartStateSyncQueue;
+import org.cyclops.integrateddynamics.core.part.PartStateBase;
 
 import javax.annotation.Nullable;
 import java.util.List;
@@ -42,17 +44,39 @@ public abstract class PartContainerDefault implements IPartContainer {
     public void update() {
         if(!MinecraftHelpers.isClientSide()) {
             // Loop over all part states to check their dirtiness
-            for (PartHelpers.PartStateHolder<?, ?> partStateHolder : partData.values()) {
-                if (partStateHolder.getState().isDirtyAndReset()) {
+            NBTTagCompound syncFields = null;
+            for (Map.Entry<EnumFacing, PartHelpers.PartStateHolder<?, ?>> entry : partData.entrySet()) {
+                IPartState<?> partState = entry.getValue().getState();
+                if (partState.isDirtyAndReset()) {
                     markDirty();
                 }
-                if (partStateHolder.getState().isUpdateAndReset()) {
+                if (partState.isUpdateAndReset()) {
                     sendUpdate();
                 }
+                if (partState instanceof PartStateBase) {
+                    NBTTagCompound fields = ((PartStateBase<?>) partState).writeSyncFieldsAndReset();
+                    if (fields != null) {
+                        if (syncFields == null) {
+                            syncFields = new NBTTagCompound();
+                        }
+                        syncFields.setTag(entry.getKey().getName(), fields);
+                    }
+                }
+            }
+            if (syncFields != null) {
+                sendSyncFields(syncFields);
             }
         }
     }
 
+    /**
+     * Send the changed fields of part states to the client(s) that are watching this container.
+     * @param syncFields A tag with the changed fields for each side.
+     */
+    protected void sendSyncFields(NBTTagCompound syncFields) {
+        PartStateSyncQueue.getInstance().send(getWorld(), getPos(), syncFields, new NBTTagCompound(), true);
+    }
+
     @Override
     public DimPos getPosition() {
         return DimPos.of(getWorld(), getPos());
@@ -2,9 +2,6 @@ package org.cyclops.integrateddynamics.client.model;
 
 import com.google.common.base.Optional;
 import net.minecraft.block.state.IBlockState;
-import net.minecraft.client.Minecraft;
-import net.minecraft.client.renderer.BlockModelShapes;
-import net.minecraft.client.renderer.BlockRendererDispatcher;
 import net.minecraft.client.renderer.block.model.IBakedModel;
 import net.minecraft.entity.EntityLivingBase;
 import net.minecraft.item.ItemStack;
@@ -69,18 +66,9 @@ public class CableModel extends CableModelBase {
     }
 
     @Override
-    protected IBakedModel getPartModel(EnumFacing side) {
+    protected IBlockState getPartBlockState(EnumFacing side) {
         IPartContainer partContainer = BlockHelpers.getSafeBlockStateProperty(getState(), BlockCable.PARTCONTAINER, null);
-        IBlockState blockState = partContainer != null && partContainer.hasPart(side) ? partContainer.getPart(side).getBlockState(partContainer, side) : null;
-        Minecraft mc = Minecraft.getMinecraft();
-        BlockRendererDispatcher blockRendererDispatcher = mc.getBlockRendererDispatcher();
-        BlockModelShapes blockModelShapes = blockRendererDispatcher.getBlockModelShapes();
-        return blockModelShapes.getModelForState(blockState);
-    }
-
-    @Override
-    protected IRenderState getRenderState() {
-        return BlockHelpers.getSafeBlockStateProperty(getState(), BlockCable.RENDERSTATE, null);
+        return partContainer != null && partContainer.hasPart(side) ? partContainer.getPart(side).getBlockState(partContainer, side) : null;
     }
 
     @Override
@@ -3,10 +3,12 @@ package org.cyclops.integrateddynamics.client.model;
 import com.google.common.base.Optional;
 import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Lists;
 import com.google.common.primitives.Ints;
 import net.minecraft.block.state.IBlockState;
+import net.minecraft.client.Minecraft;
 import net.minecraft.client.renderer.block.model.BakedQuad;
 import net.minecraft.client.renderer.block.model.IBakedModel;
 import net.minecraft.client.renderer.block.model.ItemCameraTransforms;
@@ -43,7 +45,8 @@ import java.util.concurrent.TimeUnit;
  */
 public abstract class CableModelBase extends DelegatingDynamicItemAndBlockModel {
 
-    private static final Cache<Triple<IRenderState, EnumFacing, BlockRenderLayer>, List<BakedQuad>> CACHE_QUADS = CacheBuilder.newBuilder().expireAfterAccess(1, TimeUnit.MINUTES).build();
+    private static final Cache<Triple<IBlockState, EnumFacing, PartRenderPosition>, List<BakedQuad>> CACHE_FACADE_QUADS = CacheBuilder.newBuilder().expireAfterAccess(1, TimeUnit.MINUTES).build();
+    private static volatile CableQuadTable quadTable = null;
 
     private static final int RADIUS = 4;
     private static final int TEXTURE_SIZE = 16;
@@ -83,6 +86,13 @@ public abstract class CableModelBase extends DelegatingDynamicItemAndBlockModel
 
     public CableModelBase() {
         super();
+        // This constructor is called at model bake time, at which point the cable texture is available.
+        if (GeneralConfig.cacheCableModels && getParticleTexture() != null) {
+            synchronized (CableModelBase.class) {
+                quadTable = bakeQuadTable(getParticleTexture());
+                CACHE_FACADE_QUADS.invalidateAll();
+            }
+        }
     }
     
     protected static float[][][] makeQuadVertexes(float min, float max, float length) {
@@ -178,97 +188,203 @@ public abstract class CableModelBase extends DelegatingDynamicItemAndBlockModel
     protected abstract boolean hasPart(EnumFacing side);
     protected abstract PartRenderPosition getPartRenderPosition(EnumFacing side);
     protected abstract boolean shouldRenderParts();
-    protected abstract IBakedModel getPartModel(EnumFacing side);
-    protected abstract IRenderState getRenderState();
+    protected abstract IBlockState getPartBlockState(EnumFacing side);
+
+    protected IBakedModel getPartModel(IBlockState partState) {
+        return Minecraft.getMinecraft().getBlockRendererDispatcher().getBlockModelShapes().getModelForState(partState);
+    }
+
+    /**
+     * Make the cable quads for the given side.
+     * @param texture The cable texture.
+     * @param side The side.
+     * @param isConnected If the side is connected.
+     * @param hasPart If the side has a part.
+     * @param depthFactor The depth factor of the part, if there is one.
+     * @return The quads.
+     */
+    protected List<BakedQuad> makeCableSideQuads(TextureAtlasSprite texture, EnumFacing side, boolean isConnected,
+                                                 boolean hasPart, float depthFactor) {
+        List<BakedQuad> ret = Lists.newArrayList();
+        if (isConnected || hasPart) {
+            int i = 0;
+            float[][][] quadVertexes = this.quadVertexes;
+            if (hasPart) {
+                quadVertexes = makeQuadVertexes(MIN, MAX, 1F - depthFactor);
+            }
+            for (float[][] v : quadVertexes) {
+                Vec3d v1 = rotate(new Vec3d(v[0][0] - .5, v[0][1] - .5, v[0][2] - .5), side).addVector(.5, .5, .5);
+                Vec3d v2 = rotate(new Vec3d(v[1][0] - .5, v[1][1] - .5, v[1][2] - .5), side).addVector(.5, .5, .5);
+                Vec3d v3 = rotate(new Vec3d(v[2][0] - .5, v[2][1] - .5, v[2][2] - .5), side).addVector(.5, .5, .5);
+                Vec3d v4 = rotate(new Vec3d(v[3][0] - .5, v[3][1] - .5, v[3][2] - .5), side).addVector(.5, .5, .5);
+                EnumFacing realSide = getSideFromVecs(v1, v2, v3);
 
+                boolean invert = i == 2 || i == 1;
+                int length = hasPart ? LENGTH_CONNECTION_LIMITED : LENGTH_CONNECTION;
+
+                int[] data = Ints.concat(
+                        vertexToInts((float) v1.xCoord, (float) v1.yCoord, (float) v1.zCoord, -1, texture,
+                                LENGTH_CONNECTION, invert ? length : 0),
+                        vertexToInts((float) v2.xCoord, (float) v2.yCoord, (float) v2.zCoord, -1, texture,
+                                INV_LENGTH_CONNECTION, invert ? length : 0),
+                        vertexToInts((float) v3.xCoord, (float) v3.yCoord, (float) v3.zCoord, -1, texture,
+                                INV_LENGTH_CONNECTION, invert ? 0 : length),
+                        vertexToInts((float) v4.xCoord, (float) v4.yCoord, (float) v4.zCoord, -1, texture,
+                                LENGTH_CONNECTION, invert ? 0 : length)
+                );
+                i++;
+                ForgeHooksClient.fillNormal(data, realSide); // This fixes lighting issues when item is rendered in hand/inventory
+                ret.add(new BakedQuad(data, -1, realSide, texture, false, Attributes.DEFAULT_BAKED_FORMAT));
+            }
+        } else {
+            addBakedQuad(ret, MIN, MAX, MIN, MAX, MAX, texture, side);
+        }
+        return ret;
+    }
+
+    /**
+     * Precompute the cable quads for all connection masks.
+     * @param texture The cable texture.
+     * @return The quad table.
+     */
     @SuppressWarnings("unchecked")
+    protected CableQuadTable bakeQuadTable(TextureAtlasSprite texture) {
+        List<BakedQuad>[][] sideQuads = new List[CableQuadTable.SIDES][2];
+        for (EnumFacing side : EnumFacing.VALUES) {
+            sideQuads[side.ordinal()][0] = ImmutableList.copyOf(makeCableSideQuads(texture, side, false, false, 0F));
+            sideQuads[side.ordinal()][1] = ImmutableList.copyOf(makeCableSideQuads(texture, side, true, false, 0F));
+        }
+        return new CableQuadTable(texture, sideQuads);
+    }
+
+    /**
+     * @return The quad table for the current cable texture, this is rebuilt when the texture has changed.
+     */
+    protected CableQuadTable getQuadTable() {
+        TextureAtlasSprite texture = getParticleTexture();
+        CableQuadTable table = quadTable;
+        if (table == null || table.getTexture() != texture) {
+            synchronized (CableModelBase.class) {
+                table = quadTable;
+                if (table == null || table.getTexture() != texture) {
+                    table = bakeQuadTable(texture);
+                    quadTable = table;
+                    CACHE_FACADE_QUADS.invalidateAll();
+                }
+            }
+        }
+        return table;
+    }
+
+    protected List<BakedQuad> getPartConnectionQuads(CableQuadTable table, EnumFacing side) {
+        PartRenderPosition partRenderPosition = getPartRenderPosition(side);
+        float depthFactor = partRenderPosition == PartRenderPosition.NONE ? 0F : partRenderPosition.getDepthFactor();
+        List<BakedQuad> quads = table.getPartConnectionQuads(side, depthFactor);
+        if (quads == null) {
+            quads = ImmutableList.copyOf(makeCableSideQuads(table.getTexture(), side, false, true, depthFactor));
+            table.setPartConnectionQuads(side, depthFactor, quads);
+        }
+        return quads;
+    }
+
+    /**
+     * Get the quads of the part at the given side from the table.
+     * Part models don't depend on the cable state or random value,
+     * so their quads are stored per part block state on first use.
+     * @param table The quad table.
+     * @param side The side of the part.
+     * @return The quads of the part.
+     */
+    protected List<BakedQuad> getPartQuads(CableQuadTable table, EnumFacing side) {
+        IBlockState partState = getPartBlockState(side);
+        List<BakedQuad> quads = table.getPartQuads(partState, this.facing);
+        if (quads == null) {
+            quads = ImmutableList.copyOf(getPartModel(partState).getQuads(this.blockState, this.facing, this.rand));
+            table.setPartQuads(partState, this.facing, quads);
+        }
+        return quads;
+    }
+
+    protected List<BakedQuad> getCachedFacadeQuads(IBlockState blockState, EnumFacing side, PartRenderPosition partRenderPosition) {
+        Triple<IBlockState, EnumFacing, PartRenderPosition> cacheKey = Triple.of(blockState, side, partRenderPosition);
+        List<BakedQuad> quads = CACHE_FACADE_QUADS.getIfPresent(cacheKey);
+        if (quads == null) {
+            quads = getFacadeQuads(blockState, side, partRenderPosition);
+            CACHE_FACADE_QUADS.put(cacheKey, quads);
+        }
+        return quads;
+    }
+
     @Override
     public List<BakedQuad> getGeneralQuads() {
-        Triple<IRenderState, EnumFacing, BlockRenderLayer> cacheKey = null;
-        List<BakedQuad> cachedQuads = null;
-        if (GeneralConfig.cacheCableModels) {
-            IRenderState renderState = getRenderState();
-            if (renderState != null) {
-                cacheKey = Triple.of(renderState, this.facing, MinecraftForgeClient.getRenderLayer());
-                cachedQuads = CACHE_QUADS.getIfPresent(cacheKey);
+        boolean item = isItemStack();
+        CableQuadTable table = GeneralConfig.cacheCableModels ? getQuadTable() : null;
+        BlockRenderLayer layer = item ? BlockRenderLayer.SOLID : MinecraftForgeClient.getRenderLayer();
+        boolean realCable = item || isRealCable();
+        boolean renderCable = realCable && layer == BlockRenderLayer.SOLID;
+        int connectionMask = 0;
+        int partMask = 0;
+        for (EnumFacing side : EnumFacing.VALUES) {
+            if (item ? side == EnumFacing.EAST || side == EnumFacing.WEST : isConnected(side)) {
+                connectionMask |= 1 << side.ordinal();
+            }
+            if (!item && hasPart(side)) {
+                partMask |= 1 << side.ordinal();
             }
         }
-        if (cachedQuads == null) {
-            List<BakedQuad> ret = Lists.newLinkedList();
-            TextureAtlasSprite texture = getParticleTexture();
-            boolean renderCable = isItemStack() || (isRealCable() && MinecraftForgeClient.getRenderLayer() == BlockRenderLayer.SOLID);
-            Optional<IBlockState> blockStateHolder = getFacade();
-            for (EnumFacing side : EnumFacing.values()) {
-                boolean isConnected = isItemStack() ? side == EnumFacing.EAST || side == EnumFacing.WEST : isConnected(side);
-                boolean hasPart = !isItemStack() && hasPart(side);
-                if (hasPart && shouldRenderParts()) {
-                    try {
-                        ret.addAll(getPartModel(side).getQuads(this.blockState, this.facing, this.rand));
-                    } catch (Exception e) {
-                        // Skip rendering this part, could occur when the player is still logging in.
-                    }
-                }
-                if (renderCable) {
-                    if (isConnected || hasPart) {
-                        int i = 0;
-                        float[][][] quadVertexes = this.quadVertexes;
-                        if (hasPart) {
-                            PartRenderPosition partRenderPosition = getPartRenderPosition(side);
-                            float depthFactor = partRenderPosition == PartRenderPosition.NONE ? 0F : partRenderPosition.getDepthFactor();
-                            quadVertexes = makeQuadVertexes(MIN, MAX, 1F - depthFactor);
-                        }
-                        for (float[][] v : quadVertexes) {
-                            Vec3d v1 = rotate(new Vec3d(v[0][0] - .5, v[0][1] - .5, v[0][2] - .5), side).addVector(.5, .5, .5);
-                            Vec3d v2 = rotate(new Vec3d(v[1][0] - .5, v[1][1] - .5, v[1][2] - .5), side).addVector(.5, .5, .5);
-                            Vec3d v3 = rotate(new Vec3d(v[2][0] - .5, v[2][1] - .5, v[2][2] - .5), side).addVector(.5, .5, .5);
-                            Vec3d v4 = rotate(new Vec3d(v[3][0] - .5, v[3][1] - .5, v[3][2] - .5), side).addVector(.5, .5, .5);
-                            EnumFacing realSide = getSideFromVecs(v1, v2, v3);
-
-                            boolean invert = i == 2 || i == 1;
-                            int length = hasPart ? LENGTH_CONNECTION_LIMITED : LENGTH_CONNECTION;
-
-                            int[] data = Ints.concat(
-                                    vertexToInts((float) v1.xCoord, (float) v1.yCoord, (float) v1.zCoord, -1, texture,
-                                            LENGTH_CONNECTION, invert ? length : 0),
-                                    vertexToInts((float) v2.xCoord, (float) v2.yCoord, (float) v2.zCoord, -1, texture,
-                                            INV_LENGTH_CONNECTION, invert ? length : 0),
-                                    vertexToInts((float) v3.xCoord, (float) v3.yCoord, (float) v3.zCoord, -1, texture,
-                                            INV_LENGTH_CONNECTION, invert ? 0 : length),
-                                    vertexToInts((float) v4.xCoord, (float) v4.yCoord, (float) v4.zCoord, -1, texture,
-                                            LENGTH_CONNECTION, invert ? 0 : length)
-                            );
-                            i++;
-                            ForgeHooksClient.fillNormal(data, realSide); // This fixes lighting issues when item is rendered in hand/inventory
-                            ret.add(new BakedQuad(data, -1, realSide, texture, false, Attributes.DEFAULT_BAKED_FORMAT));
-                        }
-                    } else {
-                        addBakedQuad(ret, MIN, MAX, MIN, MAX, MAX, texture, side);
-                    }
+        boolean renderParts = shouldRenderParts();
+        Optional<IBlockState> blockStateHolder = getFacade();
+
+        // For plain cables, the quads are a single table lookup.
+        if (table != null && partMask == 0 && !item && !(blockStateHolder.isPresent() && renderParts)) {
+            return table.getCableQuads(connectionMask, realCable, layer);
+        }
+
+        List<BakedQuad> ret = Lists.newArrayList();
+        TextureAtlasSprite texture = getParticleTexture();
+        for (EnumFacing side : EnumFacing.VALUES) {
+            boolean isConnected = (connectionMask & (1 << side.ordinal())) != 0;
+            boolean hasPart = (partMask & (1 << side.ordinal())) != 0;
+            if (hasPart && renderParts) {
+                try {
+                    ret.addAll(table == null
+                            ? getPartModel(getPartBlockState(side)).getQuads(this.blockState, this.facing, this.rand)
+                            : getPartQuads(table, side));
+                } catch (Exception e) {
+                    // Skip rendering this part, could occur when the player is still logging in.
                 }
             }
-
-            if (blockStateHolder.isPresent() && shouldRenderParts()) {
-                for (EnumFacing side : EnumFacing.values()) {
-                    boolean isConnected = isItemStack() ? side == EnumFacing.EAST || side == EnumFacing.WEST : isConnected(side);
-                    PartRenderPosition partRenderPosition = PartRenderPosition.NONE;
-                    boolean hasPart = !isItemStack() && hasPart(side);
-                    if (hasPart)          partRenderPosition = getPartRenderPosition(side);
-                    else if (isConnected) partRenderPosition = CABLE_RENDERPOSITION;
-                    ret.addAll(getFacadeQuads(blockStateHolder.get(), side, partRenderPosition));
+            if (renderCable) {
+                if (table == null) {
+                    PartRenderPosition partRenderPosition = hasPart ? getPartRenderPosition(side) : PartRenderPosition.NONE;
+                    float depthFactor = partRenderPosition == PartRenderPosition.NONE ? 0F : partRenderPosition.getDepthFactor();
+                    ret.addAll(makeCableSideQuads(texture, side, isConnected, hasPart, depthFactor));
+                } else if (hasPart) {
+                    ret.addAll(getPartConnectionQuads(table, side));
+                } else {
+                    ret.addAll(table.getSideQuads(side, isConnected));
                 }
             }
+        }
 
-            // Close the cable connections for items
-            if (isItemStack()) {
-                addBakedQuad(ret, MIN, MAX, MIN, MAX, 1, texture, EnumFacing.EAST);
-                addBakedQuad(ret, MIN, MAX, MIN, MAX, 1, texture, EnumFacing.WEST);
-            }
-            cachedQuads = ret;
-            if (cacheKey != null) {
-                CACHE_QUADS.put(cacheKey, cachedQuads);
+        if (blockStateHolder.isPresent() && renderParts) {
+            for (EnumFacing side : EnumFacing.VALUES) {
+                boolean isConnected = (connectionMask & (1 << side.ordinal())) != 0;
+                PartRenderPosition partRenderPosition = PartRenderPosition.NONE;
+                boolean hasPart = (partMask & (1 << side.ordinal())) != 0;
+                if (hasPart)          partRenderPosition = getPartRenderPosition(side);
+                else if (isConnected) partRenderPosition = CABLE_RENDERPOSITION;
+                ret.addAll(table == null ? getFacadeQuads(blockStateHolder.get(), side, partRenderPosition)
+                        : getCachedFacadeQuads(blockStateHolder.get(), side, partRenderPosition));
             }
         }
-        return cachedQuads;
+
+        // Close the cable connections for items
+        if (item) {
+            addBakedQuad(ret, MIN, MAX, MIN, MAX, 1, texture, EnumFacing.EAST);
+            addBakedQuad(ret, MIN, MAX, MIN, MAX, 1, texture, EnumFacing.WEST);
+        }
+        return ret;
     }
 
     @Override
@@ -0,0 +1,147 @@
+package org.cyclops.integrateddynamics.client.model;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Maps;
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.client.renderer.block.model.BakedQuad;
+import net.minecraft.client.renderer.texture.TextureAtlasSprite;
+import net.minecraft.util.BlockRenderLayer;
+import net.minecraft.util.EnumFacing;
+import org.apache.commons.lang3.tuple.Pair;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A table of precomputed cable quads for a certain cable texture.
+ *
+ * Cable quads are looked up by a compact key that contains the connection mask of the six sides,
+ * whether or not the cable is real and the render layer.
+ * The quads of connections to parts depend on the depth of the part,
+ * so these are computed once per side and depth, and stored on first use.
+ * The same is done for the quads of the parts themselves, which only depend on the block state of the part.
+ * @author rubensworks
+ */
+public class CableQuadTable {
+
+    public static final int SIDES = EnumFacing.VALUES.length;
+    public static final int MASKS = 1 << SIDES;
+    private static final BlockRenderLayer[] LAYERS = BlockRenderLayer.values();
+    public static final int SIZE = MASKS * 2 * LAYERS.length;
+
+    private final TextureAtlasSprite texture;
+    private final List<BakedQuad>[][] sideQuads;
+    private final List<BakedQuad>[] cableQuads;
+    private final Map<Float, List<BakedQuad>>[] partConnectionQuads;
+    private final Map<Pair<IBlockState, EnumFacing>, List<BakedQuad>> partQuads = Maps.newConcurrentMap();
+
+    /**
+     * Make a new table.
+     * @param texture The cable texture the quads were made with.
+     * @param sideQuads The quads for each side, the second index is 0 for unconnected sides and 1 for connected sides.
+     */
+    @SuppressWarnings("unchecked")
+    public CableQuadTable(TextureAtlasSprite texture, List<BakedQuad>[][] sideQuads) {
+        this.texture = texture;
+        this.sideQuads = sideQuads;
+        this.cableQuads = new List[SIZE];
+        for (int key = 0; key < SIZE; key++) {
+            if (isCableRendered(key)) {
+                ImmutableList.Builder<BakedQuad> builder = ImmutableList.builder();
+                for (int side = 0; side < SIDES; side++) {
+                    builder.addAll(sideQuads[side][(key >> side) & 1]);
+                }
+                this.cableQuads[key] = builder.build();
+            } else {
+                this.cableQuads[key] = ImmutableList.of();
+            }
+        }
+        this.partConnectionQuads = new Map[SIDES];
+        for (int side = 0; side < SIDES; side++) {
+            this.partConnectionQuads[side] = Maps.newConcurrentMap();
+        }
+    }
+
+    /**
+     * @param connectionMask The connection mask, where bit i is set if the side with ordinal i is connected.
+     * @param realCable If the cable is real.
+     * @param layer The render layer.
+     * @return The key in the table.
+     */
+    public static int getKey(int connectionMask, boolean realCable, BlockRenderLayer layer) {
+        return ((layer.ordinal() << 1) | (realCable ? 1 : 0)) << SIDES | (connectionMask & (MASKS - 1));
+    }
+
+    /**
+     * @param key A key in the table.
+     * @return If the key refers to a cable that has quads, only real cables in the solid layer are rendered.
+     */
+    public static boolean isCableRendered(int key) {
+        return ((key >> SIDES) & 1) == 1 && LAYERS[key >> (SIDES + 1)] == BlockRenderLayer.SOLID;
+    }
+
+    /**
+     * @return The cable texture the quads were made with.
+     */
+    public TextureAtlasSprite getTexture() {
+        return texture;
+    }
+
+    /**
+     * @param connectionMask The connection mask, where bit i is set if the side with ordinal i is connected.
+     * @param realCable If the cable is real.
+     * @param layer The render layer.
+     * @return The quads of the cable core and its connections.
+     */
+    public List<BakedQuad> getCableQuads(int connectionMask, boolean realCable, BlockRenderLayer layer) {
+        return cableQuads[getKey(connectionMask, realCable, layer)];
+    }
+
+    /**
+     * @param side A side.
+     * @param connected If the side is connected.
+     * @return The quads of the given side without a part.
+     */
+    public List<BakedQuad> getSideQuads(EnumFacing side, boolean connected) {
+        return sideQuads[side.ordinal()][connected ? 1 : 0];
+    }
+
+    /**
+     * @param side A side.
+     * @param depthFactor The depth factor of the part at the given side.
+     * @return The quads of the connection to the part, or null if they have not been stored yet.
+     */
+    public List<BakedQuad> getPartConnectionQuads(EnumFacing side, float depthFactor) {
+        return partConnectionQuads[side.ordinal()].get(depthFactor);
+    }
+
+    /**
+     * Store the quads of a connection to a part.
+     * @param side A side.
+     * @param depthFactor The depth factor of the part at the given side.
+     * @param quads The quads of the connection to the part.
+     */
+    public void setPartConnectionQuads(EnumFacing side, float depthFactor, List<BakedQuad> quads) {
+        partConnectionQuads[side.ordinal()].put(depthFactor, quads);
+    }
+
+    /**
+     * @param partState The block state of a part, this contains the part type, its side and its status.
+     * @param facing The side the quads are requested for, can be null.
+     * @return The quads of the part, or null if they have not been stored yet.
+     */
+    public List<BakedQuad> getPartQuads(IBlockState partState, EnumFacing facing) {
+        return partQuads.get(Pair.of(partState, facing));
+    }
+
+    /**
+     * Store the quads of a part.
+     * @param partState The block state of a part.
+     * @param facing The side the quads are requested for, can be null.
+     * @param quads The quads of the part.
+     */
+    public void setPartQuads(IBlockState partState, EnumFacing facing, List<BakedQuad> quads) {
+        partQuads.put(Pair.of(partState, facing), quads);
+    }
+
+}
@@ -1,19 +0,0 @@
-package org.cyclops.integrateddynamics.client.model;
-
-import lombok.Data;
-import org.cyclops.cyclopscore.datastructure.EnumFacingMap;
-import org.cyclops.integrateddynamics.core.helper.PartHelpers;
-
-/**
- * @author rubensworks
- */
-@Data
-public class CableRenderState implements IRenderState {
-
-    private final boolean realCable;
-    private final EnumFacingMap<Boolean> connected;
-    private final EnumFacingMap<PartHelpers.PartStateHolder<?, ?>> partData;
-    private final String facadeBlockName;
-    private final int facadeMeta;
-
-}
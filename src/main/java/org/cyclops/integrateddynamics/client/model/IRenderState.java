@@ -1,8 +0,0 @@
-package org.cyclops.integrateddynamics.client.model;
-
-/**
- * @author rubensworks
- */
-public interface IRenderState {
-
-}
@@ -0,0 +1,74 @@
+package org.cyclops.integrateddynamics.client.render.valuetype;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import net.minecraft.client.gui.FontRenderer;
+import net.minecraft.client.renderer.GlStateManager;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The laid-out lines of a text-based value, scaled to fit on a display panel.
+ *
+ * Display values are immutable, so layouts can be cached by value instance with {@link #newCache()},
+ * and are only rebuilt when the displayed value changes.
+ * @author rubensworks
+ */
+public class TextLayout {
+
+    private static final float MAX = 12.5F;
+    private static final float MARGIN_FACTOR = 1.1F;
+
+    private final String[] lines;
+    private final float lineHeight;
+    private final float scale;
+    private final float translateX;
+    private final float translateY;
+
+    public TextLayout(FontRenderer fontRenderer, List<String> lines) {
+        this.lines = lines.toArray(new String[lines.size()]);
+        this.lineHeight = fontRenderer.FONT_HEIGHT;
+        float maxWidth = 0;
+        for (String line : this.lines) {
+            maxWidth = Math.max(maxWidth, fontRenderer.getStringWidth(line) - 1);
+        }
+        float totalHeight = lineHeight * this.lines.length;
+
+        float scaleX = MAX / (maxWidth * MARGIN_FACTOR);
+        float scaleY = MAX / (totalHeight * MARGIN_FACTOR);
+        this.scale = Math.min(scaleX, scaleY); // Maintain aspect ratio
+        this.translateX = (MAX - maxWidth * scale) / 2;
+        this.translateY = (MAX - totalHeight * scale) / 2;
+    }
+
+    /**
+     * @return A cache for layouts that is keyed by value instance.
+     */
+    public static Cache<IValue, TextLayout> newCache() {
+        return CacheBuilder.newBuilder().weakKeys().expireAfterAccess(1, TimeUnit.MINUTES).build();
+    }
+
+    /**
+     * Render the lines.
+     * @param fontRenderer The font renderer.
+     * @param color The text color, including alpha.
+     */
+    public void render(FontRenderer fontRenderer, int color) {
+        GlStateManager.pushMatrix();
+        GlStateManager.enableRescaleNormal();
+        GlStateManager.translate(translateX, translateY, 0F);
+        GlStateManager.scale(scale, scale, 1F);
+
+        float offset = 0;
+        for (String line : lines) {
+            fontRenderer.drawString(line, 0, (int) offset, color);
+            offset += lineHeight;
+        }
+
+        GlStateManager.disableRescaleNormal();
+        GlStateManager.popMatrix();
+    }
+
+}
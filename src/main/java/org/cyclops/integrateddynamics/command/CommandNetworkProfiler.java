@@ -0,0 +1,83 @@
+package org.cyclops.integrateddynamics.command;
+
+import com.google.common.base.Charsets;
+import com.google.common.collect.Lists;
+import com.google.common.io.Files;
+import net.minecraft.command.CommandException;
+import net.minecraft.command.ICommandSender;
+import net.minecraft.command.WrongUsageException;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.text.TextComponentString;
+import org.apache.logging.log4j.Level;
+import org.cyclops.cyclopscore.command.CommandMod;
+import org.cyclops.cyclopscore.init.ModBase;
+import org.cyclops.integrateddynamics.GeneralConfig;
+import org.cyclops.integrateddynamics.IntegratedDynamics;
+import org.cyclops.integrateddynamics.core.helper.CapabilityCache;
+import org.cyclops.integrateddynamics.core.network.diagnostics.NetworkProfiler;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Command for exporting or resetting the results of the network profiler.
+ * Usage: networkprofiler [csv|json|reset]
+ * @author rubensworks
+ *
+ */
+public class CommandNetworkProfiler extends CommandMod {
+
+    public static final String NAME = "networkprofiler";
+    private static final List<String> ACTIONS = Lists.newArrayList("csv", "json", "reset");
+
+    public CommandNetworkProfiler(ModBase mod) {
+        super(mod, NAME);
+    }
+
+    @Override
+    public List getTabCompletionOptions(MinecraftServer server, ICommandSender sender, String[] parts, BlockPos blockPos) {
+        if (parts.length != 1) {
+            return null;
+        }
+        List<String> options = Lists.newArrayList();
+        for (String action : ACTIONS) {
+            if (action.startsWith(parts[0])) {
+                options.add(action);
+            }
+        }
+        return options;
+    }
+
+    @Override
+    public void execute(MinecraftServer server, ICommandSender sender, String[] parts) throws CommandException {
+        String action = parts.length == 0 ? "csv" : parts[0];
+        if (!ACTIONS.contains(action)) {
+            throw new WrongUsageException(NAME + " [csv|json|reset]");
+        }
+        NetworkProfiler profiler = NetworkProfiler.getInstance();
+        if ("reset".equals(action)) {
+            profiler.reset();
+            CapabilityCache.getInstance().resetCounters();
+            sender.addChatMessage(new TextComponentString("The network profiler has been reset."));
+            return;
+        }
+        if (GeneralConfig.networkProfilerSampleInterval <= 0) {
+            sender.addChatMessage(new TextComponentString("The network profiler is disabled in the config."));
+            return;
+        }
+        File file = server.getFile("integrateddynamics_networkprofiler." + action);
+        try {
+            Files.write("json".equals(action) ? profiler.toJson() : profiler.toCsv(), file, Charsets.UTF_8);
+            sender.addChatMessage(new TextComponentString(String.format("Exported %s profiled networks to %s",
+                    profiler.getNetworkCount(), file.getAbsolutePath())));
+            sender.addChatMessage(new TextComponentString(String.format("Capability cache: %s hits, %s misses",
+                    CapabilityCache.getInstance().getHits(), CapabilityCache.getInstance().getMisses())));
+        } catch (IOException e) {
+            IntegratedDynamics.clog(Level.ERROR, "Could not export the network profiler results: " + e.getMessage());
+            sender.addChatMessage(new TextComponentString("Could not export the network profiler results, see the server log."));
+        }
+    }
+
+}
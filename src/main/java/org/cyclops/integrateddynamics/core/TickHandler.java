@@ -1,13 +1,30 @@
 package org.cyclops.integrateddynamics.core;
 
+import com.google.common.collect.Lists;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraftforge.event.world.ChunkEvent;
 import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
 import net.minecraftforge.fml.common.gameevent.TickEvent;
 import org.cyclops.cyclopscore.helper.MinecraftHelpers;
+import org.cyclops.integrateddynamics.GeneralConfig;
 import org.cyclops.integrateddynamics.IntegratedDynamics;
 import org.cyclops.integrateddynamics.api.network.INetwork;
+import org.cyclops.integrateddynamics.capability.dynamiclight.DynamicLightOutputBuffer;
+import org.cyclops.integrateddynamics.capability.dynamicredstone.DynamicRedstoneOutputBuffer;
+import org.cyclops.integrateddynamics.core.network.Network;
 import org.cyclops.integrateddynamics.core.network.diagnostics.NetworkDiagnostics;
+import org.cyclops.integrateddynamics.core.network.diagnostics.NetworkProfiler;
+import org.cyclops.integrateddynamics.core.network.packet.PartStateSyncQueue;
 import org.cyclops.integrateddynamics.core.persist.world.NetworkWorldStorage;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.Future;
+
 /**
  * Handles server ticks to delegate to networks.
  * @author rubensworks
@@ -17,6 +34,7 @@ public final class TickHandler {
     private static TickHandler INSTANCE;
     private int tick = 0;
     private boolean shouldCrash = false;
+    private ForkJoinPool pool = null;
 
     private TickHandler() {
 
@@ -39,12 +57,17 @@ public final class TickHandler {
             throw new RuntimeException("Forcefully crashed the server.");
         }
         if(event.type == TickEvent.Type.SERVER && event.phase == TickEvent.Phase.END) {
+            NetworkProfiler.getInstance().onTick();
             boolean isBeingDiagnozed = NetworkDiagnostics.getInstance().isBeingDiagnozed();
             if (isBeingDiagnozed) {
                 tick = (tick + 1) % MinecraftHelpers.SECOND_IN_TICKS;
             }
             boolean shouldSendTickDurationInfo = isBeingDiagnozed && tick == 0;
-            for(INetwork network : NetworkWorldStorage.getInstance(IntegratedDynamics._instance).getNetworks()) {
+            Collection<INetwork> networks = NetworkWorldStorage.getInstance(IntegratedDynamics._instance).getTickingNetworks();
+            if (GeneralConfig.parallelNetworkTicking) {
+                prepareNetworks(networks);
+            }
+            for(INetwork network : networks) {
                 if (isBeingDiagnozed && (shouldSendTickDurationInfo || network.hasChanged())) {
                     NetworkDiagnostics.getInstance().sendNetworkUpdate(network);
                     network.resetLastSecondDurations();
@@ -58,6 +81,110 @@ public final class TickHandler {
                     throw e;
                 }
             }
+            DynamicRedstoneOutputBuffer.getInstance().flush();
+            DynamicLightOutputBuffer.getInstance().flush();
+            PartStateSyncQueue.getInstance().onTick();
+        }
+    }
+
+    @SubscribeEvent
+    public void onChunkLoad(ChunkEvent.Load event) {
+        if (!event.getWorld().isRemote) {
+            Chunk chunk = event.getChunk();
+            int dimension = event.getWorld().provider.getDimension();
+            for (INetwork network : NetworkWorldStorage.getInstance(IntegratedDynamics._instance).getSleepingNetworks(dimension)) {
+                ((Network) network).onChunkLoad(chunk.xPosition, chunk.zPosition);
+            }
+        }
+    }
+
+    protected int getThreads() {
+        int threads = GeneralConfig.parallelNetworkTickingThreads;
+        return threads <= 0 ? Runtime.getRuntime().availableProcessors() : threads;
+    }
+
+    protected ForkJoinPool getPool(int threads) {
+        if (pool == null || pool.getParallelism() != threads) {
+            if (pool != null) {
+                pool.shutdown();
+            }
+            pool = new ForkJoinPool(threads, new ForkJoinPool.ForkJoinWorkerThreadFactory() {
+                @Override
+                public ForkJoinWorkerThread newThread(ForkJoinPool pool) {
+                    ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+                    thread.setName("Integrated Dynamics Network Ticker " + thread.getPoolIndex());
+                    return thread;
+                }
+            }, null, false);
+        }
+        return pool;
+    }
+
+    /**
+     * Run the first phase of the network updates.
+     * All networks are first prepared in order on the server thread, which reads from the world.
+     * With more than one thread, the prepared variables are then evaluated in parallel,
+     * and this method waits until all of them are evaluated.
+     * Otherwise, they are evaluated in order on the server thread.
+     * @param networks The networks to prepare.
+     */
+    protected void prepareNetworks(Collection<INetwork> networks) {
+        List<Network> preparedNetworks = Lists.newArrayListWithExpectedSize(networks.size());
+        for (INetwork network : networks) {
+            prepareNetwork(network);
+            if (network instanceof Network && !network.isCrashed()) {
+                preparedNetworks.add((Network) network);
+            }
+        }
+
+        int threads = getThreads();
+        if (threads <= 1 || preparedNetworks.size() <= 1) {
+            for (Network network : preparedNetworks) {
+                evaluateNetwork(network);
+            }
+            return;
+        }
+
+        List<Callable<Void>> tasks = Lists.newArrayListWithExpectedSize(preparedNetworks.size());
+        for (final Network network : preparedNetworks) {
+            tasks.add(new Callable<Void>() {
+                @Override
+                public Void call() throws Exception {
+                    evaluateNetwork(network);
+                    return null;
+                }
+            });
+        }
+        for (Future<Void> future : getPool(threads).invokeAll(tasks)) {
+            try {
+                future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException(e);
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                throw cause instanceof RuntimeException ? (RuntimeException) cause : new RuntimeException(cause);
+            }
+        }
+    }
+
+    protected void prepareNetwork(INetwork network) {
+        try {
+            if (!network.isCrashed()) {
+                network.prepareUpdate();
+            }
+        } catch (RuntimeException e) {
+            network.setCrashed(true);
+            throw e;
+        }
+    }
+
+    protected void evaluateNetwork(Network network) {
+        try {
+            network.evaluatePreparedVariables();
+        } catch (RuntimeException e) {
+            network.setCrashed(true);
+            throw e;
         }
     }
 
@@ -0,0 +1,128 @@
+package org.cyclops.integrateddynamics.core.client.gui.container;
+
+import net.minecraft.client.Minecraft;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.nbt.NBTTagCompound;
+import org.cyclops.cyclopscore.client.gui.component.button.GuiButtonText;
+import org.cyclops.cyclopscore.client.gui.component.input.GuiNumberField;
+import org.cyclops.cyclopscore.client.gui.container.GuiContainerExtended;
+import org.cyclops.cyclopscore.helper.Helpers;
+import org.cyclops.cyclopscore.helper.L10NHelpers;
+import org.cyclops.cyclopscore.helper.ValueNotifierHelpers;
+import org.cyclops.cyclopscore.init.ModBase;
+import org.cyclops.cyclopscore.inventory.container.ExtendedInventoryContainer;
+import org.cyclops.cyclopscore.inventory.container.button.IButtonActionClient;
+import org.cyclops.integrateddynamics.IntegratedDynamics;
+import org.cyclops.integrateddynamics.api.part.IPartContainer;
+import org.cyclops.integrateddynamics.api.part.IPartType;
+import org.cyclops.integrateddynamics.api.part.PartTarget;
+import org.cyclops.integrateddynamics.core.client.gui.ExtendedGuiHandler;
+import org.cyclops.integrateddynamics.core.inventory.container.ContainerPartPanelSettings;
+import org.lwjgl.input.Keyboard;
+
+import java.io.IOException;
+
+/**
+ * Gui for the settings of variable-driven panels.
+ * @author rubensworks
+ */
+public class GuiPartPanelSettings extends GuiContainerExtended {
+
+    private final PartTarget target;
+
+    private GuiNumberField numberFieldUpdateInterval = null;
+    private GuiNumberField numberFieldChangeThreshold = null;
+
+    /**
+     * Make a new instance.
+     * @param target The target.
+     * @param player The player.
+     * @param partContainer The part container.
+     * @param partType The part type.
+     */
+    public GuiPartPanelSettings(EntityPlayer player, PartTarget target, IPartContainer partContainer, IPartType partType) {
+        super(new ContainerPartPanelSettings(player, target, partContainer, partType));
+        this.target = target;
+
+        putButtonAction(GuiPartSettings.BUTTON_SAVE, new IButtonActionClient<GuiContainerExtended, ExtendedInventoryContainer>() {
+            @Override
+            public void onAction(int buttonId, GuiContainerExtended gui, ExtendedInventoryContainer container) {
+                IntegratedDynamics._instance.getGuiHandler().setTemporaryData(ExtendedGuiHandler.PART, GuiPartPanelSettings.this.target.getCenter().getSide());
+                try {
+                    int updateInterval = numberFieldUpdateInterval.getInt();
+                    double changeThreshold = Double.parseDouble(numberFieldChangeThreshold.getText());
+                    ValueNotifierHelpers.setValue(getContainer(), getPanelContainer().getLastUpdateValueId(), updateInterval);
+                    ValueNotifierHelpers.setValue(getContainer(), getPanelContainer().getLastChangeThresholdValueId(), Double.toString(changeThreshold));
+                } catch (NumberFormatException e) { }
+            }
+        });
+    }
+
+    protected ContainerPartPanelSettings getPanelContainer() {
+        return (ContainerPartPanelSettings) getContainer();
+    }
+
+    @Override
+    public String getGuiTexture() {
+        return getContainer().getGuiProvider().getModGui().getReferenceValue(ModBase.REFKEY_TEXTURE_PATH_GUI)
+                + "partSettings.png";
+    }
+
+    @Override
+    public void initGui() {
+        super.initGui();
+        Keyboard.enableRepeatEvents(true);
+
+        numberFieldUpdateInterval = new GuiNumberField(0, Minecraft.getMinecraft().fontRendererObj, guiLeft + 68, guiTop + 9, 70, 14, true, true);
+        numberFieldUpdateInterval.setMaxStringLength(15);
+        numberFieldUpdateInterval.setVisible(true);
+        numberFieldUpdateInterval.setTextColor(16777215);
+        numberFieldUpdateInterval.setCanLoseFocus(true);
+
+        numberFieldChangeThreshold = new GuiNumberField(0, Minecraft.getMinecraft().fontRendererObj, guiLeft + 68, guiTop + 34, 70, 14, true, true);
+        numberFieldChangeThreshold.setMaxStringLength(15);
+        numberFieldChangeThreshold.setVisible(true);
+        numberFieldChangeThreshold.setTextColor(16777215);
+        numberFieldChangeThreshold.setCanLoseFocus(true);
+
+        String save = L10NHelpers.localize("gui.integrateddynamics.button.save");
+        buttonList.add(new GuiButtonText(GuiPartSettings.BUTTON_SAVE, this.guiLeft + 140, this.guiTop + 8, fontRendererObj.getStringWidth(save) + 6, 16, save, true));
+    }
+
+    @Override
+    protected void keyTyped(char typedChar, int keyCode) throws IOException {
+        if (!this.checkHotbarKeys(keyCode)) {
+            if (!this.numberFieldUpdateInterval.textboxKeyTyped(typedChar, keyCode)
+                    && !this.numberFieldChangeThreshold.textboxKeyTyped(typedChar, keyCode)) {
+                super.keyTyped(typedChar, keyCode);
+            }
+        }
+    }
+
+    @Override
+    protected void mouseClicked(int mouseX, int mouseY, int mouseButton) throws IOException {
+        this.numberFieldUpdateInterval.mouseClicked(mouseX, mouseY, mouseButton);
+        this.numberFieldChangeThreshold.mouseClicked(mouseX, mouseY, mouseButton);
+        super.mouseClicked(mouseX, mouseY, mouseButton);
+    }
+
+    @Override
+    protected void drawGuiContainerBackgroundLayer(float partialTicks, int mouseX, int mouseY) {
+        super.drawGuiContainerBackgroundLayer(partialTicks, mouseX, mouseY);
+        numberFieldUpdateInterval.drawTextBox(Minecraft.getMinecraft(), mouseX - guiLeft, mouseY - guiTop);
+        numberFieldChangeThreshold.drawTextBox(Minecraft.getMinecraft(), mouseX - guiLeft, mouseY - guiTop);
+        fontRendererObj.drawString(L10NHelpers.localize("gui.integrateddynamics.partsettings.updateInterval"), guiLeft + 8, guiTop + 12, Helpers.RGBToInt(0, 0, 0));
+        fontRendererObj.drawString(L10NHelpers.localize("gui.integrateddynamics.partsettings.changeThreshold"), guiLeft + 8, guiTop + 37, Helpers.RGBToInt(0, 0, 0));
+    }
+
+    @Override
+    public void onUpdate(int valueId, NBTTagCompound value) {
+        if (valueId == getPanelContainer().getLastUpdateValueId()) {
+            numberFieldUpdateInterval.setText(Integer.toString(getPanelContainer().getLastUpdateValue()));
+        }
+        if (valueId == getPanelContainer().getLastChangeThresholdValueId()) {
+            numberFieldChangeThreshold.setText(Double.toString(getPanelContainer().getLastChangeThresholdValue()));
+        }
+    }
+
+}
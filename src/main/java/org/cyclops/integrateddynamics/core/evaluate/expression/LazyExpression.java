@@ -7,25 +7,53 @@ import org.cyclops.integrateddynamics.api.evaluate.operator.IOperator;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValueType;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IVariable;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IVariableVersioned;
+import org.cyclops.integrateddynamics.core.evaluate.operator.OperatorBase;
+import org.cyclops.integrateddynamics.core.evaluate.operator.OperatorCompiler;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueHelpers;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypeOperator;
+
+import java.util.Arrays;
 
 /**
  * A generic expression with arbitrarily nested binary operations.
  * This is evaluated in a lazy manner.
+ * If all inputs that were read during the last evaluation are versioned,
+ * the evaluated value will be reused until one of their versions changes.
+ * These versions are checked in the order the inputs were read, so inputs that the operator did not need,
+ * such as the branch of a choice that was not taken, are not evaluated for checking the cached value.
+ * The operator is compiled for the input types on first evaluation, see {@link OperatorCompiler}.
  * @author rubensworks
  */
-public class LazyExpression<V extends IValue> implements IExpression<V> {
+public class LazyExpression<V extends IValue> implements IExpression<V>, IVariableVersioned<V> {
 
     private final int id;
     private final IOperator op;
     private final IVariable[] input;
     private final ILazyExpressionValueCache valueCache;
+    private final OperatorBase.SafeVariablesGetter inputGetter;
+    private OperatorBase.IFunction compiled = null;
     private boolean errored = false;
 
+    private final boolean[] read;
+    private final int[] readOrder;
+    private int readCount = 0;
+    private boolean tracking = false;
+    private int[] readInputs = null; // The inputs that were read during the last evaluation, in order of reading.
+    private long[] readVersions = null; // The versions of those inputs, null if not all of them are versioned.
+
     public LazyExpression(int id, IOperator op, IVariable[] input, ILazyExpressionValueCache valueCache) {
         this.id = id;
         this.op = op;
         this.input = input;
         this.valueCache = valueCache;
+        this.read = new boolean[input.length];
+        this.readOrder = new int[input.length];
+        IVariable[] trackedInput = new IVariable[input.length];
+        for (int i = 0; i < input.length; i++) {
+            trackedInput[i] = new TrackedVariable(i, input[i]);
+        }
+        this.inputGetter = new OperatorBase.SafeVariablesGetter(trackedInput);
     }
 
     @Override
@@ -33,11 +61,92 @@ public class LazyExpression<V extends IValue> implements IExpression<V> {
         if(valueCache.hasValue(id)) {
             return valueCache.getValue(id);
         }
-        IValue value = op.evaluate(input);
-        valueCache.setValue(id, value);
+        if(readVersions != null && valueCache.hasValue(id, getReadVersions())) {
+            return valueCache.getValue(id);
+        }
+        if(compiled == null) {
+            compiled = OperatorCompiler.compile(op, ValueHelpers.from(input));
+        }
+        IValue value;
+        readCount = 0;
+        Arrays.fill(read, false);
+        tracking = true;
+        try {
+            value = compiled.evaluate(inputGetter);
+        } finally {
+            tracking = false;
+        }
+        if (value instanceof ValueTypeOperator.ValueOperator) {
+            // Operators, such as curried ones, can hold on to inputs without having read them.
+            for (int i = 0; i < input.length; i++) {
+                onRead(i);
+            }
+        }
+        readInputs = Arrays.copyOf(readOrder, readCount);
+        readVersions = getVersions(readInputs);
+        valueCache.setValue(id, value, readVersions);
         return value;
     }
 
+    protected void onRead(int index) {
+        if (!read[index]) {
+            read[index] = true;
+            readOrder[readCount++] = index;
+        }
+    }
+
+    /**
+     * @param inputs Input indexes.
+     * @return The current versions of the given inputs,
+     * or null if not all of them are versioned or if their evaluation failed.
+     */
+    protected long[] getVersions(int[] inputs) {
+        long[] versions = new long[inputs.length];
+        for (int i = 0; i < inputs.length; i++) {
+            IVariable variable = input[inputs[i]];
+            if (!(variable instanceof IVariableVersioned)) {
+                return null;
+            }
+            try {
+                versions[i] = ((IVariableVersioned) variable).getVersion();
+            } catch (EvaluationException e) {
+                return null;
+            }
+        }
+        return versions;
+    }
+
+    /**
+     * Determine the current versions of the inputs that were read during the last evaluation,
+     * in the order they were read.
+     * Checking stops at the first changed input, as the operator may read other inputs afterwards.
+     * Inputs after that one keep their previous version in the returned array.
+     * @return The versions of the inputs that were read during the last evaluation.
+     */
+    protected long[] getReadVersions() {
+        long[] versions = readVersions.clone();
+        for (int i = 0; i < readInputs.length; i++) {
+            long version;
+            try {
+                version = ((IVariableVersioned) input[readInputs[i]]).getVersion();
+            } catch (EvaluationException e) {
+                // Let the operator handle the error.
+                version = ~versions[i];
+            }
+            if (version != versions[i]) {
+                versions[i] = version;
+                break;
+            }
+        }
+        return versions;
+    }
+
+    @Override
+    public long getVersion() throws EvaluationException {
+        evaluate();
+        return valueCache.getVersion(id);
+    }
+
     @Override
     public boolean hasErrored() {
         return errored;
@@ -66,4 +175,31 @@ public class LazyExpression<V extends IValue> implements IExpression<V> {
         }
     }
 
+    /**
+     * Input variable that records when it is read during the evaluation of this expression.
+     */
+    private class TrackedVariable<V extends IValue> implements IVariable<V> {
+
+        private final int index;
+        private final IVariable<V> variable;
+
+        public TrackedVariable(int index, IVariable<V> variable) {
+            this.index = index;
+            this.variable = variable;
+        }
+
+        @Override
+        public IValueType<V> getType() {
+            return variable.getType();
+        }
+
+        @Override
+        public V getValue() throws EvaluationException {
+            if (tracking) {
+                onRead(index);
+            }
+            return variable.getValue();
+        }
+    }
+
 }
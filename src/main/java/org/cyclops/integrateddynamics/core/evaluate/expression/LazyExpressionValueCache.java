@@ -0,0 +1,157 @@
+package org.cyclops.integrateddynamics.core.evaluate.expression;
+
+import gnu.trove.iterator.TIntObjectIterator;
+import gnu.trove.map.TIntObjectMap;
+import gnu.trove.map.hash.TIntObjectHashMap;
+import org.cyclops.integrateddynamics.api.evaluate.expression.ILazyExpressionValueCache;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueHelpers;
+
+import javax.annotation.Nullable;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A value cache for lazy expressions that keeps values across ticks for as long as
+ * the versions of the inputs they were derived from do not change.
+ * Values without known input versions are only valid during the tick they were calculated in.
+ * @author rubensworks
+ */
+public class LazyExpressionValueCache implements ILazyExpressionValueCache {
+
+    /**
+     * The number of ticks after which entries that have not been used anymore are removed.
+     */
+    private static final int EXPIRY_TICKS = 200;
+
+    private final TIntObjectMap<Entry> entries = new TIntObjectHashMap<>();
+    private long tick = 0;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong invalidations = new AtomicLong();
+
+    /**
+     * Move on to the next tick, values that were stored without input versions will become invalid.
+     */
+    public void onTick() {
+        tick++;
+        if (tick % EXPIRY_TICKS == 0) {
+            for (TIntObjectIterator<Entry> it = entries.iterator(); it.hasNext();) {
+                it.advance();
+                if (tick - it.value().tick > EXPIRY_TICKS) {
+                    it.remove();
+                }
+            }
+        }
+    }
+
+    /**
+     * Remove all values.
+     */
+    public void clear() {
+        entries.clear();
+    }
+
+    @Override
+    public void setValue(int id, IValue value) {
+        setValue(id, value, null);
+    }
+
+    @Override
+    public void setValue(int id, IValue value, @Nullable long[] inputVersions) {
+        misses.incrementAndGet();
+        Entry entry = entries.get(id);
+        if (entry == null) {
+            entries.put(id, new Entry(value, inputVersions, ValueHelpers.createVersion(), tick));
+        } else {
+            if (!ValueHelpers.isValueUnchanged(entry.value, value)) {
+                entry.version = ValueHelpers.createVersion();
+            }
+            entry.value = value;
+            entry.inputVersions = inputVersions;
+            entry.tick = tick;
+        }
+    }
+
+    @Override
+    public boolean hasValue(int id) {
+        Entry entry = entries.get(id);
+        if (entry != null && entry.tick == tick) {
+            hits.incrementAndGet();
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public boolean hasValue(int id, long[] inputVersions) {
+        Entry entry = entries.get(id);
+        if (entry == null || entry.inputVersions == null) {
+            return false;
+        }
+        if (Arrays.equals(entry.inputVersions, inputVersions)) {
+            entry.tick = tick;
+            hits.incrementAndGet();
+            return true;
+        }
+        invalidations.incrementAndGet();
+        return false;
+    }
+
+    @Override
+    public IValue getValue(int id) {
+        Entry entry = entries.get(id);
+        return entry == null ? null : entry.value;
+    }
+
+    @Override
+    public long getVersion(int id) {
+        Entry entry = entries.get(id);
+        return entry == null ? -1 : entry.version;
+    }
+
+    /**
+     * @return The number of values that were retrieved from this cache.
+     */
+    public long getHits() {
+        return hits.get();
+    }
+
+    /**
+     * @return The number of values that had to be calculated.
+     */
+    public long getMisses() {
+        return misses.get();
+    }
+
+    /**
+     * @return The number of values that became invalid because one of their inputs changed.
+     */
+    public long getInvalidations() {
+        return invalidations.get();
+    }
+
+    /**
+     * @return The number of values in this cache.
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    private static class Entry {
+
+        private IValue value;
+        private long[] inputVersions;
+        private long version;
+        private long tick;
+
+        private Entry(IValue value, @Nullable long[] inputVersions, long version, long tick) {
+            this.value = value;
+            this.inputVersions = inputVersions;
+            this.version = version;
+            this.tick = tick;
+        }
+    }
+
+}
@@ -1,10 +1,8 @@
 package org.cyclops.integrateddynamics.core.evaluate.operator;
 
 import net.minecraft.nbt.*;
-import org.cyclops.cyclopscore.helper.MinecraftHelpers;
 import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
 import org.cyclops.integrateddynamics.api.evaluate.operator.IOperator;
-import org.cyclops.integrateddynamics.api.evaluate.operator.IOperatorSerializer;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValueType;
 import org.cyclops.integrateddynamics.api.logicprogrammer.IConfigRenderPattern;
@@ -247,7 +245,7 @@ public class CombinedOperator extends OperatorBase {
         }
     }
 
-    public static abstract class ListOperatorSerializer<F extends IFunction> implements IOperatorSerializer<CombinedOperator> {
+    public static abstract class ListOperatorSerializer<F extends IFunction> implements IOperatorSerializerNbt<CombinedOperator> {
 
         private final String functionName;
         private final Class<? extends IFunction> functionClass;
@@ -269,30 +267,45 @@ public class CombinedOperator extends OperatorBase {
 
         @Override
         public String serialize(CombinedOperator operator) {
+            return serializeNbt(operator).toString();
+        }
+
+        @Override
+        public CombinedOperator deserialize(String valueOperator) throws EvaluationException {
+            NBTTagCompound tag;
+            try {
+                tag = JsonToNBT.getTagFromJson(valueOperator);
+            } catch (NBTException e) {
+                e.printStackTrace();
+                throw new EvaluationException(e.getMessage());
+            }
+            return deserializeNbt(tag);
+        }
+
+        @Override
+        public NBTTagCompound serializeNbt(CombinedOperator operator) {
             OperatorsFunction function = (OperatorsFunction) operator.getFunction();
             IOperator[] operators = function.getOperators();
             NBTTagCompound tag = new NBTTagCompound();
             NBTTagList list = new NBTTagList();
             for (IOperator functionOperator : operators) {
-                list.appendTag(new NBTTagString(Operators.REGISTRY.serialize(functionOperator)));
+                list.appendTag(Operators.REGISTRY.serializeNbt(functionOperator));
             }
             tag.setTag("operators", list);
-            return tag.toString();
+            return tag;
         }
 
         @Override
-        public CombinedOperator deserialize(String valueOperator) throws EvaluationException {
-            NBTTagList list;
-            try {
-                NBTTagCompound tag = JsonToNBT.getTagFromJson(valueOperator);
-                list = tag.getTagList("operators", MinecraftHelpers.NBTTag_Types.NBTTagString.ordinal());
-            } catch (NBTException e) {
-                e.printStackTrace();
-                throw new EvaluationException(e.getMessage());
+        public CombinedOperator deserializeNbt(NBTBase valueOperator) throws EvaluationException {
+            if (!(valueOperator instanceof NBTTagCompound)
+                    || !(((NBTTagCompound) valueOperator).getTag("operators") instanceof NBTTagList)) {
+                throw new EvaluationException(String.format("Could not deserialize the combined operator value '%s'.", valueOperator));
             }
+            // Operators that were serialized before NBT serialization existed are string tags.
+            NBTTagList list = (NBTTagList) ((NBTTagCompound) valueOperator).getTag("operators");
             IOperator[] operators = new IOperator[list.tagCount()];
             for (int i = 0; i < list.tagCount(); i++) {
-                operators[i] = Objects.requireNonNull(Operators.REGISTRY.deserialize(list.getStringTagAt(i)));
+                operators[i] = Objects.requireNonNull(Operators.REGISTRY.deserializeNbt(list.get(i)));
             }
             return newFunction(operators);
         }
@@ -1,16 +1,17 @@
 package org.cyclops.integrateddynamics.core.evaluate.operator;
 
 import net.minecraft.nbt.JsonToNBT;
+import net.minecraft.nbt.NBTBase;
 import net.minecraft.nbt.NBTException;
 import net.minecraft.nbt.NBTTagCompound;
 import org.cyclops.cyclopscore.helper.L10NHelpers;
 import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
 import org.cyclops.integrateddynamics.api.evaluate.operator.IOperator;
-import org.cyclops.integrateddynamics.api.evaluate.operator.IOperatorSerializer;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValueType;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IVariable;
 import org.cyclops.integrateddynamics.api.logicprogrammer.IConfigRenderPattern;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueHelpers;
 import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypes;
 import org.cyclops.integrateddynamics.core.evaluate.variable.Variable;
 import org.cyclops.integrateddynamics.core.helper.L10NValues;
@@ -33,6 +34,14 @@ public class CurriedOperator implements IOperator {
         this.appliedVariable = appliedVariable;
     }
 
+    public IOperator getBaseOperator() {
+        return baseOperator;
+    }
+
+    public IVariable getAppliedVariable() {
+        return appliedVariable;
+    }
+
     protected String getAppliedSymbol() {
         return appliedVariable.getType().getTypeName();
     }
@@ -129,7 +138,7 @@ public class CurriedOperator implements IOperator {
         return new CurriedOperator(baseOperator, new Variable(appliedVariable.getType(), appliedVariable.getValue()));
     }
 
-    public static class Serializer implements IOperatorSerializer<CurriedOperator> {
+    public static class Serializer implements IOperatorSerializerNbt<CurriedOperator> {
 
         @Override
         public boolean canHandle(IOperator operator) {
@@ -143,6 +152,23 @@ public class CurriedOperator implements IOperator {
 
         @Override
         public String serialize(CurriedOperator operator) {
+            return serializeNbt(operator).toString();
+        }
+
+        @Override
+        public CurriedOperator deserialize(String valueOperator) throws EvaluationException {
+            NBTTagCompound tag;
+            try {
+                tag = JsonToNBT.getTagFromJson(valueOperator);
+            } catch (NBTException e) {
+                e.printStackTrace();
+                throw new EvaluationException(e.getMessage());
+            }
+            return deserializeNbt(tag);
+        }
+
+        @Override
+        public NBTTagCompound serializeNbt(CurriedOperator operator) {
             IValue value;
             try {
                 value = operator.appliedVariable.getValue();
@@ -152,23 +178,21 @@ public class CurriedOperator implements IOperator {
             IValueType valueType = value.getType();
             NBTTagCompound tag = new NBTTagCompound();
             tag.setString("valueType", valueType.getUnlocalizedName());
-            tag.setString("value", valueType.serialize(value));
-            tag.setString("baseOperator", Operators.REGISTRY.serialize(operator.baseOperator));
-            return tag.toString();
+            tag.setTag("value", ValueHelpers.serializeNbt(valueType, value));
+            tag.setTag("baseOperator", Operators.REGISTRY.serializeNbt(operator.baseOperator));
+            return tag;
         }
 
         @Override
-        public CurriedOperator deserialize(String valueOperator) throws EvaluationException {
-            NBTTagCompound tag;
-            try {
-                tag = JsonToNBT.getTagFromJson(valueOperator);
-            } catch (NBTException e) {
-                e.printStackTrace();
-                throw new EvaluationException(e.getMessage());
+        public CurriedOperator deserializeNbt(NBTBase valueOperator) throws EvaluationException {
+            if (!(valueOperator instanceof NBTTagCompound)) {
+                throw new EvaluationException(String.format("Could not deserialize the curried operator value '%s'.", valueOperator));
             }
+            // Values and operators that were serialized before NBT serialization existed are string tags.
+            NBTTagCompound tag = (NBTTagCompound) valueOperator;
             IValueType valueType = ValueTypes.REGISTRY.getValueType(tag.getString("valueType"));
-            IValue value = valueType.deserialize(tag.getString("value"));
-            IOperator baseOperator = Objects.requireNonNull(Operators.REGISTRY.deserialize(tag.getString("baseOperator")));
+            IValue value = ValueHelpers.deserializeNbt(valueType, tag.getTag("value"));
+            IOperator baseOperator = Objects.requireNonNull(Operators.REGISTRY.deserializeNbt(tag.getTag("baseOperator")));
             return new CurriedOperator(baseOperator, new Variable(valueType, value));
         }
     }
@@ -0,0 +1,31 @@
+package org.cyclops.integrateddynamics.core.evaluate.operator;
+
+import net.minecraft.nbt.NBTBase;
+import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
+import org.cyclops.integrateddynamics.api.evaluate.operator.IOperator;
+import org.cyclops.integrateddynamics.api.evaluate.operator.IOperatorSerializer;
+
+/**
+ * An operator serializer that can serialize operators directly to NBT.
+ * Operators of serializers that do not implement this are stored as string tags by the {@link OperatorRegistry}.
+ * @param <O> The operator type
+ * @author rubensworks
+ */
+public interface IOperatorSerializerNbt<O extends IOperator> extends IOperatorSerializer<O> {
+
+    /**
+     * Serialize the given operator to NBT.
+     * @param operator The operator to serialize.
+     * @return The serialized operator value.
+     */
+    public NBTBase serializeNbt(O operator);
+
+    /**
+     * Deserialize the given NBT operator value.
+     * @param value The operator value to deserialize, as created by {@link #serializeNbt(IOperator)}.
+     * @return The deserialized operator, null if deserialization failed.
+     * @throws EvaluationException If something goes wrong while deserializing
+     */
+    public O deserializeNbt(NBTBase value) throws EvaluationException;
+
+}
@@ -9,6 +9,7 @@ import org.cyclops.integrateddynamics.api.evaluate.variable.IValueType;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IVariable;
 import org.cyclops.integrateddynamics.api.logicprogrammer.IConfigRenderPattern;
 import org.cyclops.integrateddynamics.core.evaluate.variable.ValueHelpers;
+import org.cyclops.integrateddynamics.core.evaluate.variable.Variable;
 import org.cyclops.integrateddynamics.core.helper.L10NValues;
 
 import java.util.Arrays;
@@ -205,6 +206,37 @@ public abstract class OperatorBase implements IOperator {
                 super(Arrays.copyOfRange(variables, start, variables.length));
             }
         }
+
+        /**
+         * A getter for values that have already been evaluated.
+         * Variables are only created when they are explicitly requested.
+         */
+        public static class Values extends SafeVariablesGetter {
+
+            private final IValue[] values;
+            private IVariable[] variables = null;
+
+            public Values(IValue... values) {
+                super();
+                this.values = values;
+            }
+
+            @Override
+            public <V extends IValue> V getValue(int i) throws EvaluationException {
+                return (V) values[i];
+            }
+
+            @Override
+            public IVariable[] getVariables() {
+                if (variables == null) {
+                    variables = new IVariable[values.length];
+                    for (int i = 0; i < values.length; i++) {
+                        variables[i] = new Variable<>(values[i].getType(), values[i]);
+                    }
+                }
+                return variables;
+            }
+        }
     }
 
     public static interface IFunction {
@@ -0,0 +1,256 @@
+package org.cyclops.integrateddynamics.core.evaluate.operator;
+
+import org.cyclops.cyclopscore.helper.L10NHelpers;
+import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
+import org.cyclops.integrateddynamics.api.evaluate.operator.IOperator;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValueType;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IVariable;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueHelpers;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypeBoolean;
+
+/**
+ * Compiles operators into functions for a fixed set of input types.
+ *
+ * The input types are validated once at compile time,
+ * so the resulting functions skip the type validation and variable wrapping
+ * that {@link IOperator#evaluate(IVariable[])} does on every call.
+ * Pipes, flips, conjunctions, disjunctions, negations and curried operators are compiled recursively.
+ *
+ * Operators with inputs of which the type is only known at runtime,
+ * such as categories, fall back to the interpreted evaluation.
+ * @author rubensworks
+ */
+public final class OperatorCompiler {
+
+    private OperatorCompiler() {
+
+    }
+
+    /**
+     * Compile the given operator.
+     * @param operator The operator.
+     * @param inputTypes The types of the inputs the function will be called with.
+     * @return A function that has the same result as evaluating the operator for inputs of the given types.
+     */
+    public static OperatorBase.IFunction compile(IOperator operator, IValueType[] inputTypes) {
+        if (!isStatic(inputTypes) || operator.validateTypes(inputTypes) != null) {
+            return new Interpreted(operator);
+        }
+        if (operator instanceof CurriedOperator) {
+            return compileCurried((CurriedOperator) operator, inputTypes);
+        }
+        if (operator instanceof CombinedOperator) {
+            OperatorBase.IFunction function = ((CombinedOperator) operator).getFunction();
+            if (function instanceof CombinedOperator.Pipe) {
+                return compilePipe(((CombinedOperator.Pipe) function).getOperators(), inputTypes[0]);
+            }
+            if (function instanceof CombinedOperator.Flip) {
+                return compileFlip(((CombinedOperator.Flip) function).getOperators()[0], inputTypes);
+            }
+            if (function instanceof CombinedOperator.Conjunction) {
+                return new Conjunction(compileAll(((CombinedOperator.Conjunction) function).getOperators(), inputTypes[0]), true);
+            }
+            if (function instanceof CombinedOperator.Disjunction) {
+                return new Conjunction(compileAll(((CombinedOperator.Disjunction) function).getOperators(), inputTypes[0]), false);
+            }
+            if (function instanceof CombinedOperator.Negation) {
+                return new Negation(compile(((CombinedOperator.Negation) function).getOperators()[0], new IValueType[]{inputTypes[0]}));
+            }
+        }
+        if (operator instanceof OperatorBase) {
+            return new Validated((OperatorBase) operator);
+        }
+        return new Interpreted(operator);
+    }
+
+    /**
+     * @param inputTypes Input types.
+     * @return If all types are concrete, which means the runtime values will be of exactly these types.
+     */
+    protected static boolean isStatic(IValueType[] inputTypes) {
+        for (IValueType inputType : inputTypes) {
+            if (inputType == null || inputType.isCategory()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    protected static OperatorBase.IFunction compileCurried(CurriedOperator operator, IValueType[] inputTypes) {
+        IOperator baseOperator = operator.getBaseOperator();
+        IVariable appliedVariable = operator.getAppliedVariable();
+        IValueType[] fullInputTypes = new IValueType[Math.min(baseOperator.getRequiredInputLength(), inputTypes.length + 1)];
+        fullInputTypes[0] = appliedVariable.getType();
+        System.arraycopy(inputTypes, 0, fullInputTypes, 1, fullInputTypes.length - 1);
+        return new Curried(appliedVariable, fullInputTypes.length, compile(baseOperator, fullInputTypes));
+    }
+
+    protected static OperatorBase.IFunction compilePipe(IOperator[] operators, IValueType inputType) {
+        OperatorBase.IFunction[] stages = new OperatorBase.IFunction[operators.length];
+        IValueType valueType = inputType;
+        for (int i = 0; i < operators.length; i++) {
+            stages[i] = compile(operators[i], new IValueType[]{valueType});
+            valueType = operators[i].getOutputType();
+        }
+        return new Pipe(stages);
+    }
+
+    protected static OperatorBase.IFunction compileFlip(IOperator operator, IValueType[] inputTypes) {
+        IValueType[] flippedInputTypes = new IValueType[inputTypes.length];
+        for (int i = 0; i < inputTypes.length; i++) {
+            flippedInputTypes[inputTypes.length - i - 1] = inputTypes[i];
+        }
+        return new Flip(compile(operator, flippedInputTypes));
+    }
+
+    protected static OperatorBase.IFunction[] compileAll(IOperator[] operators, IValueType inputType) {
+        OperatorBase.IFunction[] functions = new OperatorBase.IFunction[operators.length];
+        for (int i = 0; i < operators.length; i++) {
+            functions[i] = compile(operators[i], new IValueType[]{inputType});
+        }
+        return functions;
+    }
+
+    /**
+     * Evaluates an operator with the regular runtime type validation.
+     */
+    public static class Interpreted implements OperatorBase.IFunction {
+
+        private final IOperator operator;
+
+        public Interpreted(IOperator operator) {
+            this.operator = operator;
+        }
+
+        @Override
+        public IValue evaluate(OperatorBase.SafeVariablesGetter variables) throws EvaluationException {
+            return operator.evaluate(variables.getVariables());
+        }
+    }
+
+    /**
+     * Directly calls the function of an operator of which the input types were validated at compile time.
+     * If a value unexpectedly has a different type at runtime,
+     * the types are validated again so that the regular validation error is thrown.
+     */
+    public static class Validated implements OperatorBase.IFunction {
+
+        private final OperatorBase operator;
+        private final OperatorBase.IFunction function;
+
+        public Validated(OperatorBase operator) {
+            this.operator = operator;
+            this.function = operator.getFunction();
+        }
+
+        @Override
+        public IValue evaluate(OperatorBase.SafeVariablesGetter variables) throws EvaluationException {
+            try {
+                return function.evaluate(variables);
+            } catch (ClassCastException e) {
+                L10NHelpers.UnlocalizedString error = operator.validateTypes(ValueHelpers.from(variables.getVariables()));
+                throw new EvaluationException(error != null ? error.localize() : e.getMessage());
+            }
+        }
+    }
+
+    public static class Curried implements OperatorBase.IFunction {
+
+        private final IVariable appliedVariable;
+        private final int inputLength;
+        private final OperatorBase.IFunction function;
+
+        public Curried(IVariable appliedVariable, int inputLength, OperatorBase.IFunction function) {
+            this.appliedVariable = appliedVariable;
+            this.inputLength = inputLength;
+            this.function = function;
+        }
+
+        @Override
+        public IValue evaluate(OperatorBase.SafeVariablesGetter variables) throws EvaluationException {
+            IVariable[] fullInput = new IVariable[inputLength];
+            fullInput[0] = appliedVariable;
+            System.arraycopy(variables.getVariables(), 0, fullInput, 1, inputLength - 1);
+            return function.evaluate(new OperatorBase.SafeVariablesGetter(fullInput));
+        }
+    }
+
+    public static class Pipe implements OperatorBase.IFunction {
+
+        private final OperatorBase.IFunction[] stages;
+
+        public Pipe(OperatorBase.IFunction[] stages) {
+            this.stages = stages;
+        }
+
+        @Override
+        public IValue evaluate(OperatorBase.SafeVariablesGetter variables) throws EvaluationException {
+            IValue value = variables.getValue(0);
+            for (OperatorBase.IFunction stage : stages) {
+                value = stage.evaluate(new OperatorBase.SafeVariablesGetter.Values(value));
+            }
+            return value;
+        }
+    }
+
+    public static class Flip implements OperatorBase.IFunction {
+
+        private final OperatorBase.IFunction function;
+
+        public Flip(OperatorBase.IFunction function) {
+            this.function = function;
+        }
+
+        @Override
+        public IValue evaluate(OperatorBase.SafeVariablesGetter variables) throws EvaluationException {
+            IVariable[] input = variables.getVariables();
+            IVariable[] flipped = new IVariable[input.length];
+            for (int i = 0; i < input.length; i++) {
+                flipped[input.length - i - 1] = input[i];
+            }
+            return function.evaluate(new OperatorBase.SafeVariablesGetter(flipped));
+        }
+    }
+
+    /**
+     * A short-circuiting conjunction or disjunction of predicates.
+     */
+    public static class Conjunction implements OperatorBase.IFunction {
+
+        private final OperatorBase.IFunction[] predicates;
+        private final boolean conjunction;
+
+        public Conjunction(OperatorBase.IFunction[] predicates, boolean conjunction) {
+            this.predicates = predicates;
+            this.conjunction = conjunction;
+        }
+
+        @Override
+        public IValue evaluate(OperatorBase.SafeVariablesGetter variables) throws EvaluationException {
+            OperatorBase.SafeVariablesGetter input = new OperatorBase.SafeVariablesGetter.Values(variables.getValue(0));
+            for (OperatorBase.IFunction predicate : predicates) {
+                if (((ValueTypeBoolean.ValueBoolean) predicate.evaluate(input)).getRawValue() != conjunction) {
+                    return ValueTypeBoolean.ValueBoolean.of(!conjunction);
+                }
+            }
+            return ValueTypeBoolean.ValueBoolean.of(conjunction);
+        }
+    }
+
+    public static class Negation implements OperatorBase.IFunction {
+
+        private final OperatorBase.IFunction predicate;
+
+        public Negation(OperatorBase.IFunction predicate) {
+            this.predicate = predicate;
+        }
+
+        @Override
+        public IValue evaluate(OperatorBase.SafeVariablesGetter variables) throws EvaluationException {
+            IValue result = predicate.evaluate(new OperatorBase.SafeVariablesGetter.Values(variables.getValue(0)));
+            return ValueTypeBoolean.ValueBoolean.of(!((ValueTypeBoolean.ValueBoolean) result).getRawValue());
+        }
+    }
+
+}
@@ -1,7 +1,9 @@
 package org.cyclops.integrateddynamics.core.evaluate.operator;
 
 import com.google.common.collect.*;
+import net.minecraft.nbt.NBTBase;
 import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.nbt.NBTTagString;
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.cyclops.cyclopscore.helper.MinecraftHelpers;
@@ -35,6 +37,7 @@ public class OperatorRegistry implements IOperatorRegistry {
     private final Multimap<IValueType, IOperator> outputTypedOperators = HashMultimap.create();
     private final List<IOperatorSerializer> serializers = Lists.newArrayList();
     private final Map<String, IOperatorSerializer> namedSerializers = Maps.newHashMap();
+    private final Map<Class<? extends IOperator>, List<IOperatorSerializer>> classSerializers = Maps.newConcurrentMap();
     private final IOperatorSerializer DEFAULT_SERIALIZER = new OperatorSerializerDefault();
 
     private OperatorRegistry() {
@@ -83,15 +86,49 @@ public class OperatorRegistry implements IOperatorRegistry {
     public void registerSerializer(IOperatorSerializer serializer) {
         serializers.add(serializer);
         namedSerializers.put(serializer.getUniqueName(), serializer);
+        classSerializers.clear();
     }
 
-    @Override
-    public String serialize(IOperator value) {
+    /**
+     * Find the serializer for the given operator.
+     * The serializers that have handled operators of the same class before are tried first,
+     * and classes that no serializer can handle are remembered,
+     * so that only the first operator of a class has to be tested against all serializers.
+     * @param operator The operator.
+     * @return The serializer, or null if the default serializer must be used.
+     */
+    protected IOperatorSerializer getSerializer(IOperator operator) {
+        Class<? extends IOperator> operatorClass = operator.getClass();
+        List<IOperatorSerializer> classCandidates = classSerializers.get(operatorClass);
+        if (classCandidates != null) {
+            if (classCandidates.isEmpty()) {
+                return null;
+            }
+            for (IOperatorSerializer serializer : classCandidates) {
+                if (serializer.canHandle(operator)) {
+                    return serializer;
+                }
+            }
+        }
         for (IOperatorSerializer serializer : serializers) {
-            if (serializer.canHandle(value)) {
-                return serializer.getUniqueName() + ":" + serializer.serialize(value);
+            if (serializer.canHandle(operator)) {
+                classSerializers.put(operatorClass, classCandidates == null ? ImmutableList.of(serializer)
+                        : ImmutableList.<IOperatorSerializer>builder().addAll(classCandidates).add(serializer).build());
+                return serializer;
             }
         }
+        if (classCandidates == null) {
+            classSerializers.put(operatorClass, ImmutableList.<IOperatorSerializer>of());
+        }
+        return null;
+    }
+
+    @Override
+    public String serialize(IOperator value) {
+        IOperatorSerializer serializer = getSerializer(value);
+        if (serializer != null) {
+            return serializer.getUniqueName() + ":" + serializer.serialize(value);
+        }
         return DEFAULT_SERIALIZER.serialize(value);
     }
 
@@ -110,6 +147,71 @@ public class OperatorRegistry implements IOperatorRegistry {
         return DEFAULT_SERIALIZER.deserialize(value);
     }
 
+    @Override
+    public NBTTagCompound serializeNbt(IOperator value) {
+        NBTTagCompound tag = new NBTTagCompound();
+        IOperatorSerializer serializer = getSerializer(value);
+        if (serializer != null) {
+            tag.setString("serializer", serializer.getUniqueName());
+        } else {
+            serializer = DEFAULT_SERIALIZER;
+        }
+        tag.setTag("value", serializeNbt(serializer, value));
+        return tag;
+    }
+
+    /**
+     * Serialize the given operator to NBT with the given serializer.
+     * Serializers that do not implement {@link IOperatorSerializerNbt} store the operator as a string tag.
+     * @param serializer The serializer.
+     * @param value The operator to serialize.
+     * @return The serialized operator value.
+     */
+    @SuppressWarnings("unchecked")
+    protected static NBTBase serializeNbt(IOperatorSerializer serializer, IOperator value) {
+        if (serializer instanceof IOperatorSerializerNbt) {
+            return ((IOperatorSerializerNbt) serializer).serializeNbt(value);
+        }
+        return new NBTTagString(serializer.serialize(value));
+    }
+
+    /**
+     * Deserialize the given NBT operator value with the given serializer.
+     * Serializers that do not implement {@link IOperatorSerializerNbt} read the operator from a string tag.
+     * @param serializer The serializer.
+     * @param value The operator value to deserialize.
+     * @return The deserialized operator.
+     * @throws EvaluationException If something goes wrong while deserializing.
+     */
+    protected static IOperator deserializeNbt(IOperatorSerializer serializer, NBTBase value) throws EvaluationException {
+        if (serializer instanceof IOperatorSerializerNbt) {
+            return ((IOperatorSerializerNbt) serializer).deserializeNbt(value);
+        }
+        if (value instanceof NBTTagString) {
+            return serializer.deserialize(((NBTTagString) value).getString());
+        }
+        throw new EvaluationException(String.format("Could not deserialize the operator value '%s'", value));
+    }
+
+    @Override
+    public IOperator deserializeNbt(NBTBase value) throws EvaluationException {
+        if (value instanceof NBTTagString) {
+            return deserialize(((NBTTagString) value).getString());
+        }
+        if (!(value instanceof NBTTagCompound) || !((NBTTagCompound) value).hasKey("value")) {
+            throw new EvaluationException(String.format("Could not deserialize the operator value '%s'", value));
+        }
+        NBTTagCompound tag = (NBTTagCompound) value;
+        IOperatorSerializer serializer = DEFAULT_SERIALIZER;
+        if (tag.hasKey("serializer")) {
+            serializer = namedSerializers.get(tag.getString("serializer"));
+            if (serializer == null) {
+                throw new EvaluationException(String.format("No serializer was found to deserialize the operator value '%s'", value));
+            }
+        }
+        return deserializeNbt(serializer, tag.getTag("value"));
+    }
+
     @Override
     public String getTypeId() {
         return "operator";
@@ -117,13 +219,13 @@ public class OperatorRegistry implements IOperatorRegistry {
 
     @Override
     public IOperatorVariableFacade getVariableFacade(int id, NBTTagCompound tag) {
-        if(!tag.hasKey("operatorName", MinecraftHelpers.NBTTag_Types.NBTTagString.ordinal())
+        if(!tag.hasKey("operatorName")
                 || !tag.hasKey("variableIds", MinecraftHelpers.NBTTag_Types.NBTTagIntArray.ordinal())) {
             return INVALID_FACADE;
         }
         IOperator operator;
         try {
-            operator = deserialize(tag.getString("operatorName"));
+            operator = deserializeNbt(tag.getTag("operatorName"));
         } catch (EvaluationException e) {
             return INVALID_FACADE;
         }
@@ -136,7 +238,7 @@ public class OperatorRegistry implements IOperatorRegistry {
 
     @Override
     public void setVariableFacade(NBTTagCompound tag, IOperatorVariableFacade variableFacade) {
-        tag.setString("operatorName", serialize(variableFacade.getOperator()));
+        tag.setTag("operatorName", serializeNbt(variableFacade.getOperator()));
         tag.setIntArray("variableIds", variableFacade.getVariableIds());
     }
 }
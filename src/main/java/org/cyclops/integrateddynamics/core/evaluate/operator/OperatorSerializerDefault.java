@@ -1,13 +1,14 @@
 package org.cyclops.integrateddynamics.core.evaluate.operator;
 
+import net.minecraft.nbt.NBTBase;
+import net.minecraft.nbt.NBTTagString;
 import org.cyclops.integrateddynamics.api.evaluate.operator.IOperator;
-import org.cyclops.integrateddynamics.api.evaluate.operator.IOperatorSerializer;
 
 /**
  * The default serializer for operators.
  * @author rubensworks
  */
-public class OperatorSerializerDefault implements IOperatorSerializer<IOperator> {
+public class OperatorSerializerDefault implements IOperatorSerializerNbt<IOperator> {
 
     @Override
     public boolean canHandle(IOperator operator) {
@@ -32,4 +33,14 @@ public class OperatorSerializerDefault implements IOperatorSerializer<IOperator>
         }
         return null;
     }
+
+    @Override
+    public NBTBase serializeNbt(IOperator operator) {
+        return new NBTTagString(operator.getUniqueName());
+    }
+
+    @Override
+    public IOperator deserializeNbt(NBTBase value) {
+        return value instanceof NBTTagString ? deserialize(((NBTTagString) value).getString()) : null;
+    }
 }
@@ -623,12 +623,7 @@ public final class Operators {
                 public IValue evaluate(OperatorBase.SafeVariablesGetter variables) throws EvaluationException {
                     IValueTypeListProxy<IValueType<IValue>, IValue> list = ((ValueTypeList.ValueList) variables.getValue(0)).getRawValue();
                     IValue input = variables.getValue(1);
-                    for (IValue value : list) {
-                        if (value.equals(input)) {
-                            return ValueTypeBoolean.ValueBoolean.of(true);
-                        }
-                    }
-                    return ValueTypeBoolean.ValueBoolean.of(false);
+                    return ValueTypeBoolean.ValueBoolean.of(ValueTypeListProxyPipeline.of(list).contains(input));
                 }
             }).build());
 
@@ -644,13 +639,7 @@ public final class Operators {
                 public IValue evaluate(OperatorBase.SafeVariablesGetter variables) throws EvaluationException {
                     IValueTypeListProxy<IValueType<IValue>, IValue> list = ((ValueTypeList.ValueList) variables.getValue(0)).getRawValue();
                     IOperator operator = OperatorBuilders.getSafePredictate((ValueTypeOperator.ValueOperator) variables.getValue(1));
-                    for (IValue value : list) {
-                        IValue result = operator.evaluate(new IVariable[]{new Variable<>(value.getType(), value)});
-                        if (((ValueTypeBoolean.ValueBoolean) result).getRawValue()) {
-                            return ValueTypeBoolean.ValueBoolean.of(true);
-                        }
-                    }
-                    return ValueTypeBoolean.ValueBoolean.of(false);
+                    return ValueTypeBoolean.ValueBoolean.of(ValueTypeListProxyPipeline.of(list).anyMatch(operator));
                 }
             }).build());
 
@@ -666,13 +655,7 @@ public final class Operators {
                 public IValue evaluate(OperatorBase.SafeVariablesGetter variables) throws EvaluationException {
                     IValueTypeListProxy<IValueType<IValue>, IValue> list = ((ValueTypeList.ValueList) variables.getValue(0)).getRawValue();
                     IValue value = variables.getValue(1);
-                    int count = 0;
-                    for (IValue listValue : list) {
-                        if (listValue.equals(value)) {
-                            count++;
-                        }
-                    }
-                    return ValueTypeInteger.ValueInteger.of(count);
+                    return ValueTypeInteger.ValueInteger.of(ValueTypeListProxyPipeline.of(list).count(value));
                 }
             }).build());
 
@@ -688,14 +671,7 @@ public final class Operators {
                 public IValue evaluate(OperatorBase.SafeVariablesGetter variables) throws EvaluationException {
                     IValueTypeListProxy<IValueType<IValue>, IValue> list = ((ValueTypeList.ValueList) variables.getValue(0)).getRawValue();
                     IOperator operator = OperatorBuilders.getSafePredictate((ValueTypeOperator.ValueOperator) variables.getValue(1));
-                    int count = 0;
-                    for (IValue listValue : list) {
-                        IValue result = operator.evaluate(new IVariable[]{new Variable<>(listValue.getType(), listValue)});
-                        if (((ValueTypeBoolean.ValueBoolean) result).getRawValue()) {
-                            count++;
-                        }
-                    }
-                    return ValueTypeInteger.ValueInteger.of(count);
+                    return ValueTypeInteger.ValueInteger.of(ValueTypeListProxyPipeline.of(list).count(operator));
                 }
             }).build());
 
@@ -1892,7 +1868,7 @@ public final class Operators {
                             OperatorBase.SafeVariablesGetter variables = input.getRight();
                             ValueTypeList.ValueList inputList = variables.getValue(0);
                             return ValueTypeList.ValueList.ofFactory(
-                                    new ValueTypeListProxyOperatorMapped(innerOperator, inputList.getRawValue()));
+                                    ValueTypeListProxyPipeline.of(inputList.getRawValue()).map(innerOperator));
                         }
                     })).build());
 
@@ -1909,21 +1885,16 @@ public final class Operators {
                             final IOperator innerOperator = input.getLeft();
                             OperatorBase.SafeVariablesGetter variables = input.getRight();
                             ValueTypeList.ValueList<?, ?> inputList = variables.getValue(0);
-                            List<IValue> filtered = Lists.newArrayList();
-                            for (IValue value : inputList.getRawValue()) {
-                                IValue result = ValueHelpers.evaluateOperator(innerOperator, value);
-                                if (result.getType() != ValueTypes.BOOLEAN) {
-                                    L10NHelpers.UnlocalizedString error = new L10NHelpers.UnlocalizedString(
-                                            L10NValues.VALUETYPE_ERROR_WRONGPREDICATE,
-                                            OPERATOR_FILTER.getLocalizedNameFull(),
-                                            result.getType(), ValueTypes.BOOLEAN);
-                                    throw new EvaluationException(error.localize());
-                                } else if (((ValueTypeBoolean.ValueBoolean) result).getRawValue()) {
-                                    filtered.add(value);
-                                }
+                            IValueType outputType = innerOperator.getOutputType();
+                            if (outputType != ValueTypes.BOOLEAN && !outputType.isCategory()) {
+                                L10NHelpers.UnlocalizedString error = new L10NHelpers.UnlocalizedString(
+                                        L10NValues.VALUETYPE_ERROR_WRONGPREDICATE,
+                                        OPERATOR_FILTER.getLocalizedNameFull(),
+                                        outputType, ValueTypes.BOOLEAN);
+                                throw new EvaluationException(error.localize());
                             }
-                            IValueType valueType = inputList.getRawValue().getValueType();
-                            return ValueTypeList.ValueList.ofList(valueType, filtered);
+                            return ValueTypeList.ValueList.ofFactory(
+                                    ValueTypeListProxyPipeline.of(inputList.getRawValue()).filter(innerOperator));
                         }
                     })).build());
 
@@ -2027,12 +1998,7 @@ public final class Operators {
                     final IOperator innerOperator = OperatorBuilders.getSafeOperator((ValueTypeOperator.ValueOperator)
                             variables.getValue(0), accumulator.getType());
                     ValueTypeList.ValueList<IValueType<IValue>, IValue> inputList = variables.getValue(1);
-                    for (IValue listValue : inputList.getRawValue()) {
-                        accumulator = innerOperator.evaluate(new IVariable[]{
-                                new Variable<>(accumulator.getType(), accumulator),
-                                new Variable<>(listValue.getType(), listValue)});
-                    }
-                    return accumulator;
+                    return ValueTypeListProxyPipeline.of(inputList.getRawValue()).reduce(innerOperator, accumulator);
                 }
             }).build());
 
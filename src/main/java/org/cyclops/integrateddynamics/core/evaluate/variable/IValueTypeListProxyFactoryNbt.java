@@ -0,0 +1,37 @@
+package org.cyclops.integrateddynamics.core.evaluate.variable;
+
+import net.minecraft.nbt.NBTBase;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValueType;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValueTypeListProxy;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValueTypeListProxyFactoryTypeRegistry;
+
+/**
+ * A list proxy factory that can serialize its proxies directly to NBT.
+ * Proxies of factories that do not implement this are stored as string tags
+ * by the {@link ValueTypeListProxyFactoryTypeRegistry}.
+ * @param <T> The list element type value type.
+ * @param <V> The list element type.
+ * @param <P> The proxy type.
+ * @author rubensworks
+ */
+public interface IValueTypeListProxyFactoryNbt<T extends IValueType<V>, V extends IValue, P extends IValueTypeListProxy<T, V>>
+        extends IValueTypeListProxyFactoryTypeRegistry.IProxyFactory<T, V, P> {
+
+    /**
+     * Serialize the given value to NBT.
+     * @param value The value to serialize.
+     * @return The serialized value.
+     * @throws IValueTypeListProxyFactoryTypeRegistry.SerializationException If something goes wrong while serializing.
+     */
+    public NBTBase serializeNbt(P value) throws IValueTypeListProxyFactoryTypeRegistry.SerializationException;
+
+    /**
+     * Deserialize the given NBT value.
+     * @param value The value to deserialize, as created by {@link #serializeNbt(IValueTypeListProxy)}.
+     * @return The deserialized value.
+     * @throws IValueTypeListProxyFactoryTypeRegistry.SerializationException If something goes wrong while deserializing.
+     */
+    public P deserializeNbt(NBTBase value) throws IValueTypeListProxyFactoryTypeRegistry.SerializationException;
+
+}
@@ -0,0 +1,35 @@
+package org.cyclops.integrateddynamics.core.evaluate.variable;
+
+import net.minecraft.nbt.NBTBase;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValueType;
+
+/**
+ * A value type that can serialize its values directly to NBT.
+ * Value types that do not implement this are serialized as string tags,
+ * see {@link ValueHelpers#serializeNbt(IValue)} and {@link ValueHelpers#deserializeNbt(IValueType, NBTBase)}.
+ * @param <V> The value type.
+ * @author rubensworks
+ */
+public interface IValueTypeNbt<V extends IValue> extends IValueType<V> {
+
+    /**
+     * Serialize the given value to NBT.
+     * Unlike {@link #serialize(IValue)}, nested values are stored as NBT tags instead of escaped strings.
+     * The type of the returned tag must be the same for all values of this type.
+     * @param value The value to serialize.
+     * @return The serialized value.
+     */
+    public NBTBase serializeNbt(V value);
+
+    /**
+     * Deserialize the given NBT value.
+     * String tags are deserialized with {@link #deserialize(String)},
+     * so that values that were stored in the string format can still be read.
+     * @param value The value to deserialize.
+     * @return The deserialized value.
+     * @throws IllegalArgumentException If the value could not be deserialized.
+     */
+    public V deserializeNbt(NBTBase value);
+
+}
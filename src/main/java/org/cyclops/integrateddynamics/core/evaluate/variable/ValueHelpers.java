@@ -1,5 +1,7 @@
 package org.cyclops.integrateddynamics.core.evaluate.variable;
 
+import net.minecraft.nbt.NBTBase;
+import net.minecraft.nbt.NBTTagString;
 import org.cyclops.cyclopscore.helper.L10NHelpers;
 import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
 import org.cyclops.integrateddynamics.api.evaluate.operator.IOperator;
@@ -9,6 +11,7 @@ import org.cyclops.integrateddynamics.api.evaluate.variable.IVariable;
 import org.cyclops.integrateddynamics.api.item.IVariableFacade;
 
 import javax.annotation.Nullable;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * A collection of helpers for variables, values and value types.
@@ -16,6 +19,8 @@ import javax.annotation.Nullable;
  */
 public class ValueHelpers {
 
+    private static final AtomicLong VERSION_COUNTER = new AtomicLong();
+
     /**
      * Create a new value type array from the given variable array element-wise.
      * If a variable would be null, that corresponding value type would be null as well.
@@ -71,6 +76,31 @@ public class ValueHelpers {
         return v1 == null && v2 == null || (!(v1 == null || v2 == null) && v1.equals(v2));
     }
 
+    /**
+     * Check if a new value can be considered identical to a previous value,
+     * so that anything that was derived from the previous value is still valid.
+     * This is only the case for equal values of immutable value types,
+     * as other values, such as lists and objects, may be backed by live world data.
+     * @param previous The previous value, can be null.
+     * @param value The new value.
+     * @return If the value has not changed.
+     */
+    public static boolean isValueUnchanged(@Nullable IValue previous, IValue value) {
+        if (previous == null || value == null) {
+            return false;
+        }
+        IValueType type = value.getType();
+        return (type == ValueTypes.BOOLEAN || type == ValueTypes.INTEGER || type == ValueTypes.DOUBLE
+                || type == ValueTypes.LONG || type == ValueTypes.STRING) && previous.equals(value);
+    }
+
+    /**
+     * @return A new unique version for a {@link org.cyclops.integrateddynamics.api.evaluate.variable.IVariableVersioned}.
+     */
+    public static long createVersion() {
+        return VERSION_COUNTER.incrementAndGet();
+    }
+
     /**
      * Bidirectional checking of correspondence.
      * @param t1 First type.
@@ -97,4 +127,50 @@ public class ValueHelpers {
         return operator.evaluate(variables);
     }
 
+    /**
+     * Serialize the given value to NBT using its own value type.
+     * @param value The value to serialize.
+     * @return The serialized value.
+     */
+    @SuppressWarnings("unchecked")
+    public static NBTBase serializeNbt(IValue value) {
+        return serializeNbt((IValueType<IValue>) value.getType(), value);
+    }
+
+    /**
+     * Serialize the given value to NBT.
+     * Values of types that do not implement {@link IValueTypeNbt} are stored as a string tag.
+     * @param valueType The value type.
+     * @param value The value to serialize.
+     * @param <V> The value type.
+     * @return The serialized value.
+     */
+    @SuppressWarnings("unchecked")
+    public static <V extends IValue> NBTBase serializeNbt(IValueType<V> valueType, V value) {
+        if (valueType instanceof IValueTypeNbt) {
+            return ((IValueTypeNbt<V>) valueType).serializeNbt(value);
+        }
+        return new NBTTagString(valueType.serialize(value));
+    }
+
+    /**
+     * Deserialize the given NBT value.
+     * Values of types that do not implement {@link IValueTypeNbt} are read from a string tag.
+     * @param valueType The value type.
+     * @param value The value to deserialize.
+     * @param <V> The value type.
+     * @return The deserialized value.
+     * @throws IllegalArgumentException If the value could not be deserialized.
+     */
+    @SuppressWarnings("unchecked")
+    public static <V extends IValue> V deserializeNbt(IValueType<V> valueType, NBTBase value) {
+        if (valueType instanceof IValueTypeNbt) {
+            return ((IValueTypeNbt<V>) valueType).deserializeNbt(value);
+        }
+        if (value instanceof NBTTagString) {
+            return valueType.deserialize(((NBTTagString) value).getString());
+        }
+        throw new IllegalArgumentException(String.format("Value \"%s\" could not be deserialized to a %s.", value, valueType.getTypeName()));
+    }
+
 }
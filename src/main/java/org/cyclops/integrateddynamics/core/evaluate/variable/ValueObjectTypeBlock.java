@@ -87,6 +87,12 @@ public class ValueObjectTypeBlock extends ValueObjectTypeBase<ValueObjectTypeBlo
             Block blockB = b.getBlock();
             return blockA == blockB && blockA.getMetaFromState(a) == blockB.getMetaFromState(b);
         }
+
+        @Override
+        protected int getHashCode(IBlockState value) {
+            Block block = value.getBlock();
+            return 31 * block.hashCode() + block.getMetaFromState(value);
+        }
     }
 
 }
@@ -10,6 +10,7 @@ import net.minecraftforge.fml.common.FMLCommonHandler;
 import org.cyclops.cyclopscore.helper.MinecraftHelpers;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValueTypeNamed;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValueTypeNullable;
+import org.cyclops.integrateddynamics.core.network.ParallelEvaluation;
 
 /**
  * Value type with values that are itemstacks.
@@ -96,10 +97,22 @@ public class ValueObjectTypeEntity extends ValueObjectTypeBase<ValueObjectTypeEn
             return new ValueEntity(entity);
         }
 
+        @Override
+        public Optional<Entity> getRawValue() {
+            // The entity is part of the world.
+            ParallelEvaluation.checkWorldAccess();
+            return super.getRawValue();
+        }
+
         @Override
         protected boolean isEqual(Entity a, Entity b) {
             return a.getEntityId() == b.getEntityId();
         }
+
+        @Override
+        protected int getHashCode(Entity value) {
+            return value.getEntityId();
+        }
     }
 
 }
@@ -3,6 +3,7 @@ package org.cyclops.integrateddynamics.core.evaluate.variable;
 import com.google.common.base.Optional;
 import lombok.ToString;
 import net.minecraft.nbt.JsonToNBT;
+import net.minecraft.nbt.NBTBase;
 import net.minecraft.nbt.NBTException;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraftforge.fluids.FluidStack;
@@ -33,23 +34,35 @@ public class ValueObjectTypeFluidStack extends ValueObjectTypeBase<ValueObjectTy
 
     @Override
     public String serialize(ValueFluidStack value) {
-        NBTTagCompound tag = new NBTTagCompound();
-        Optional<FluidStack> fluidStack = value.getRawValue();
-        if(fluidStack.isPresent()) fluidStack.get().writeToNBT(tag);
-        return tag.toString();
+        return serializeNbt(value).toString();
     }
 
     @Override
     public ValueFluidStack deserialize(String value) {
         try {
-            NBTTagCompound tag = JsonToNBT.getTagFromJson(value);
-            FluidStack fluidStack = FluidStack.loadFluidStackFromNBT(tag);
-            return ValueFluidStack.of(fluidStack);
+            return deserializeNbt(JsonToNBT.getTagFromJson(value));
         } catch (NBTException e) {
             return null;
         }
     }
 
+    @Override
+    public NBTTagCompound serializeNbt(ValueFluidStack value) {
+        NBTTagCompound tag = new NBTTagCompound();
+        Optional<FluidStack> fluidStack = value.getRawValue();
+        if(fluidStack.isPresent()) fluidStack.get().writeToNBT(tag);
+        return tag;
+    }
+
+    @Override
+    public ValueFluidStack deserializeNbt(NBTBase value) {
+        if(value instanceof NBTTagCompound) {
+            FluidStack fluidStack = FluidStack.loadFluidStackFromNBT((NBTTagCompound) value);
+            return ValueFluidStack.of(fluidStack);
+        }
+        return super.deserializeNbt(value);
+    }
+
     @Override
     public String getName(ValueFluidStack a) {
         return toCompactString(a);
@@ -75,6 +88,11 @@ public class ValueObjectTypeFluidStack extends ValueObjectTypeBase<ValueObjectTy
         protected boolean isEqual(FluidStack a, FluidStack b) {
             return a.isFluidStackIdentical(b);
         }
+
+        @Override
+        protected int getHashCode(FluidStack value) {
+            return 31 * value.getFluid().hashCode() + value.amount;
+        }
     }
 
 }
@@ -4,12 +4,15 @@ import com.google.common.base.Optional;
 import lombok.ToString;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.JsonToNBT;
+import net.minecraft.nbt.NBTBase;
 import net.minecraft.nbt.NBTException;
 import net.minecraft.nbt.NBTTagCompound;
 import org.cyclops.cyclopscore.helper.ItemStackHelpers;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValueTypeNamed;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValueTypeNullable;
 
+import java.util.Objects;
+
 /**
  * Value type with values that are itemstacks.
  * @author rubensworks
@@ -34,27 +37,40 @@ public class ValueObjectTypeItemStack extends ValueObjectTypeBase<ValueObjectTyp
 
     @Override
     public String serialize(ValueItemStack value) {
+        return serializeNbt(value).toString();
+    }
+
+    @Override
+    public ValueItemStack deserialize(String value) {
+        try {
+            return deserializeNbt(JsonToNBT.getTagFromJson(value));
+        } catch (NBTException e) {
+            return null;
+        }
+    }
+
+    @Override
+    public NBTTagCompound serializeNbt(ValueItemStack value) {
         NBTTagCompound tag = new NBTTagCompound();
         Optional<ItemStack> itemStack = value.getRawValue();
         if(itemStack.isPresent()) {
             itemStack.get().writeToNBT(tag);
             tag.setInteger("Count", itemStack.get().stackSize);
         }
-        return tag.toString();
+        return tag;
     }
 
     @Override
-    public ValueItemStack deserialize(String value) {
-        try {
-            NBTTagCompound tag = JsonToNBT.getTagFromJson(value);
+    public ValueItemStack deserializeNbt(NBTBase value) {
+        if(value instanceof NBTTagCompound) {
+            NBTTagCompound tag = (NBTTagCompound) value;
             ItemStack itemStack = ItemStack.loadItemStackFromNBT(tag);
             if (itemStack != null) {
                 itemStack.stackSize = tag.getInteger("Count");
             }
             return ValueItemStack.of(itemStack);
-        } catch (NBTException e) {
-            return null;
         }
+        return super.deserializeNbt(value);
     }
 
     @Override
@@ -82,6 +98,12 @@ public class ValueObjectTypeItemStack extends ValueObjectTypeBase<ValueObjectTyp
         protected boolean isEqual(ItemStack a, ItemStack b) {
             return ItemStackHelpers.areItemStacksIdentical(a, b);
         }
+
+        @Override
+        protected int getHashCode(ItemStack value) {
+            // Only hash the cheap properties, identical stacks will always share these.
+            return Objects.hash(value.getItem(), value.getItemDamage());
+        }
     }
 
 }
@@ -36,6 +36,17 @@ public abstract class ValueOptionalBase<T> extends ValueBase {
         return false;
     }
 
+    @Override
+    public int hashCode() {
+        return getType().hashCode() + (getRawValue().isPresent() ? getHashCode(getRawValue().get()) : 0);
+    }
+
     protected abstract boolean isEqual(T a, T b);
 
+    /**
+     * @param value A raw value.
+     * @return A hash code that is equal for all raw values that are equal according to {@link #isEqual(Object, Object)}.
+     */
+    protected abstract int getHashCode(T value);
+
 }
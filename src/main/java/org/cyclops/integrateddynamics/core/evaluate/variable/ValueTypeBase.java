@@ -1,5 +1,7 @@
 package org.cyclops.integrateddynamics.core.evaluate.variable;
 
+import net.minecraft.nbt.NBTBase;
+import net.minecraft.nbt.NBTTagString;
 import net.minecraft.util.ResourceLocation;
 import net.minecraftforge.fml.relauncher.Side;
 import net.minecraftforge.fml.relauncher.SideOnly;
@@ -18,7 +20,7 @@ import java.util.List;
  * Base implementation of a value type.
  * @author rubensworks
  */
-public abstract class ValueTypeBase<V extends IValue> implements IValueType<V> {
+public abstract class ValueTypeBase<V extends IValue> implements IValueTypeNbt<V> {
 
     private final String typeName;
     private final int color;
@@ -103,6 +105,19 @@ public abstract class ValueTypeBase<V extends IValue> implements IValueType<V> {
         }
     }
 
+    @Override
+    public NBTBase serializeNbt(V value) {
+        return new NBTTagString(serialize(value));
+    }
+
+    @Override
+    public V deserializeNbt(NBTBase value) {
+        if(value instanceof NBTTagString) {
+            return deserialize(((NBTTagString) value).getString());
+        }
+        throw new IllegalArgumentException(String.format("Value \"%s\" could not be deserialized to a %s.", value, getTypeName()));
+    }
+
     @Override
     public V materialize(V value) throws EvaluationException {
         return value;
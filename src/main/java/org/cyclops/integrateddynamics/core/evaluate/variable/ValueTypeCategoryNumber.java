@@ -49,6 +49,19 @@ public class ValueTypeCategoryNumber extends ValueTypeCategoryBase<IValue> {
         return first;
     }
 
+    /**
+     * Two-argument variant of {@link #getLowestType(IValueTypeNumber...)} that does not allocate an array.
+     * @param a The first type.
+     * @param b The second type.
+     * @return The lowest type both types can be cast to.
+     */
+    public IValueTypeNumber getLowestType(IValueTypeNumber a, IValueTypeNumber b) {
+        if(a == b) {
+            return a;
+        }
+        return ELEMENTS[Math.max(INVERTED_ELEMENTS.get(a), INVERTED_ELEMENTS.get(b))];
+    }
+
     protected IValue castValue(IValueTypeNumber type, IValue value) throws IValueCastRegistry.ValueCastException {
         if(value.getType() == type) {
             return value;
@@ -61,8 +74,15 @@ public class ValueTypeCategoryNumber extends ValueTypeCategoryBase<IValue> {
         return ((IValueTypeNumber) v.getType());
     }
 
+    protected static int getInt(IVariable v) throws EvaluationException {
+        return ((ValueTypeInteger.ValueInteger) v.getValue()).getRawValue();
+    }
+
     public IValue add(IVariable a, IVariable b) throws EvaluationException {
         IValueTypeNumber type = getLowestType(getType(a), getType(b));
+        if (type == ValueTypes.INTEGER) {
+            return ValueTypeInteger.ValueInteger.of(getInt(a) + getInt(b));
+        }
         IValue av = castValue(type, a.getValue());
         if (type.isZero(av)) { // If a is neutral element for addition
             return castValue(type, b.getValue());
@@ -78,6 +98,9 @@ public class ValueTypeCategoryNumber extends ValueTypeCategoryBase<IValue> {
 
     public IValue subtract(IVariable a, IVariable b) throws EvaluationException {
         IValueTypeNumber type = getLowestType(getType(a), getType(b));
+        if (type == ValueTypes.INTEGER) {
+            return ValueTypeInteger.ValueInteger.of(getInt(a) - getInt(b));
+        }
         IValue bv = castValue(type, b.getValue());
         if (type.isZero(bv)) { // If b is neutral element for subtraction
             return castValue(type, a.getValue());
@@ -89,6 +112,13 @@ public class ValueTypeCategoryNumber extends ValueTypeCategoryBase<IValue> {
 
     public IValue multiply(IVariable a, IVariable b) throws EvaluationException {
         IValueTypeNumber type = getLowestType(getType(a), getType(b));
+        if (type == ValueTypes.INTEGER) {
+            int av = getInt(a);
+            if (av == 0) { // If a is absorbtion element for multiplication
+                return a.getValue();
+            }
+            return ValueTypeInteger.ValueInteger.of(av * getInt(b));
+        }
         IValue av = castValue(type, a.getValue());
         if (type.isZero(av)) { // If a is absorbtion element for multiplication
             return av;
@@ -135,6 +165,9 @@ public class ValueTypeCategoryNumber extends ValueTypeCategoryBase<IValue> {
 
     public boolean greaterThan(IVariable a, IVariable b) throws EvaluationException {
         IValueTypeNumber type = getLowestType(getType(a), getType(b));
+        if (type == ValueTypes.INTEGER) {
+            return getInt(a) > getInt(b);
+        }
         return type.greaterThan(
                 castValue(type, a.getValue()),
                 castValue(type, b.getValue())
@@ -143,6 +176,9 @@ public class ValueTypeCategoryNumber extends ValueTypeCategoryBase<IValue> {
 
     public boolean lessThan(IVariable a, IVariable b) throws EvaluationException {
         IValueTypeNumber type = getLowestType(getType(a), getType(b));
+        if (type == ValueTypes.INTEGER) {
+            return getInt(a) < getInt(b);
+        }
         return type.lessThan(
                 castValue(type, a.getValue()),
                 castValue(type, b.getValue())
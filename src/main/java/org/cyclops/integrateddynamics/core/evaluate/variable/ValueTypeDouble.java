@@ -1,6 +1,9 @@
 package org.cyclops.integrateddynamics.core.evaluate.variable;
 
 import lombok.ToString;
+import net.minecraft.nbt.NBTBase;
+import net.minecraft.nbt.NBTPrimitive;
+import net.minecraft.nbt.NBTTagDouble;
 import net.minecraft.util.text.TextFormatting;
 import org.cyclops.cyclopscore.helper.Helpers;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValueTypeNumber;
@@ -35,6 +38,19 @@ public class ValueTypeDouble extends ValueTypeBase<ValueTypeDouble.ValueDouble>
         return ValueDouble.of(Double.parseDouble(value));
     }
 
+    @Override
+    public NBTBase serializeNbt(ValueDouble value) {
+        return new NBTTagDouble(value.getRawValue());
+    }
+
+    @Override
+    public ValueDouble deserializeNbt(NBTBase value) {
+        if(value instanceof NBTPrimitive) {
+            return ValueDouble.of(((NBTPrimitive) value).getDouble());
+        }
+        return super.deserializeNbt(value);
+    }
+
     @Override
     public boolean isZero(ValueDouble a) {
         return a.getRawValue() == 0D;
@@ -112,6 +128,13 @@ public class ValueTypeDouble extends ValueTypeBase<ValueTypeDouble.ValueDouble>
         public boolean equals(Object o) {
             return o instanceof ValueDouble && ((ValueDouble) o).value == this.value;
         }
+
+        @Override
+        public int hashCode() {
+            // 0.0 and -0.0 are equal, so they must have the same hash.
+            long bits = Double.doubleToLongBits(value == 0 ? 0 : value);
+            return (int) (bits ^ (bits >>> 32));
+        }
     }
 
 }
@@ -1,6 +1,9 @@
 package org.cyclops.integrateddynamics.core.evaluate.variable;
 
 import lombok.ToString;
+import net.minecraft.nbt.NBTBase;
+import net.minecraft.nbt.NBTPrimitive;
+import net.minecraft.nbt.NBTTagInt;
 import net.minecraft.util.text.TextFormatting;
 import org.cyclops.cyclopscore.helper.Helpers;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValueTypeNumber;
@@ -36,6 +39,19 @@ public class ValueTypeInteger extends ValueTypeBase<ValueTypeInteger.ValueIntege
         return ValueInteger.of(Integer.parseInt(value));
     }
 
+    @Override
+    public NBTBase serializeNbt(ValueInteger value) {
+        return new NBTTagInt(value.getRawValue());
+    }
+
+    @Override
+    public ValueInteger deserializeNbt(NBTBase value) {
+        if(value instanceof NBTPrimitive) {
+            return ValueInteger.of(((NBTPrimitive) value).getInt());
+        }
+        return super.deserializeNbt(value);
+    }
+
     @Override
     public boolean isZero(ValueInteger a) {
         return a.getRawValue() == 0;
@@ -94,6 +110,15 @@ public class ValueTypeInteger extends ValueTypeBase<ValueTypeInteger.ValueIntege
     @ToString
     public static class ValueInteger extends ValueBase {
 
+        private static final int CACHE_MIN = -128;
+        private static final int CACHE_MAX = 1024;
+        private static final ValueInteger[] CACHE = new ValueInteger[CACHE_MAX - CACHE_MIN + 1];
+        static {
+            for (int i = 0; i < CACHE.length; i++) {
+                CACHE[i] = new ValueInteger(CACHE_MIN + i);
+            }
+        }
+
         private final int value;
 
         private ValueInteger(int value) {
@@ -101,7 +126,15 @@ public class ValueTypeInteger extends ValueTypeBase<ValueTypeInteger.ValueIntege
             this.value = value;
         }
 
+        /**
+         * Values in a small range around zero are interned, so they can be produced without allocation.
+         * @param value The raw value.
+         * @return The value.
+         */
         public static ValueInteger of(int value) {
+            if (value >= CACHE_MIN && value <= CACHE_MAX) {
+                return CACHE[value - CACHE_MIN];
+            }
             return new ValueInteger(value);
         }
 
@@ -113,6 +146,11 @@ public class ValueTypeInteger extends ValueTypeBase<ValueTypeInteger.ValueIntege
         public boolean equals(Object o) {
             return o instanceof ValueInteger && ((ValueInteger) o).value == this.value;
         }
+
+        @Override
+        public int hashCode() {
+            return value;
+        }
     }
 
 }
@@ -3,6 +3,9 @@ package org.cyclops.integrateddynamics.core.evaluate.variable;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Lists;
 import lombok.ToString;
+import net.minecraft.nbt.NBTBase;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.nbt.NBTTagString;
 import net.minecraft.util.text.TextFormatting;
 import org.cyclops.cyclopscore.helper.Helpers;
 import org.cyclops.cyclopscore.helper.L10NHelpers;
@@ -67,6 +70,30 @@ public class ValueTypeList extends ValueObjectTypeBase<ValueTypeList.ValueList>
         return getDefault();
     }
 
+    @Override
+    public NBTBase serializeNbt(ValueList value) {
+        try {
+            return ValueTypeListProxyFactories.REGISTRY.serializeNbt(value.getRawValue());
+        } catch (IValueTypeListProxyFactoryTypeRegistry.SerializationException e) {
+            e.printStackTrace();
+        }
+        return new NBTTagCompound();
+    }
+
+    @Override
+    public ValueList deserializeNbt(NBTBase value) {
+        if(value instanceof NBTTagString) {
+            return super.deserializeNbt(value);
+        }
+        try {
+            IValueTypeListProxy<IValueType<IValue>, IValue> proxy = ValueTypeListProxyFactories.REGISTRY.deserializeNbt(value);
+            return ValueList.ofFactory(proxy);
+        } catch (IValueTypeListProxyFactoryTypeRegistry.SerializationException e) {
+            e.printStackTrace();
+        }
+        return getDefault();
+    }
+
     @Override
     public ValueList materialize(ValueList value) throws EvaluationException {
         IValueTypeListProxy<IValueType<IValue>, IValue> list = value.getRawValue();
@@ -108,12 +135,18 @@ public class ValueTypeList extends ValueObjectTypeBase<ValueTypeList.ValueList>
             return o instanceof ValueList && ((ValueList) o).value.equals(this.value);
         }
 
+        @Override
+        public int hashCode() {
+            return value.hashCode();
+        }
+
     }
 
     public static class ListFactoryIterator<T extends IValueType<V>, V extends IValue> implements Iterator<V> {
 
         private final IValueTypeListProxy<T, V> value;
         private int index = 0;
+        private int length = -1;
 
         public ListFactoryIterator(IValueTypeListProxy<T, V> value) {
             this.value = value;
@@ -121,11 +154,15 @@ public class ValueTypeList extends ValueObjectTypeBase<ValueTypeList.ValueList>
 
         @Override
         public boolean hasNext() {
-            try {
-                return index < value.getLength();
-            } catch (EvaluationException e) {
-                return false;
+            if (length < 0) {
+                // The length is only determined once, as it may be expensive to calculate.
+                try {
+                    length = value.getLength();
+                } catch (EvaluationException e) {
+                    length = 0;
+                }
             }
+            return index < length;
         }
 
         @Override
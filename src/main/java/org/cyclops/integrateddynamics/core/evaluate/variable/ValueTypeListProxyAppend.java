@@ -1,6 +1,7 @@
 package org.cyclops.integrateddynamics.core.evaluate.variable;
 
 import net.minecraft.nbt.JsonToNBT;
+import net.minecraft.nbt.NBTBase;
 import net.minecraft.nbt.NBTException;
 import net.minecraft.nbt.NBTTagCompound;
 import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
@@ -41,7 +42,7 @@ public class ValueTypeListProxyAppend<T extends IValueType<V>, V extends IValue>
         return null;
     }
 
-    public static class Factory implements IValueTypeListProxyFactoryTypeRegistry.IProxyFactory<IValueType<IValue>, IValue, ValueTypeListProxyAppend<IValueType<IValue>, IValue>> {
+    public static class Factory implements IValueTypeListProxyFactoryNbt<IValueType<IValue>, IValue, ValueTypeListProxyAppend<IValueType<IValue>, IValue>> {
 
         @Override
         public String getName() {
@@ -50,25 +51,38 @@ public class ValueTypeListProxyAppend<T extends IValueType<V>, V extends IValue>
 
         @Override
         public String serialize(ValueTypeListProxyAppend<IValueType<IValue>, IValue> values) throws IValueTypeListProxyFactoryTypeRegistry.SerializationException {
-            NBTTagCompound tag = new NBTTagCompound();
-            tag.setString("valueType", values.value.getType().getUnlocalizedName());
-            tag.setString("value", values.value.getType().serialize(values.value));
-            tag.setString("sublist", ValueTypeListProxyFactories.REGISTRY.serialize(values.list));
-            return tag.toString();
+            return serializeNbt(values).toString();
         }
 
         @Override
         public ValueTypeListProxyAppend<IValueType<IValue>, IValue> deserialize(String data) throws IValueTypeListProxyFactoryTypeRegistry.SerializationException {
             try {
-                NBTTagCompound tag = JsonToNBT.getTagFromJson(data);
-                IValueType valueType = ValueTypes.REGISTRY.getValueType(tag.getString("valueType"));
-                IValue value = valueType.deserialize(tag.getString("value"));
-                IValueTypeListProxy<IValueType<IValue>, IValue> list = ValueTypeListProxyFactories.REGISTRY.deserialize(tag.getString("sublist"));
-                return new ValueTypeListProxyAppend<>(list, value);
+                return deserializeNbt(JsonToNBT.getTagFromJson(data));
             } catch (NBTException e) {
                 e.printStackTrace();
                 throw new IValueTypeListProxyFactoryTypeRegistry.SerializationException(e.getMessage());
             }
         }
+
+        @Override
+        public NBTTagCompound serializeNbt(ValueTypeListProxyAppend<IValueType<IValue>, IValue> values) throws IValueTypeListProxyFactoryTypeRegistry.SerializationException {
+            NBTTagCompound tag = new NBTTagCompound();
+            tag.setString("valueType", values.value.getType().getUnlocalizedName());
+            tag.setTag("value", ValueHelpers.serializeNbt(values.value));
+            tag.setTag("sublist", ValueTypeListProxyFactories.REGISTRY.serializeNbt(values.list));
+            return tag;
+        }
+
+        @Override
+        public ValueTypeListProxyAppend<IValueType<IValue>, IValue> deserializeNbt(NBTBase value) throws IValueTypeListProxyFactoryTypeRegistry.SerializationException {
+            if(!(value instanceof NBTTagCompound)) {
+                throw new IValueTypeListProxyFactoryTypeRegistry.SerializationException(String.format("Could not deserialize the serialized append list proxy value '%s'.", value));
+            }
+            NBTTagCompound tag = (NBTTagCompound) value;
+            IValueType valueType = ValueTypes.REGISTRY.getValueType(tag.getString("valueType"));
+            IValue appendedValue = ValueHelpers.deserializeNbt(valueType, tag.getTag("value"));
+            IValueTypeListProxy<IValueType<IValue>, IValue> list = ValueTypeListProxyFactories.REGISTRY.deserializeNbt(tag.getTag("sublist"));
+            return new ValueTypeListProxyAppend<>(list, appendedValue);
+        }
     }
 }
@@ -1,11 +1,9 @@
 package org.cyclops.integrateddynamics.core.evaluate.variable;
 
-import com.google.common.collect.Iterables;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValueType;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValueTypeListProxy;
 
-import java.util.Arrays;
 import java.util.Iterator;
 
 /**
@@ -72,9 +70,26 @@ public abstract class ValueTypeListProxyBase<T extends IValueType<V>, V extends
             return false;
         }
 
-        Object[] o = Iterables.toArray(this, Object.class);
-        Object[] o2 = Iterables.toArray(other, Object.class);
-        return Arrays.equals(o, o2);
+        Iterator<V> it = iterator();
+        Iterator<?> it2 = other.iterator();
+        while (it.hasNext() && it2.hasNext()) {
+            if (!it.next().equals(it2.next())) {
+                return false;
+            }
+        }
+        return !it.hasNext() && !it2.hasNext();
+    }
+
+    @Override
+    public int hashCode() {
+        if (isInfinite()) {
+            return System.identityHashCode(this);
+        }
+        int hash = 1;
+        for (V value : this) {
+            hash = 31 * hash + value.hashCode();
+        }
+        return hash;
     }
 
     @Override
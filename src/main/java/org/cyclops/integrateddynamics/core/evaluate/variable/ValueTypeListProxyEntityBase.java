@@ -8,6 +8,7 @@ import net.minecraftforge.fml.common.FMLCommonHandler;
 import org.cyclops.cyclopscore.persist.nbt.INBTProvider;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValueType;
+import org.cyclops.integrateddynamics.core.network.ParallelEvaluation;
 
 /**
  * A list proxy for the something of an entity.
@@ -24,6 +25,7 @@ public abstract class ValueTypeListProxyEntityBase<T extends IValueType<V>, V ex
     }
 
     protected Entity getEntity() {
+        ParallelEvaluation.checkWorldAccess();
         WorldServer[] servers = FMLCommonHandler.instance().getMinecraftServerInstance().worldServers;
         if(world < servers.length) {
             Entity e = servers[world].getEntityByID(entity);
@@ -1,6 +1,9 @@
 package org.cyclops.integrateddynamics.core.evaluate.variable;
 
 import com.google.common.collect.Maps;
+import net.minecraft.nbt.NBTBase;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.nbt.NBTTagString;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValueType;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValueTypeListProxy;
@@ -72,4 +75,45 @@ public class ValueTypeListProxyFactoryTypeRegistry implements IValueTypeListProx
         }
         return factory.deserialize(actualValue);
     }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T extends IValueType<V>, V extends IValue, P extends IValueTypeListProxy<T, V>> NBTTagCompound serializeNbt(P proxy) throws SerializationException {
+        IProxyFactory<T, V, P> factory = getFactory(proxy.getName());
+        if(factory == null) {
+            throw new SerializationException(String.format("No serialization factory exists for the list proxy type name '%s'.", proxy.getName()));
+        }
+        NBTTagCompound tag = new NBTTagCompound();
+        tag.setString("proxyName", factory.getName());
+        if(factory instanceof IValueTypeListProxyFactoryNbt) {
+            tag.setTag("value", ((IValueTypeListProxyFactoryNbt<T, V, P>) factory).serializeNbt(proxy));
+        } else {
+            tag.setTag("value", new NBTTagString(factory.serialize(proxy)));
+        }
+        return tag;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T extends IValueType<V>, V extends IValue, P extends IValueTypeListProxy<T, V>> P deserializeNbt(NBTBase value) throws SerializationException {
+        if(value instanceof NBTTagString) {
+            return deserialize(((NBTTagString) value).getString());
+        }
+        if(!(value instanceof NBTTagCompound) || !((NBTTagCompound) value).hasKey("value")) {
+            throw new SerializationException(String.format("Could not deserialize the serialized list proxy value '%s'.", value));
+        }
+        NBTTagCompound tag = (NBTTagCompound) value;
+        String name = tag.getString("proxyName");
+        IProxyFactory<T, V, P> factory = getFactory(name);
+        if(factory == null) {
+            throw new SerializationException(String.format("No deserialization factory exists for the list proxy type name '%s'.", name));
+        }
+        if(factory instanceof IValueTypeListProxyFactoryNbt) {
+            return ((IValueTypeListProxyFactoryNbt<T, V, P>) factory).deserializeNbt(tag.getTag("value"));
+        }
+        if(tag.getTag("value") instanceof NBTTagString) {
+            return factory.deserialize(tag.getString("value"));
+        }
+        throw new SerializationException(String.format("Could not deserialize the serialized list proxy value '%s'.", value));
+    }
 }
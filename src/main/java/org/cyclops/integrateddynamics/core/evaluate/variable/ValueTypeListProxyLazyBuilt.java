@@ -1,36 +1,50 @@
 package org.cyclops.integrateddynamics.core.evaluate.variable;
 
-import com.google.common.cache.Cache;
-import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.Lists;
 import net.minecraft.nbt.JsonToNBT;
+import net.minecraft.nbt.NBTBase;
 import net.minecraft.nbt.NBTException;
 import net.minecraft.nbt.NBTTagCompound;
+import org.cyclops.integrateddynamics.GeneralConfig;
 import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
 import org.cyclops.integrateddynamics.api.evaluate.operator.IOperator;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValueType;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValueTypeListProxyFactoryTypeRegistry;
-import org.cyclops.integrateddynamics.api.evaluate.variable.IVariable;
 import org.cyclops.integrateddynamics.core.evaluate.operator.Operators;
 
-import java.util.concurrent.TimeUnit;
+import java.util.List;
 
 /**
  * A list that is built lazily from a start value and an operator.
+ *
+ * Elements are calculated iteratively, starting from the closest known element before the requested index.
+ * Every k-th element is kept as a checkpoint, and the last calculated element is kept as well,
+ * so that sequential access only applies the operator once per element.
+ * Once the number of checkpoints exceeds {@link GeneralConfig#lazyBuiltListCacheSize},
+ * every other checkpoint is dropped and k is doubled,
+ * which bounds both the memory usage and the number of operator applications for random access.
  * @param <T> The value type type.
  * @param <V> The value type.
  */
 public class ValueTypeListProxyLazyBuilt<T extends IValueType<V>, V extends IValue> extends ValueTypeListProxyBase<T, V> {
 
-    private Cache<Integer, V> cache_values = CacheBuilder.newBuilder().expireAfterAccess(10, TimeUnit.SECONDS).maximumSize(100).build();
-
     private final V value;
     private final IOperator operator;
 
+    private final List<V> checkpoints = Lists.newArrayList();
+    private final int maxCheckpoints;
+    private int checkpointInterval = 1;
+    private int lastIndex = 0;
+    private V lastValue;
+
     public ValueTypeListProxyLazyBuilt(V value, IOperator operator) {
         super(ValueTypeListProxyFactories.LAZY_BUILT.getName(), (T) value.getType());
         this.value = value;
         this.operator = operator;
+        this.maxCheckpoints = Math.max(2, GeneralConfig.lazyBuiltListCacheSize);
+        this.checkpoints.add(value);
+        this.lastValue = value;
     }
 
     @Override
@@ -39,26 +53,55 @@ public class ValueTypeListProxyLazyBuilt<T extends IValueType<V>, V extends IVal
     }
 
     @Override
-    public V get(int index) throws EvaluationException {
+    public synchronized V get(int index) throws EvaluationException {
         if (index == 0) {
             return value;
         }
-        V current = cache_values.getIfPresent(index);
-        if (current != null) {
-            return current;
+        if (index == lastIndex) {
+            return lastValue;
+        }
+
+        // Start from the closest element we know before the index.
+        int checkpoint = Math.min(index / checkpointInterval, checkpoints.size() - 1);
+        int currentIndex = checkpoint * checkpointInterval;
+        V current = checkpoints.get(checkpoint);
+        if (lastIndex < index && lastIndex > currentIndex) {
+            currentIndex = lastIndex;
+            current = lastValue;
+        }
+
+        while (currentIndex < index) {
+            current = (V) ValueHelpers.evaluateOperator(operator, current);
+            currentIndex++;
+            if (currentIndex % checkpointInterval == 0 && currentIndex / checkpointInterval == checkpoints.size()) {
+                addCheckpoint(current);
+            }
         }
-        V previous = get(index - 1);
-        current = (V) operator.evaluate(new IVariable[]{new Variable(previous.getType(), previous)});
-        cache_values.put(index, current);
+
+        this.lastIndex = currentIndex;
+        this.lastValue = current;
         return current;
     }
 
+    protected void addCheckpoint(V current) {
+        checkpoints.add(current);
+        if (checkpoints.size() > maxCheckpoints) {
+            // Keep every other checkpoint, so the interval doubles.
+            int size = 0;
+            for (int i = 0; i < checkpoints.size(); i += 2) {
+                checkpoints.set(size++, checkpoints.get(i));
+            }
+            checkpoints.subList(size, checkpoints.size()).clear();
+            checkpointInterval *= 2;
+        }
+    }
+
     @Override
     public boolean isInfinite() {
         return true;
     }
 
-    public static class Factory implements IValueTypeListProxyFactoryTypeRegistry.IProxyFactory<IValueType<IValue>, IValue, ValueTypeListProxyLazyBuilt<IValueType<IValue>, IValue>> {
+    public static class Factory implements IValueTypeListProxyFactoryNbt<IValueType<IValue>, IValue, ValueTypeListProxyLazyBuilt<IValueType<IValue>, IValue>> {
 
         @Override
         public String getName() {
@@ -67,22 +110,40 @@ public class ValueTypeListProxyLazyBuilt<T extends IValueType<V>, V extends IVal
 
         @Override
         public String serialize(ValueTypeListProxyLazyBuilt<IValueType<IValue>, IValue> values) throws IValueTypeListProxyFactoryTypeRegistry.SerializationException {
+            return serializeNbt(values).toString();
+        }
+
+        @Override
+        public ValueTypeListProxyLazyBuilt<IValueType<IValue>, IValue> deserialize(String data) throws IValueTypeListProxyFactoryTypeRegistry.SerializationException {
+            try {
+                return deserializeNbt(JsonToNBT.getTagFromJson(data));
+            } catch (NBTException e) {
+                e.printStackTrace();
+                throw new IValueTypeListProxyFactoryTypeRegistry.SerializationException(e.getMessage());
+            }
+        }
+
+        @Override
+        public NBTTagCompound serializeNbt(ValueTypeListProxyLazyBuilt<IValueType<IValue>, IValue> values) throws IValueTypeListProxyFactoryTypeRegistry.SerializationException {
             NBTTagCompound tag = new NBTTagCompound();
             tag.setString("valueType", values.value.getType().getUnlocalizedName());
-            tag.setString("value", values.value.getType().serialize(values.value));
-            tag.setString("operator", Operators.REGISTRY.serialize(values.operator));
-            return tag.toString();
+            tag.setTag("value", ValueHelpers.serializeNbt(values.value));
+            tag.setTag("operator", Operators.REGISTRY.serializeNbt(values.operator));
+            return tag;
         }
 
         @Override
-        public ValueTypeListProxyLazyBuilt<IValueType<IValue>, IValue> deserialize(String data) throws IValueTypeListProxyFactoryTypeRegistry.SerializationException {
+        public ValueTypeListProxyLazyBuilt<IValueType<IValue>, IValue> deserializeNbt(NBTBase data) throws IValueTypeListProxyFactoryTypeRegistry.SerializationException {
+            if(!(data instanceof NBTTagCompound)) {
+                throw new IValueTypeListProxyFactoryTypeRegistry.SerializationException(String.format("Could not deserialize the serialized lazy built list proxy value '%s'.", data));
+            }
             try {
-                NBTTagCompound tag = JsonToNBT.getTagFromJson(data);
+                NBTTagCompound tag = (NBTTagCompound) data;
                 IValueType valueType = ValueTypes.REGISTRY.getValueType(tag.getString("valueType"));
-                IValue value = valueType.deserialize(tag.getString("value"));
-                IOperator operator = Operators.REGISTRY.deserialize(tag.getString("operator"));
+                IValue value = ValueHelpers.deserializeNbt(valueType, tag.getTag("value"));
+                IOperator operator = Operators.REGISTRY.deserializeNbt(tag.getTag("operator"));
                 return new ValueTypeListProxyLazyBuilt<>(value, operator);
-            } catch (NBTException | EvaluationException e) {
+            } catch (EvaluationException e) {
                 e.printStackTrace();
                 throw new IValueTypeListProxyFactoryTypeRegistry.SerializationException(e.getMessage());
             }
@@ -1,5 +1,7 @@
 package org.cyclops.integrateddynamics.core.evaluate.variable;
 
+import com.google.common.collect.HashMultiset;
+import com.google.common.collect.Multiset;
 import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValueType;
@@ -8,6 +10,10 @@ import java.util.List;
 
 /**
  * A list proxy for a list that is fully materialized already.
+ *
+ * As the list can not change, its hash is only calculated once.
+ * For lists that are queried multiple times, a hashed index of the elements is built on the second query,
+ * after which {@link #contains(IValue)} and {@link #count(IValue)} take constant time.
  * @param <T> The value type type.
  * @param <V> The value type.
  */
@@ -15,6 +21,10 @@ public class ValueTypeListProxyMaterialized<T extends IValueType<V>, V extends I
 
     private final List<V> list;
 
+    private int hash = 0; // 0 if not calculated yet, like String#hashCode, so that it is safe to publish without locking.
+    private int queries = 0;
+    private Multiset<IValue> index = null;
+
     public ValueTypeListProxyMaterialized(T valueType, List<V> list) {
         super(ValueTypeListProxyFactories.MATERIALIZED.getName(), valueType);
         this.list = list;
@@ -29,4 +39,59 @@ public class ValueTypeListProxyMaterialized<T extends IValueType<V>, V extends I
     public V get(int index) throws EvaluationException {
         return list.get(index);
     }
+
+    protected synchronized Multiset<IValue> getIndex() {
+        if (index == null && ++queries > 1) {
+            index = HashMultiset.<IValue>create(list);
+        }
+        return index;
+    }
+
+    /**
+     * @param element An element.
+     * @return If this list contains the given element.
+     */
+    public boolean contains(IValue element) {
+        Multiset<IValue> index = getIndex();
+        return index != null ? index.contains(element) : list.contains(element);
+    }
+
+    /**
+     * @param element An element.
+     * @return The number of elements in this list that equal the given element.
+     */
+    public int count(IValue element) {
+        Multiset<IValue> index = getIndex();
+        if (index != null) {
+            return index.count(element);
+        }
+        int count = 0;
+        for (V value : list) {
+            if (value.equals(element)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (obj instanceof ValueTypeListProxyMaterialized && obj.hashCode() != hashCode()) {
+            return false;
+        }
+        return super.equals(obj);
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = this.hash;
+        if (hash == 0) {
+            hash = super.hashCode();
+            this.hash = hash;
+        }
+        return hash;
+    }
 }
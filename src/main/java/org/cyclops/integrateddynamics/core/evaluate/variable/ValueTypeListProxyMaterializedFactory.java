@@ -1,6 +1,9 @@
 package org.cyclops.integrateddynamics.core.evaluate.variable;
 
 import com.google.common.collect.ImmutableList;
+import net.minecraft.nbt.NBTBase;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.nbt.NBTTagList;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValueType;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValueTypeListProxyFactoryTypeRegistry;
@@ -9,7 +12,7 @@ import org.cyclops.integrateddynamics.api.evaluate.variable.IValueTypeListProxyF
  * Factory for {@link ValueTypeListProxyMaterialized}.
  * @author rubensworks
  */
-public class ValueTypeListProxyMaterializedFactory implements IValueTypeListProxyFactoryTypeRegistry.IProxyFactory<IValueType<IValue>, IValue, ValueTypeListProxyMaterialized<IValueType<IValue>, IValue>> {
+public class ValueTypeListProxyMaterializedFactory implements IValueTypeListProxyFactoryNbt<IValueType<IValue>, IValue, ValueTypeListProxyMaterialized<IValueType<IValue>, IValue>> {
 
     private static final String ELEMENT_DELIMITER = ";";
     private static final String ELEMENT_DELIMITER_SPLITREGEX = "(?<!\\\\);";
@@ -55,4 +58,36 @@ public class ValueTypeListProxyMaterializedFactory implements IValueTypeListProx
 
         return new ValueTypeListProxyMaterialized<>(valueType, builder.build());
     }
+
+    @Override
+    public NBTTagCompound serializeNbt(ValueTypeListProxyMaterialized<IValueType<IValue>, IValue> values) throws IValueTypeListProxyFactoryTypeRegistry.SerializationException {
+        IValueType<IValue> valueType = values.getValueType();
+        NBTTagList list = new NBTTagList();
+        for (IValue value : values) {
+            list.appendTag(ValueHelpers.serializeNbt(valueType, value));
+        }
+        NBTTagCompound tag = new NBTTagCompound();
+        tag.setString("valueType", valueType.getUnlocalizedName());
+        tag.setTag("values", list);
+        return tag;
+    }
+
+    @Override
+    public ValueTypeListProxyMaterialized<IValueType<IValue>, IValue> deserializeNbt(NBTBase value) throws IValueTypeListProxyFactoryTypeRegistry.SerializationException {
+        if (!(value instanceof NBTTagCompound) || !(((NBTTagCompound) value).getTag("values") instanceof NBTTagList)) {
+            throw new IValueTypeListProxyFactoryTypeRegistry.SerializationException(String.format("Could not deserialize the serialized materialized list proxy value '%s'.", value));
+        }
+        NBTTagCompound tag = (NBTTagCompound) value;
+        String valueTypeName = tag.getString("valueType");
+        IValueType<IValue> valueType = ValueTypes.REGISTRY.getValueType(valueTypeName);
+        if (valueType == null) {
+            throw new IValueTypeListProxyFactoryTypeRegistry.SerializationException(String.format("Could not deserialize the serialized materialized list proxy value because the value type by name '%s' was not found.", valueTypeName));
+        }
+        NBTTagList list = (NBTTagList) tag.getTag("values");
+        ImmutableList.Builder<IValue> builder = ImmutableList.builder();
+        for (int i = 0; i < list.tagCount(); i++) {
+            builder.add(ValueHelpers.deserializeNbt(valueType, list.get(i)));
+        }
+        return new ValueTypeListProxyMaterialized<>(valueType, builder.build());
+    }
 }
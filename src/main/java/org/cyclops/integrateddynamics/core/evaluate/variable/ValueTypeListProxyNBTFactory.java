@@ -1,6 +1,7 @@
 package org.cyclops.integrateddynamics.core.evaluate.variable;
 
 import net.minecraft.nbt.JsonToNBT;
+import net.minecraft.nbt.NBTBase;
 import net.minecraft.nbt.NBTException;
 import net.minecraft.nbt.NBTTagCompound;
 import org.cyclops.cyclopscore.persist.nbt.INBTProvider;
@@ -16,7 +17,7 @@ import java.lang.reflect.InvocationTargetException;
  * Factory for list proxies that implement {@link org.cyclops.cyclopscore.persist.nbt.INBTProvider}.
  * @author rubensworks
  */
-public class ValueTypeListProxyNBTFactory<T extends IValueType<V>, V extends IValue, P extends IValueTypeListProxy<T, V> & INBTProvider> implements IValueTypeListProxyFactoryTypeRegistry.IProxyFactory<T, V, P> {
+public class ValueTypeListProxyNBTFactory<T extends IValueType<V>, V extends IValue, P extends IValueTypeListProxy<T, V> & INBTProvider> implements IValueTypeListProxyFactoryNbt<T, V, P> {
 
     private final String name;
     private final Class<P> proxyClass;
@@ -37,20 +38,37 @@ public class ValueTypeListProxyNBTFactory<T extends IValueType<V>, V extends IVa
 
     @Override
     public String serialize(P values) throws IValueTypeListProxyFactoryTypeRegistry.SerializationException {
+        return serializeNbt(values).toString();
+    }
+
+    @Override
+    public P deserialize(String value) throws IValueTypeListProxyFactoryTypeRegistry.SerializationException {
+        try {
+            return deserializeNbt(JsonToNBT.getTagFromJson(value));
+        } catch (NBTException e) {
+            e.printStackTrace();
+            throw new IValueTypeListProxyFactoryTypeRegistry.SerializationException(e.getMessage());
+        }
+    }
+
+    @Override
+    public NBTTagCompound serializeNbt(P values) throws IValueTypeListProxyFactoryTypeRegistry.SerializationException {
         NBTTagCompound tag = new NBTTagCompound();
         values.writeGeneratedFieldsToNBT(tag);
-        return tag.toString();
+        return tag;
     }
 
     @Override
-    public P deserialize(String value) throws IValueTypeListProxyFactoryTypeRegistry.SerializationException {
+    public P deserializeNbt(NBTBase value) throws IValueTypeListProxyFactoryTypeRegistry.SerializationException {
+        if (!(value instanceof NBTTagCompound)) {
+            throw new IValueTypeListProxyFactoryTypeRegistry.SerializationException(String.format("Could not deserialize the serialized list proxy value '%s'.", value));
+        }
         try {
             Constructor<P> constructor = getProxyClass().getConstructor();
             P proxy = constructor.newInstance();
-            NBTTagCompound tag = JsonToNBT.getTagFromJson(value);
-            proxy.readGeneratedFieldsFromNBT(tag);
+            proxy.readGeneratedFieldsFromNBT((NBTTagCompound) value);
             return proxy;
-        } catch (NoSuchMethodException | InvocationTargetException | InstantiationException | NBTException | IllegalAccessException e) {
+        } catch (NoSuchMethodException | InvocationTargetException | InstantiationException | IllegalAccessException e) {
             e.printStackTrace();
             throw new IValueTypeListProxyFactoryTypeRegistry.SerializationException(e.getMessage());
         }
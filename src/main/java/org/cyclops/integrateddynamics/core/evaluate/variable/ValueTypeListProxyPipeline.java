@@ -0,0 +1,361 @@
+package org.cyclops.integrateddynamics.core.evaluate.variable;
+
+import com.google.common.collect.Lists;
+import org.apache.logging.log4j.Level;
+import org.cyclops.cyclopscore.helper.L10NHelpers;
+import org.cyclops.integrateddynamics.IntegratedDynamics;
+import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
+import org.cyclops.integrateddynamics.api.evaluate.operator.IOperator;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValueType;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValueTypeListProxy;
+import org.cyclops.integrateddynamics.core.evaluate.operator.OperatorBase;
+import org.cyclops.integrateddynamics.core.evaluate.operator.OperatorCompiler;
+import org.cyclops.integrateddynamics.core.evaluate.operator.Operators;
+import org.cyclops.integrateddynamics.core.helper.L10NValues;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A list proxy that lazily applies a chain of map and filter stages to a source list.
+ *
+ * Mapping or filtering a pipeline appends a stage instead of wrapping the list again,
+ * and terminal operations such as {@link #reduce(IOperator, IValue)}, {@link #count(IOperator)}
+ * and {@link #anyMatch(IOperator)} push each source element through all stages in a single pass,
+ * stopping as soon as the result is known.
+ *
+ * Random access on a pipeline without filters maps only the requested element.
+ * Pipelines with filters are materialized on random access.
+ * A pipeline is a snapshot of its source for a single evaluation,
+ * so mapped elements and the materialized result are remembered by each pipeline instance.
+ * @author rubensworks
+ */
+public class ValueTypeListProxyPipeline extends ValueTypeListProxyBase<IValueType<IValue>, IValue> {
+
+    private final IValueTypeListProxy<IValueType<IValue>, IValue> source;
+    private final Stage[] stages;
+    private final boolean filtered;
+
+    private volatile AtomicReferenceArray<IValue> mappedValues = null;
+    private volatile List<IValue> materialized = null;
+
+    protected ValueTypeListProxyPipeline(IValueTypeListProxy<IValueType<IValue>, IValue> source, Stage[] stages,
+                                         IValueType<IValue> valueType) {
+        super(ValueTypeListProxyFactories.MATERIALIZED.getName(), valueType);
+        this.source = source;
+        this.stages = stages;
+        boolean filtered = false;
+        for (Stage stage : stages) {
+            filtered |= stage.isFilter();
+        }
+        this.filtered = filtered;
+    }
+
+    /**
+     * @param list A list.
+     * @return The given list as a pipeline.
+     */
+    public static ValueTypeListProxyPipeline of(IValueTypeListProxy list) {
+        if (list instanceof ValueTypeListProxyPipeline) {
+            return (ValueTypeListProxyPipeline) list;
+        }
+        return new ValueTypeListProxyPipeline(list, new Stage[0], list.getValueType());
+    }
+
+    protected ValueTypeListProxyPipeline append(Stage stage, IValueType<IValue> valueType) {
+        Stage[] stages = Arrays.copyOf(this.stages, this.stages.length + 1);
+        stages[this.stages.length] = stage;
+        return new ValueTypeListProxyPipeline(source, stages, valueType);
+    }
+
+    /**
+     * @param operator An operator with one input.
+     * @return A new pipeline that additionally maps all elements with the given operator.
+     */
+    public ValueTypeListProxyPipeline map(IOperator operator) {
+        return append(new Stage(operator, getValueType(), false), operator.getOutputType());
+    }
+
+    /**
+     * @param predicate An operator with one input and a boolean output.
+     * @return A new pipeline that additionally only retains elements that match the given predicate.
+     */
+    public ValueTypeListProxyPipeline filter(IOperator predicate) {
+        return append(new Stage(predicate, getValueType(), true), getValueType());
+    }
+
+    /**
+     * Push all elements of this pipeline to the given consumer, until it does not accept any more elements.
+     * @param consumer The consumer.
+     * @throws EvaluationException If an error occurs while evaluating a stage.
+     */
+    public void forEach(IConsumer consumer) throws EvaluationException {
+        List<IValue> materialized = this.materialized;
+        if (materialized != null) {
+            for (IValue value : materialized) {
+                if (!consumer.accept(value)) {
+                    return;
+                }
+            }
+            return;
+        }
+        int length = source.getLength();
+        elements:
+        for (int i = 0; i < length; i++) {
+            IValue value = source.get(i);
+            for (Stage stage : stages) {
+                if (stage.isFilter()) {
+                    if (!stage.test(value)) {
+                        continue elements;
+                    }
+                } else {
+                    value = stage.apply(value);
+                }
+            }
+            if (!consumer.accept(value)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * @param predicate An operator with one input and a boolean output.
+     * @return If any element matches the given predicate.
+     * @throws EvaluationException If an error occurs while evaluating.
+     */
+    public boolean anyMatch(IOperator predicate) throws EvaluationException {
+        final Stage stage = new Stage(predicate, getValueType(), true);
+        final boolean[] found = new boolean[]{false};
+        forEach(new IConsumer() {
+            @Override
+            public boolean accept(IValue value) throws EvaluationException {
+                found[0] = stage.test(value);
+                return !found[0];
+            }
+        });
+        return found[0];
+    }
+
+    /**
+     * @param predicate An operator with one input and a boolean output.
+     * @return The number of elements that match the given predicate.
+     * @throws EvaluationException If an error occurs while evaluating.
+     */
+    public int count(IOperator predicate) throws EvaluationException {
+        final Stage stage = new Stage(predicate, getValueType(), true);
+        final int[] count = new int[]{0};
+        forEach(new IConsumer() {
+            @Override
+            public boolean accept(IValue value) throws EvaluationException {
+                if (stage.test(value)) {
+                    count[0]++;
+                }
+                return true;
+            }
+        });
+        return count[0];
+    }
+
+    /**
+     * @param element An element.
+     * @return If any element equals the given element.
+     * @throws EvaluationException If an error occurs while evaluating.
+     */
+    public boolean contains(final IValue element) throws EvaluationException {
+        if (stages.length == 0 && source instanceof ValueTypeListProxyMaterialized) {
+            return ((ValueTypeListProxyMaterialized) source).contains(element);
+        }
+        final boolean[] found = new boolean[]{false};
+        forEach(new IConsumer() {
+            @Override
+            public boolean accept(IValue value) throws EvaluationException {
+                found[0] = value.equals(element);
+                return !found[0];
+            }
+        });
+        return found[0];
+    }
+
+    /**
+     * @param element An element.
+     * @return The number of elements that equal the given element.
+     * @throws EvaluationException If an error occurs while evaluating.
+     */
+    public int count(final IValue element) throws EvaluationException {
+        if (stages.length == 0 && source instanceof ValueTypeListProxyMaterialized) {
+            return ((ValueTypeListProxyMaterialized) source).count(element);
+        }
+        final int[] count = new int[]{0};
+        forEach(new IConsumer() {
+            @Override
+            public boolean accept(IValue value) throws EvaluationException {
+                if (value.equals(element)) {
+                    count[0]++;
+                }
+                return true;
+            }
+        });
+        return count[0];
+    }
+
+    /**
+     * Fold all elements into an accumulator.
+     * @param operator An operator that takes the accumulator and an element, and returns the new accumulator.
+     * @param accumulator The initial accumulator.
+     * @return The final accumulator.
+     * @throws EvaluationException If an error occurs while evaluating.
+     */
+    public IValue reduce(IOperator operator, IValue accumulator) throws EvaluationException {
+        final OperatorBase.IFunction function = operator.getOutputType() == accumulator.getType()
+                ? OperatorCompiler.compile(operator, new IValueType[]{accumulator.getType(), getValueType()})
+                : new OperatorCompiler.Interpreted(operator);
+        final IValue[] result = new IValue[]{accumulator};
+        forEach(new IConsumer() {
+            @Override
+            public boolean accept(IValue value) throws EvaluationException {
+                result[0] = function.evaluate(new OperatorBase.SafeVariablesGetter.Values(result[0], value));
+                return true;
+            }
+        });
+        return result[0];
+    }
+
+    protected List<IValue> getMaterialized() throws EvaluationException {
+        List<IValue> materialized = this.materialized;
+        if (materialized == null) {
+            final List<IValue> values = Lists.newArrayList();
+            forEach(new IConsumer() {
+                @Override
+                public boolean accept(IValue value) throws EvaluationException {
+                    values.add(value);
+                    return true;
+                }
+            });
+            materialized = Collections.unmodifiableList(values);
+            // Concurrent evaluations may both materialize, but they will produce equal lists.
+            this.materialized = materialized;
+        }
+        return materialized;
+    }
+
+    protected AtomicReferenceArray<IValue> getMappedValues() throws EvaluationException {
+        AtomicReferenceArray<IValue> mappedValues = this.mappedValues;
+        if (mappedValues == null) {
+            synchronized (this) {
+                mappedValues = this.mappedValues;
+                if (mappedValues == null) {
+                    mappedValues = new AtomicReferenceArray<IValue>(source.getLength());
+                    this.mappedValues = mappedValues;
+                }
+            }
+        }
+        return mappedValues;
+    }
+
+    @Override
+    public int getLength() throws EvaluationException {
+        if (filtered) {
+            return getMaterialized().size();
+        }
+        return source.getLength();
+    }
+
+    @Override
+    public IValue get(int index) throws EvaluationException {
+        if (filtered) {
+            return getMaterialized().get(index);
+        }
+        AtomicReferenceArray<IValue> mappedValues = source.isInfinite() ? null : getMappedValues();
+        if (mappedValues != null && index < mappedValues.length()) {
+            IValue value = mappedValues.get(index);
+            if (value != null) {
+                return value;
+            }
+        }
+        IValue value = source.get(index);
+        for (Stage stage : stages) {
+            value = stage.apply(value);
+        }
+        if (mappedValues != null && index < mappedValues.length()) {
+            mappedValues.set(index, value);
+        }
+        return value;
+    }
+
+    @Override
+    public Iterator<IValue> iterator() {
+        if (filtered) {
+            try {
+                return getMaterialized().iterator();
+            } catch (EvaluationException e) {
+                IntegratedDynamics.clog(Level.ERROR, e.getMessage());
+                return Collections.emptyIterator();
+            }
+        }
+        return super.iterator();
+    }
+
+    @Override
+    public boolean isInfinite() {
+        return !filtered && source.isInfinite();
+    }
+
+    /**
+     * Receives the elements of a pipeline.
+     */
+    public static interface IConsumer {
+
+        /**
+         * @param value An element.
+         * @return If more elements should be pushed.
+         * @throws EvaluationException If an error occurs while evaluating.
+         */
+        public boolean accept(IValue value) throws EvaluationException;
+
+    }
+
+    /**
+     * A map or filter stage, with its operator compiled for the element type.
+     */
+    protected static class Stage {
+
+        private final IOperator operator;
+        private final OperatorBase.IFunction function;
+        private final boolean filter;
+
+        public Stage(IOperator operator, IValueType inputType, boolean filter) {
+            this.operator = operator;
+            this.function = OperatorCompiler.compile(operator, new IValueType[]{inputType});
+            this.filter = filter;
+        }
+
+        public boolean isFilter() {
+            return filter;
+        }
+
+        public IValue apply(IValue value) throws EvaluationException {
+            return function.evaluate(new OperatorBase.SafeVariablesGetter.Values(value));
+        }
+
+        public boolean test(IValue value) throws EvaluationException {
+            IValue result = apply(value);
+            if (result.getType() != ValueTypes.BOOLEAN) {
+                L10NHelpers.UnlocalizedString error = new L10NHelpers.UnlocalizedString(
+                        L10NValues.VALUETYPE_ERROR_WRONGPREDICATE,
+                        Operators.OPERATOR_FILTER.getLocalizedNameFull(),
+                        result.getType(), ValueTypes.BOOLEAN);
+                throw new EvaluationException(error.localize());
+            }
+            return ((ValueTypeBoolean.ValueBoolean) result).getRawValue();
+        }
+
+        @Override
+        public String toString() {
+            return (filter ? "filter " : "map ") + operator;
+        }
+    }
+}
@@ -7,6 +7,7 @@ import org.cyclops.cyclopscore.persist.nbt.INBTProvider;
 import org.cyclops.cyclopscore.persist.nbt.NBTClassType;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValueType;
+import org.cyclops.integrateddynamics.core.network.ParallelEvaluation;
 
 /**
  * A list proxy for a certain position.
@@ -35,6 +36,8 @@ public abstract class ValueTypeListProxyPositioned<T extends IValueType<V>, V ex
     }
 
     protected DimPos getPos() {
+        // The position is only needed to read from the world.
+        ParallelEvaluation.checkWorldAccess();
         return pos;
     }
 
@@ -5,8 +5,8 @@ import net.minecraftforge.fluids.capability.CapabilityFluidHandler;
 import net.minecraftforge.fluids.capability.IFluidHandler;
 import net.minecraftforge.fluids.capability.IFluidTankProperties;
 import org.cyclops.cyclopscore.datastructure.DimPos;
-import org.cyclops.cyclopscore.helper.TileHelpers;
 import org.cyclops.cyclopscore.persist.nbt.INBTProvider;
+import org.cyclops.integrateddynamics.core.helper.CapabilityCache;
 
 /**
  * A list proxy for a tank's capacities at a certain position.
@@ -18,7 +18,7 @@ public class ValueTypeListProxyPositionedTankCapacities extends ValueTypeListPro
     }
 
     protected IFluidHandler getTank() {
-        return TileHelpers.getCapability(getPos().getWorld(), getPos().getBlockPos(), getSide(), CapabilityFluidHandler.FLUID_HANDLER_CAPABILITY);
+        return CapabilityCache.getInstance().getCapability(getPos().getWorld(), getPos().getBlockPos(), getSide(), CapabilityFluidHandler.FLUID_HANDLER_CAPABILITY);
     }
 
     @Override
@@ -1,6 +1,7 @@
 package org.cyclops.integrateddynamics.core.evaluate.variable;
 
 import net.minecraft.nbt.JsonToNBT;
+import net.minecraft.nbt.NBTBase;
 import net.minecraft.nbt.NBTException;
 import net.minecraft.nbt.NBTTagCompound;
 import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
@@ -37,7 +38,7 @@ public class ValueTypeListProxyTail<T extends IValueType<V>, V extends IValue> e
         return null;
     }
 
-    public static class Factory implements IValueTypeListProxyFactoryTypeRegistry.IProxyFactory<IValueType<IValue>, IValue, ValueTypeListProxyTail<IValueType<IValue>, IValue>> {
+    public static class Factory implements IValueTypeListProxyFactoryNbt<IValueType<IValue>, IValue, ValueTypeListProxyTail<IValueType<IValue>, IValue>> {
 
         @Override
         public String getName() {
@@ -46,21 +47,34 @@ public class ValueTypeListProxyTail<T extends IValueType<V>, V extends IValue> e
 
         @Override
         public String serialize(ValueTypeListProxyTail<IValueType<IValue>, IValue> values) throws IValueTypeListProxyFactoryTypeRegistry.SerializationException {
-            NBTTagCompound tag = new NBTTagCompound();
-            tag.setString("sublist", ValueTypeListProxyFactories.REGISTRY.serialize(values.list));
-            return tag.toString();
+            return serializeNbt(values).toString();
         }
 
         @Override
         public ValueTypeListProxyTail<IValueType<IValue>, IValue> deserialize(String data) throws IValueTypeListProxyFactoryTypeRegistry.SerializationException {
             try {
-                NBTTagCompound tag = JsonToNBT.getTagFromJson(data);
-                IValueTypeListProxy<IValueType<IValue>, IValue> list = ValueTypeListProxyFactories.REGISTRY.deserialize(tag.getString("sublist"));
-                return new ValueTypeListProxyTail<>(list);
+                return deserializeNbt(JsonToNBT.getTagFromJson(data));
             } catch (NBTException e) {
                 e.printStackTrace();
                 throw new IValueTypeListProxyFactoryTypeRegistry.SerializationException(e.getMessage());
             }
         }
+
+        @Override
+        public NBTTagCompound serializeNbt(ValueTypeListProxyTail<IValueType<IValue>, IValue> values) throws IValueTypeListProxyFactoryTypeRegistry.SerializationException {
+            NBTTagCompound tag = new NBTTagCompound();
+            tag.setTag("sublist", ValueTypeListProxyFactories.REGISTRY.serializeNbt(values.list));
+            return tag;
+        }
+
+        @Override
+        public ValueTypeListProxyTail<IValueType<IValue>, IValue> deserializeNbt(NBTBase value) throws IValueTypeListProxyFactoryTypeRegistry.SerializationException {
+            if(!(value instanceof NBTTagCompound)) {
+                throw new IValueTypeListProxyFactoryTypeRegistry.SerializationException(String.format("Could not deserialize the serialized tail list proxy value '%s'.", value));
+            }
+            NBTTagCompound tag = (NBTTagCompound) value;
+            IValueTypeListProxy<IValueType<IValue>, IValue> list = ValueTypeListProxyFactories.REGISTRY.deserializeNbt(tag.getTag("sublist"));
+            return new ValueTypeListProxyTail<>(list);
+        }
     }
 }
@@ -1,6 +1,9 @@
 package org.cyclops.integrateddynamics.core.evaluate.variable;
 
 import lombok.ToString;
+import net.minecraft.nbt.NBTBase;
+import net.minecraft.nbt.NBTPrimitive;
+import net.minecraft.nbt.NBTTagLong;
 import net.minecraft.util.text.TextFormatting;
 import org.cyclops.cyclopscore.helper.Helpers;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValueTypeNumber;
@@ -35,6 +38,19 @@ public class ValueTypeLong extends ValueTypeBase<ValueTypeLong.ValueLong> implem
         return ValueLong.of(Long.parseLong(value));
     }
 
+    @Override
+    public NBTBase serializeNbt(ValueLong value) {
+        return new NBTTagLong(value.getRawValue());
+    }
+
+    @Override
+    public ValueLong deserializeNbt(NBTBase value) {
+        if(value instanceof NBTPrimitive) {
+            return ValueLong.of(((NBTPrimitive) value).getLong());
+        }
+        return super.deserializeNbt(value);
+    }
+
     @Override
     public boolean isZero(ValueLong a) {
         return a.getRawValue() == 0L;
@@ -93,6 +109,15 @@ public class ValueTypeLong extends ValueTypeBase<ValueTypeLong.ValueLong> implem
     @ToString
     public static class ValueLong extends ValueBase {
 
+        private static final long CACHE_MIN = -128L;
+        private static final long CACHE_MAX = 1024L;
+        private static final ValueLong[] CACHE = new ValueLong[(int) (CACHE_MAX - CACHE_MIN) + 1];
+        static {
+            for (int i = 0; i < CACHE.length; i++) {
+                CACHE[i] = new ValueLong(CACHE_MIN + i);
+            }
+        }
+
         private final long value;
 
         private ValueLong(long value) {
@@ -100,7 +125,15 @@ public class ValueTypeLong extends ValueTypeBase<ValueTypeLong.ValueLong> implem
             this.value = value;
         }
 
+        /**
+         * Values in a small range around zero are interned, so they can be produced without allocation.
+         * @param value The raw value.
+         * @return The value.
+         */
         public static ValueLong of(long value) {
+            if (value >= CACHE_MIN && value <= CACHE_MAX) {
+                return CACHE[(int) (value - CACHE_MIN)];
+            }
             return new ValueLong(value);
         }
 
@@ -112,6 +145,11 @@ public class ValueTypeLong extends ValueTypeBase<ValueTypeLong.ValueLong> implem
         public boolean equals(Object o) {
             return o instanceof ValueLong && ((ValueLong) o).value == this.value;
         }
+
+        @Override
+        public int hashCode() {
+            return (int) (value ^ (value >>> 32));
+        }
     }
 
 }
@@ -3,16 +3,17 @@ package org.cyclops.integrateddynamics.core.evaluate.variable;
 import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValueType;
-import org.cyclops.integrateddynamics.api.evaluate.variable.IVariable;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IVariableVersioned;
 
 /**
  * A default variable implementation.
  * @author rubensworks
  */
-public class Variable<V extends IValue> implements IVariable<V> {
+public class Variable<V extends IValue> implements IVariableVersioned<V> {
 
     private final IValueType<V> type;
     private final V value;
+    private long version = -1;
 
     public Variable(IValueType<V> type, V value) {
         this.type = type;
@@ -28,4 +29,12 @@ public class Variable<V extends IValue> implements IVariable<V> {
     public V getValue() throws EvaluationException {
         return value;
     }
+
+    @Override
+    public long getVersion() {
+        if (version < 0) {
+            version = ValueHelpers.createVersion();
+        }
+        return version;
+    }
 }
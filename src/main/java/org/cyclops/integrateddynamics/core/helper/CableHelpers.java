@@ -10,7 +10,6 @@ import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.IBlockAccess;
 import net.minecraft.world.World;
 import org.cyclops.cyclopscore.helper.ItemStackHelpers;
-import org.cyclops.cyclopscore.helper.TileHelpers;
 import org.cyclops.integrateddynamics.api.block.IFacadeable;
 import org.cyclops.integrateddynamics.api.block.cable.ICable;
 import org.cyclops.integrateddynamics.api.block.cable.ICableFakeable;
@@ -44,7 +43,7 @@ public class CableHelpers {
      * @return The cable capability, or null if not present.
      */
     public static @Nullable ICable getCable(IBlockAccess world, BlockPos pos) {
-        return TileHelpers.getCapability(world, pos, CableConfig.CAPABILITY);
+        return CapabilityCache.getInstance().getCapability(world, pos, CableConfig.CAPABILITY);
     }
 
     /**
@@ -54,7 +53,7 @@ public class CableHelpers {
      * @return The fakeable cable capability, or null if not present.
      */
     public static @Nullable ICableFakeable getCableFakeable(IBlockAccess world, BlockPos pos) {
-        return TileHelpers.getCapability(world, pos, CableFakeableConfig.CAPABILITY);
+        return CapabilityCache.getInstance().getCapability(world, pos, CableFakeableConfig.CAPABILITY);
     }
 
     /**
@@ -64,7 +63,7 @@ public class CableHelpers {
      * @return The path element capability, or null if not present.
      */
     public static @Nullable IPathElement getPathElement(IBlockAccess world, BlockPos pos) {
-        return TileHelpers.getCapability(world, pos, PathElementConfig.CAPABILITY);
+        return CapabilityCache.getInstance().getCapability(world, pos, PathElementConfig.CAPABILITY);
     }
 
     /**
@@ -163,9 +162,8 @@ public class CableHelpers {
                 cable.updateConnections();
                 CableHelpers.updateConnectionsNeighbours(world, pos);
 
-                // Reinit the networks for this block and the disconnected neighbour.
-                NetworkHelpers.initNetwork(world, pos);
-                NetworkHelpers.initNetwork(world, pos.offset(cableConnectionHit));
+                // Split the network of this block and the disconnected neighbour if they are not connected anymore.
+                NetworkHelpers.splitNetworks(world, pos, pos.offset(cableConnectionHit));
                 return true;
             } else if (cableConnectionHit == null) {
                 // Reconnect cable side
@@ -183,9 +181,8 @@ public class CableHelpers {
                     cable.updateConnections();
                     CableHelpers.updateConnectionsNeighbours(world, pos);
 
-                    // Reinit the networks for this block and the connected neighbour.
-                    NetworkHelpers.initNetwork(world, pos);
-                    NetworkHelpers.initNetwork(world, neighbourPos);
+                    // Merge the networks for this block and the connected neighbour.
+                    NetworkHelpers.joinNetwork(world, pos);
                 }
                 return true;
             }
@@ -203,7 +200,7 @@ public class CableHelpers {
     public static void onCableAdded(World world, BlockPos pos) {
         CableHelpers.updateConnectionsNeighbours(world, pos);
         if(!world.isRemote) {
-            NetworkHelpers.initNetwork(world, pos);
+            NetworkHelpers.joinNetwork(world, pos);
         }
     }
 
@@ -252,11 +249,12 @@ public class CableHelpers {
     public static boolean onCableRemoved(World world, BlockPos pos) {
         updateConnectionsNeighbours(world, pos);
         if (!world.isRemote) {
-            // Reinit neighbouring networks.
+            // Split off the neighbouring parts that are not connected to their network anymore.
+            BlockPos[] sidePositions = new BlockPos[EnumFacing.VALUES.length];
             for(EnumFacing side : EnumFacing.VALUES) {
-                BlockPos sidePos = pos.offset(side);
-                NetworkHelpers.initNetwork(world, sidePos);
+                sidePositions[side.ordinal()] = pos.offset(side);
             }
+            NetworkHelpers.splitNetworks(world, sidePositions);
         }
         return true;
     }
@@ -301,7 +299,7 @@ public class CableHelpers {
      * @return If it has a facade.
      */
     public static boolean hasFacade(IBlockAccess world, BlockPos pos) {
-        IFacadeable facadeable = TileHelpers.getCapability(world, pos, null, FacadeableConfig.CAPABILITY);
+        IFacadeable facadeable = CapabilityCache.getInstance().getCapability(world, pos, null, FacadeableConfig.CAPABILITY);
         return facadeable != null && facadeable.hasFacade();
     }
 
@@ -312,7 +310,7 @@ public class CableHelpers {
      * @return The facade or null.
      */
     public static @Nullable IBlockState getFacade(IBlockAccess world, BlockPos pos) {
-        IFacadeable facadeable = TileHelpers.getCapability(world, pos, null, FacadeableConfig.CAPABILITY);
+        IFacadeable facadeable = CapabilityCache.getInstance().getCapability(world, pos, null, FacadeableConfig.CAPABILITY);
         return facadeable != null ? facadeable.getFacade() : null;
     }
 
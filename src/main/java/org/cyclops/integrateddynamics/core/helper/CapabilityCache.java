@@ -0,0 +1,274 @@
+package org.cyclops.integrateddynamics.core.helper;
+
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.EnumFacing;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.IBlockAccess;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraftforge.common.capabilities.Capability;
+import net.minecraftforge.event.world.BlockEvent;
+import net.minecraftforge.event.world.ChunkEvent;
+import net.minecraftforge.event.world.WorldEvent;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+import org.apache.commons.lang3.tuple.Pair;
+import org.cyclops.cyclopscore.datastructure.DimPos;
+import org.cyclops.cyclopscore.helper.TileHelpers;
+import org.cyclops.integrateddynamics.GeneralConfig;
+
+import javax.annotation.Nullable;
+import java.lang.ref.WeakReference;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Caches capabilities of tile entities by position, side and capability type,
+ * so that repeated lookups of the same capability do not have to go through the world.
+ *
+ * Only capabilities in server worlds are cached.
+ * Both the tile entity and the capability are held weakly, and an entry is only used
+ * while its tile entity is still valid.
+ * Entries are removed when their chunk is unloaded and when a block notifies its neighbours of a change.
+ * The cached positions are indexed by chunk, so that unloading a chunk does not have to go over all entries.
+ * @author rubensworks
+ */
+public final class CapabilityCache {
+
+    private static CapabilityCache INSTANCE;
+
+    private final ConcurrentMap<Pair<Integer, BlockPos>, ConcurrentMap<Pair<EnumFacing, Capability<?>>, Entry>> entries
+            = Maps.newConcurrentMap();
+    private final ConcurrentMap<Pair<Integer, ChunkPos>, Set<BlockPos>> chunkPositions = Maps.newConcurrentMap();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    private CapabilityCache() {
+
+    }
+
+    public static CapabilityCache getInstance() {
+        if(INSTANCE == null) {
+            INSTANCE = new CapabilityCache();
+        }
+        return INSTANCE;
+    }
+
+    /**
+     * Get the capability at the given position.
+     * @param world The world.
+     * @param pos The position.
+     * @param side The side, can be null.
+     * @param capability The capability type.
+     * @param <C> The capability instance type.
+     * @return The capability, or null if not present.
+     */
+    public <C> C getCapability(IBlockAccess world, BlockPos pos, @Nullable EnumFacing side, Capability<C> capability) {
+        if(!GeneralConfig.cacheCapabilities || !(world instanceof World) || ((World) world).isRemote) {
+            return TileHelpers.getCapability(world, pos, side, capability);
+        }
+        Pair<Integer, BlockPos> posKey = Pair.of(((World) world).provider.getDimension(), pos);
+        Pair<EnumFacing, Capability<?>> handleKey = Pair.<EnumFacing, Capability<?>>of(side, capability);
+        ConcurrentMap<Pair<EnumFacing, Capability<?>>, Entry> posEntries = entries.get(posKey);
+        if(posEntries != null) {
+            Entry entry = posEntries.get(handleKey);
+            if(entry != null) {
+                Object instance = entry.get();
+                if(instance != null) {
+                    hits.incrementAndGet();
+                    return capability.cast(instance);
+                }
+                posEntries.remove(handleKey, entry);
+            }
+        }
+        misses.incrementAndGet();
+        TileEntity tile = world.getTileEntity(pos);
+        if(tile == null || !tile.hasCapability(capability, side)) {
+            return null;
+        }
+        C instance = tile.getCapability(capability, side);
+        if(instance != null) {
+            if(posEntries == null) {
+                posEntries = Maps.newConcurrentMap();
+                BlockPos immutablePos = pos.toImmutable();
+                ConcurrentMap<Pair<EnumFacing, Capability<?>>, Entry> existing = entries.putIfAbsent(
+                        Pair.of(posKey.getLeft(), immutablePos), posEntries);
+                if(existing != null) {
+                    posEntries = existing;
+                } else {
+                    getChunkPositions(posKey.getLeft(), immutablePos).add(immutablePos);
+                }
+            }
+            posEntries.put(handleKey, new Entry(tile, instance));
+        }
+        return instance;
+    }
+
+    /**
+     * Get the capability at the given position.
+     * @param world The world.
+     * @param pos The position.
+     * @param capability The capability type.
+     * @param <C> The capability instance type.
+     * @return The capability, or null if not present.
+     */
+    public <C> C getCapability(IBlockAccess world, BlockPos pos, Capability<C> capability) {
+        return getCapability(world, pos, null, capability);
+    }
+
+    /**
+     * Get the capability at the given position.
+     * @param dimPos The dimensional position.
+     * @param side The side, can be null.
+     * @param capability The capability type.
+     * @param <C> The capability instance type.
+     * @return The capability, or null if not present.
+     */
+    public <C> C getCapability(DimPos dimPos, @Nullable EnumFacing side, Capability<C> capability) {
+        return getCapability(dimPos.getWorld(), dimPos.getBlockPos(), side, capability);
+    }
+
+    /**
+     * Get the capability at the given position.
+     * @param dimPos The dimensional position.
+     * @param capability The capability type.
+     * @param <C> The capability instance type.
+     * @return The capability, or null if not present.
+     */
+    public <C> C getCapability(DimPos dimPos, Capability<C> capability) {
+        return getCapability(dimPos, null, capability);
+    }
+
+    /**
+     * Get the cached positions in the chunk of the given position, creating the set if needed.
+     * @param dimension The dimension id.
+     * @param pos The position.
+     * @return The positions with cached capabilities in the chunk.
+     */
+    private Set<BlockPos> getChunkPositions(int dimension, BlockPos pos) {
+        Pair<Integer, ChunkPos> chunkKey = Pair.of(dimension, new ChunkPos(pos));
+        Set<BlockPos> positions = chunkPositions.get(chunkKey);
+        if(positions == null) {
+            positions = Sets.newSetFromMap(Maps.<BlockPos, Boolean>newConcurrentMap());
+            Set<BlockPos> existing = chunkPositions.putIfAbsent(chunkKey, positions);
+            if(existing != null) {
+                positions = existing;
+            }
+        }
+        return positions;
+    }
+
+    /**
+     * Remove all cached capabilities at the given position.
+     * @param world The world.
+     * @param pos The position.
+     */
+    public void invalidate(World world, BlockPos pos) {
+        int dimension = world.provider.getDimension();
+        if(entries.remove(Pair.of(dimension, pos)) != null) {
+            Set<BlockPos> positions = chunkPositions.get(Pair.of(dimension, new ChunkPos(pos)));
+            if(positions != null) {
+                positions.remove(pos);
+            }
+        }
+    }
+
+    /**
+     * Remove all cached capabilities.
+     */
+    public void clear() {
+        entries.clear();
+        chunkPositions.clear();
+    }
+
+    /**
+     * @return The number of lookups that were served from the cache.
+     */
+    public long getHits() {
+        return hits.get();
+    }
+
+    /**
+     * @return The number of lookups that had to go through the world.
+     */
+    public long getMisses() {
+        return misses.get();
+    }
+
+    /**
+     * Reset the hit and miss counters.
+     */
+    public void resetCounters() {
+        hits.set(0);
+        misses.set(0);
+    }
+
+    @SubscribeEvent
+    public void onNeighborNotify(BlockEvent.NeighborNotifyEvent event) {
+        if(!event.getWorld().isRemote) {
+            invalidate(event.getWorld(), event.getPos());
+            for(EnumFacing side : event.getNotifiedSides()) {
+                invalidate(event.getWorld(), event.getPos().offset(side));
+            }
+        }
+    }
+
+    @SubscribeEvent
+    public void onChunkUnload(ChunkEvent.Unload event) {
+        if(!event.getWorld().isRemote) {
+            Chunk chunk = event.getChunk();
+            int dimension = event.getWorld().provider.getDimension();
+            Set<BlockPos> positions = chunkPositions.remove(Pair.of(dimension, new ChunkPos(chunk.xPosition, chunk.zPosition)));
+            if(positions != null) {
+                for(BlockPos pos : positions) {
+                    entries.remove(Pair.of(dimension, pos));
+                }
+            }
+        }
+    }
+
+    @SubscribeEvent
+    public void onWorldUnload(WorldEvent.Unload event) {
+        if(!event.getWorld().isRemote) {
+            int dimension = event.getWorld().provider.getDimension();
+            Iterator<Pair<Integer, BlockPos>> it = entries.keySet().iterator();
+            while(it.hasNext()) {
+                if(it.next().getLeft() == dimension) {
+                    it.remove();
+                }
+            }
+            Iterator<Pair<Integer, ChunkPos>> itChunks = chunkPositions.keySet().iterator();
+            while(itChunks.hasNext()) {
+                if(itChunks.next().getLeft() == dimension) {
+                    itChunks.remove();
+                }
+            }
+        }
+    }
+
+    /**
+     * A cached capability, which is only valid as long as its tile entity is valid.
+     */
+    private static class Entry {
+        private final WeakReference<TileEntity> tile;
+        private final WeakReference<Object> instance;
+
+        public Entry(TileEntity tile, Object instance) {
+            this.tile = new WeakReference<>(tile);
+            this.instance = new WeakReference<>(instance);
+        }
+
+        public @Nullable Object get() {
+            TileEntity tile = this.tile.get();
+            if(tile == null || tile.isInvalid()) {
+                return null;
+            }
+            return instance.get();
+        }
+    }
+
+}
@@ -7,7 +7,6 @@ import net.minecraft.world.IBlockAccess;
 import net.minecraft.world.World;
 import net.minecraftforge.energy.CapabilityEnergy;
 import net.minecraftforge.energy.IEnergyStorage;
-import org.cyclops.cyclopscore.helper.TileHelpers;
 
 import javax.annotation.Nullable;
 import java.util.List;
@@ -25,7 +24,7 @@ public class EnergyHelpers {
     }
 
     public static IEnergyStorage getEnergyStorage(IBlockAccess world, BlockPos pos, EnumFacing facing) {
-        IEnergyStorage energyStorage = TileHelpers.getCapability(world, pos, facing, CapabilityEnergy.ENERGY);
+        IEnergyStorage energyStorage = CapabilityCache.getInstance().getCapability(world, pos, facing, CapabilityEnergy.ENERGY);
         if (energyStorage == null) {
             for (IEnergyStorageProxy energyStorageProxy : ENERGY_STORAGE_PROXIES) {
                 energyStorage = energyStorageProxy.getEnergyStorageProxy(world, pos, facing);
@@ -1,11 +1,13 @@
 package org.cyclops.integrateddynamics.core.helper;
 
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
 import net.minecraft.block.Block;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.IBlockAccess;
 import net.minecraft.world.World;
-import org.cyclops.cyclopscore.helper.TileHelpers;
 import org.cyclops.integrateddynamics.api.network.*;
 import org.cyclops.integrateddynamics.api.path.IPathElement;
 import org.cyclops.integrateddynamics.capability.network.EnergyNetworkConfig;
@@ -16,6 +18,9 @@ import org.cyclops.integrateddynamics.capability.path.PathElementConfig;
 import org.cyclops.integrateddynamics.core.network.Network;
 
 import javax.annotation.Nullable;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * Network helper methods.
@@ -31,7 +36,7 @@ public class NetworkHelpers {
      */
     @SuppressWarnings("unchecked")
     public static INetworkCarrier getNetworkCarrier(IBlockAccess world, BlockPos pos) {
-        return TileHelpers.getCapability(world, pos, NetworkCarrierConfig.CAPABILITY);
+        return CapabilityCache.getInstance().getCapability(world, pos, NetworkCarrierConfig.CAPABILITY);
     }
 
     /**
@@ -42,7 +47,7 @@ public class NetworkHelpers {
      */
     @SuppressWarnings("unchecked")
     public static INetworkElementProvider getNetworkElementProvider(IBlockAccess world, BlockPos pos) {
-        return TileHelpers.getCapability(world, pos, NetworkElementProviderConfig.CAPABILITY);
+        return CapabilityCache.getInstance().getCapability(world, pos, NetworkElementProviderConfig.CAPABILITY);
     }
 
     /**
@@ -91,7 +96,7 @@ public class NetworkHelpers {
      * Can be null if the starting position did not have a {@link IPathElement} capability.
      */
     public static @Nullable INetwork initNetwork(World world, BlockPos pos) {
-        IPathElement pathElement = TileHelpers.getCapability(world, pos, null, PathElementConfig.CAPABILITY);
+        IPathElement pathElement = CapabilityCache.getInstance().getCapability(world, pos, null, PathElementConfig.CAPABILITY);
         if (pathElement != null) {
             Network network = Network.initiateNetworkSetup(pathElement);
             network.initialize();
@@ -100,6 +105,93 @@ public class NetworkHelpers {
         return null;
     }
 
+    /**
+     * Connect the path element at the given position to the networks of the path elements it can reach.
+     * Instead of re-deriving all connected networks,
+     * the smaller networks and the given path element are moved into the largest reachable network.
+     * If no network can be reached, a new network is formed.
+     * @param world The world.
+     * @param pos The position of the path element.
+     * @return The network the path element is part of,
+     * can be null if the position did not have a {@link IPathElement} capability.
+     */
+    public static @Nullable INetwork joinNetwork(World world, BlockPos pos) {
+        IPathElement pathElement = CapabilityCache.getInstance().getCapability(world, pos, null, PathElementConfig.CAPABILITY);
+        if (pathElement == null) {
+            return null;
+        }
+
+        // Find all distinct networks this path element is connected to.
+        Set<Network> networks = Sets.newIdentityHashSet();
+        List<IPathElement> candidates = Lists.newArrayList(pathElement.getReachableElements());
+        candidates.add(pathElement);
+        for (IPathElement candidate : candidates) {
+            INetwork network = getNetwork(candidate.getPosition().getWorld(), candidate.getPosition().getBlockPos());
+            if (network == null) {
+                if (candidate != pathElement) {
+                    // A connected path element without a network can only be handled by a full initialization.
+                    return initNetwork(world, pos);
+                }
+            } else if (!(network instanceof Network) || network.isKilled()) {
+                return initNetwork(world, pos);
+            } else {
+                networks.add((Network) network);
+            }
+        }
+        if (networks.isEmpty()) {
+            return initNetwork(world, pos);
+        }
+
+        // Merge everything into the largest network.
+        Network target = null;
+        for (Network network : networks) {
+            if (target == null || network.getCablesCount() > target.getCablesCount()) {
+                target = network;
+            }
+        }
+        for (Network network : networks) {
+            if (network != target) {
+                target.merge(network);
+            }
+        }
+        if (!target.containsPathElement(pathElement)) {
+            target.addPathElement(pathElement);
+        }
+        return target;
+    }
+
+    /**
+     * Update the networks of the path elements at the given positions
+     * after connections between them have been removed, for example because a path element in between was removed.
+     * Only the parts that are not connected anymore to their original network will be moved to new networks.
+     * Positions with a path element but without a network will have a new network formed.
+     * @param world The world.
+     * @param positions The positions of path elements that may have been connected before.
+     */
+    public static void splitNetworks(World world, BlockPos... positions) {
+        Map<Network, List<IPathElement>> heads = Maps.newIdentityHashMap();
+        for (BlockPos pos : positions) {
+            IPathElement pathElement = CapabilityCache.getInstance().getCapability(world, pos, null, PathElementConfig.CAPABILITY);
+            if (pathElement != null) {
+                INetwork network = getNetwork(world, pos);
+                if (network instanceof Network && !network.isKilled()
+                        && ((Network) network).containsPathElement(pathElement)) {
+                    List<IPathElement> networkHeads = heads.get(network);
+                    if (networkHeads == null) {
+                        networkHeads = Lists.newArrayList();
+                        heads.put((Network) network, networkHeads);
+                    }
+                    networkHeads.add(pathElement);
+                } else {
+                    initNetwork(world, pos);
+                }
+            }
+        }
+        for (Map.Entry<Network, List<IPathElement>> entry : heads.entrySet()) {
+            entry.getKey().split(entry.getValue());
+        }
+    }
+
     /**
      * This MUST be called by blocks having the {@link INetworkElementProvider} capability in
      * when a neighbouring block is updated, more specifically when
@@ -15,7 +15,6 @@ import org.apache.commons.lang3.tuple.Pair;
 import org.apache.logging.log4j.Level;
 import org.cyclops.cyclopscore.datastructure.DimPos;
 import org.cyclops.cyclopscore.helper.MinecraftHelpers;
-import org.cyclops.cyclopscore.helper.TileHelpers;
 import org.cyclops.integrateddynamics.IntegratedDynamics;
 import org.cyclops.integrateddynamics.api.block.cable.ICableFakeable;
 import org.cyclops.integrateddynamics.api.network.INetwork;
@@ -41,7 +40,7 @@ public class PartHelpers {
      * @return The part container capability, or null if not present.
      */
     public static @Nullable IPartContainer getPartContainer(IBlockAccess world, BlockPos pos) {
-        return TileHelpers.getCapability(world, pos, PartContainerConfig.CAPABILITY);
+        return CapabilityCache.getInstance().getCapability(world, pos, PartContainerConfig.CAPABILITY);
     }
 
     /**
@@ -50,7 +49,7 @@ public class PartHelpers {
      * @return The part container capability, or null if not present.
      */
     public static @Nullable IPartContainer getPartContainer(DimPos dimPos) {
-        return TileHelpers.getCapability(dimPos, PartContainerConfig.CAPABILITY);
+        return CapabilityCache.getInstance().getCapability(dimPos, PartContainerConfig.CAPABILITY);
     }
 
     /**
@@ -235,7 +234,7 @@ public class PartHelpers {
             if (CableHelpers.getCable(world, pos.offset(side)) != null) {
                 CableHelpers.updateConnections(world, pos);
                 CableHelpers.updateConnections(world, pos.offset(side));
-                NetworkHelpers.initNetwork(world, pos);
+                NetworkHelpers.joinNetwork(world, pos);
             }
         }
 
@@ -0,0 +1,64 @@
+package org.cyclops.integrateddynamics.core.inventory.container;
+
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.nbt.NBTTagCompound;
+import org.cyclops.cyclopscore.helper.ValueNotifierHelpers;
+import org.cyclops.integrateddynamics.api.part.IPartContainer;
+import org.cyclops.integrateddynamics.api.part.IPartType;
+import org.cyclops.integrateddynamics.api.part.PartTarget;
+import org.cyclops.integrateddynamics.core.part.panel.PartTypePanelVariableDriven;
+
+/**
+ * Container for the settings of variable-driven panels.
+ * In addition to the update interval, which is the minimal interval between value changes,
+ * panels have a threshold for numerical value changes.
+ * This threshold can be a decimal number, so it is synced as a string.
+ * @author rubensworks
+ */
+public class ContainerPartPanelSettings extends ContainerPartSettings {
+
+    private final int lastChangeThresholdValueId;
+
+    /**
+     * Make a new instance.
+     * @param target The target.
+     * @param player The player.
+     * @param partContainer The part container.
+     * @param partType The part type.
+     */
+    public ContainerPartPanelSettings(EntityPlayer player, PartTarget target, IPartContainer partContainer, IPartType partType) {
+        super(player, target, partContainer, partType);
+        lastChangeThresholdValueId = getNextValueId();
+    }
+
+    public int getLastChangeThresholdValueId() {
+        return lastChangeThresholdValueId;
+    }
+
+    public PartTypePanelVariableDriven.State getPanelState() {
+        return (PartTypePanelVariableDriven.State) getPartState();
+    }
+
+    @Override
+    protected void initializeValues() {
+        super.initializeValues();
+        ValueNotifierHelpers.setValue(this, lastChangeThresholdValueId, Double.toString(getPanelState().getChangeThreshold()));
+    }
+
+    public double getLastChangeThresholdValue() {
+        try {
+            double value = Double.parseDouble(ValueNotifierHelpers.getValueString(this, lastChangeThresholdValueId));
+            return Double.isNaN(value) || Double.isInfinite(value) ? 0 : value;
+        } catch (NumberFormatException | NullPointerException e) {
+            return 0;
+        }
+    }
+
+    @Override
+    public void onUpdate(int valueId, NBTTagCompound value) {
+        super.onUpdate(valueId, value);
+        if(!getWorld().isRemote) {
+            getPanelState().setChangeThreshold(Math.max(0, getLastChangeThresholdValue()));
+        }
+    }
+}
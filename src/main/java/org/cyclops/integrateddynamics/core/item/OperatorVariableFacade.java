@@ -59,7 +59,7 @@ public class OperatorVariableFacade extends VariableFacadeBase implements IOpera
                 IVariable[] variables = new IVariable[variableIds.length];
                 for (int i = 0; i < variableIds.length; i++) {
                     int variableId = variableIds[i];
-                    if (!network.hasVariableFacade(variableId)) {
+                    if (!network.hasVariableFacade(variableId) || network.isVariableCyclic(variableId)) {
                         return null;
                     }
                     IVariableFacade variableFacade = network.getVariableFacade(variableId);
@@ -104,7 +104,8 @@ public class OperatorVariableFacade extends VariableFacadeBase implements IOpera
                 } else {
                     // Check variable represented by this id is valid.
                     IVariableFacade variableFacade = network.getVariableFacade(variableId);
-                    if(variableFacade == this) {
+                    // Cycles are detected when variables are added to the network, so they don't have to be followed here.
+                    if(variableFacade == this || network.isVariableCyclic(variableId)) {
                         validator.addError(new L10NHelpers.UnlocalizedString(L10NValues.OPERATOR_ERROR_CYCLICREFERENCE,
                                 Integer.toString(variableId)));
                         checkFurther = false;
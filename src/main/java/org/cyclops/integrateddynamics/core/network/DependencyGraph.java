@@ -0,0 +1,129 @@
+package org.cyclops.integrateddynamics.core.network;
+
+import com.google.common.collect.HashMultimap;
+import com.google.common.collect.Lists;
+import com.google.common.collect.SetMultimap;
+import com.google.common.collect.Sets;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Set;
+
+/**
+ * A graph of nodes that depend on other nodes.
+ *
+ * Cycles are allowed, but they are detected when dependencies are changed,
+ * so that nodes can cheaply be checked for being part of a cycle with {@link #isCyclic(Object)}.
+ * A node is part of a cycle if its strongly connected component has more than one node,
+ * or if it depends on itself.
+ * @param <K> The node type.
+ * @author rubensworks
+ */
+public class DependencyGraph<K> {
+
+    private final SetMultimap<K, K> dependencies = HashMultimap.create();
+    private final SetMultimap<K, K> dependents = HashMultimap.create();
+    private final Set<K> cyclicNodes = Sets.newHashSet();
+
+    /**
+     * Replace the dependencies of the given node.
+     * @param node The node.
+     * @param nodeDependencies The nodes the given node depends on.
+     */
+    public void setDependencies(K node, Collection<K> nodeDependencies) {
+        // Only the outgoing edges of the given node change, so only the nodes in its component,
+        // before or after the change, can change their cycle state.
+        // All cycles through these nodes stay within this set, so the components are only searched within it.
+        Set<K> affected = getComponent(node, null);
+        for (K dependency : dependencies.removeAll(node)) {
+            dependents.remove(dependency, node);
+        }
+        for (K dependency : nodeDependencies) {
+            dependencies.put(node, dependency);
+            dependents.put(dependency, node);
+        }
+        affected.addAll(getComponent(node, null));
+        while (!affected.isEmpty()) {
+            K start = affected.iterator().next();
+            Set<K> component = getComponent(start, affected);
+            boolean cyclic = component.size() > 1 || dependencies.containsEntry(start, start);
+            for (K componentNode : component) {
+                if (cyclic) {
+                    cyclicNodes.add(componentNode);
+                } else {
+                    cyclicNodes.remove(componentNode);
+                }
+            }
+            affected.removeAll(component);
+        }
+    }
+
+    /**
+     * Remove the dependencies of the given node.
+     * Other nodes can still depend on the given node.
+     * @param node The node.
+     */
+    public void removeDependencies(K node) {
+        setDependencies(node, Collections.<K>emptySet());
+    }
+
+    /**
+     * @param node A node.
+     * @return The nodes the given node directly depends on.
+     */
+    public Set<K> getDependencies(K node) {
+        return Collections.unmodifiableSet(dependencies.get(node));
+    }
+
+    /**
+     * @param nodes The nodes to start from.
+     * @return The given nodes, and all nodes that directly or indirectly depend on them.
+     */
+    public Set<K> getTransitiveDependents(Collection<K> nodes) {
+        Set<K> visited = Sets.newHashSet(nodes);
+        Deque<K> queue = Lists.newLinkedList(nodes);
+        while (!queue.isEmpty()) {
+            for (K dependent : dependents.get(queue.removeFirst())) {
+                if (visited.add(dependent)) {
+                    queue.addLast(dependent);
+                }
+            }
+        }
+        return visited;
+    }
+
+    /**
+     * @param node A node.
+     * @return If the node directly or indirectly depends on itself.
+     */
+    public boolean isCyclic(K node) {
+        return cyclicNodes.contains(node);
+    }
+
+    /**
+     * @param node A node.
+     * @param within The nodes the search is limited to, or null if the search is not limited.
+     * @return The strongly connected component of the given node,
+     *         which are the nodes that both depend on the node and are a dependency of the node.
+     */
+    protected Set<K> getComponent(K node, Set<K> within) {
+        Set<K> component = getReachable(node, dependencies, within);
+        component.retainAll(getReachable(node, dependents, within));
+        return component;
+    }
+
+    protected Set<K> getReachable(K node, SetMultimap<K, K> edges, Set<K> within) {
+        Set<K> visited = Sets.newHashSet(Collections.singleton(node));
+        Deque<K> queue = Lists.newLinkedList(visited);
+        while (!queue.isEmpty()) {
+            for (K next : edges.get(queue.removeFirst())) {
+                if ((within == null || within.contains(next)) && visited.add(next)) {
+                    queue.addLast(next);
+                }
+            }
+        }
+        return visited;
+    }
+
+}
@@ -4,22 +4,30 @@ import lombok.Getter;
 import lombok.Setter;
 import net.minecraftforge.energy.CapabilityEnergy;
 import net.minecraftforge.energy.IEnergyStorage;
-import org.cyclops.cyclopscore.helper.TileHelpers;
 import org.cyclops.integrateddynamics.GeneralConfig;
 import org.cyclops.integrateddynamics.api.network.*;
 import org.cyclops.integrateddynamics.api.part.PartPos;
 import org.cyclops.integrateddynamics.api.path.IPathElement;
+import org.cyclops.integrateddynamics.core.helper.CapabilityCache;
 
 /**
  * A network that can hold energy.
+ *
+ * During a network tick, energy is handed out from a ledger instead of from the batteries directly.
+ * The energy that can be extracted from the batteries is determined once at the first request in a tick,
+ * and the energy that was consumed is extracted from the batteries in order of priority at the end of the tick.
  * @author rubensworks
  */
-public class EnergyNetwork extends PositionedAddonsNetwork implements IEnergyNetwork, IFullNetworkListener {
+public class EnergyNetwork extends PositionedAddonsNetwork implements IEnergyNetwork, IFullNetworkListener, IAfterUpdateListener {
 
     @Getter
     @Setter
     private INetwork network;
 
+    private boolean ledgerOpen = false;
+    private int ledgerAvailable = 0; // The energy that can still be consumed in this tick.
+    private int ledgerDrain = 0; // The energy that was consumed in this tick, but not yet extracted from the batteries.
+
     @Override
     public boolean addNetworkElement(INetworkElement element, boolean networkPreinit) {
         return true;
@@ -42,7 +50,54 @@ public class EnergyNetwork extends PositionedAddonsNetwork implements IEnergyNet
 
     @Override
     public void update() {
+        // The ledger should have been closed at the end of the previous tick, unless that tick was interrupted.
+        closeLedger();
+    }
+
+    @Override
+    public void afterUpdate() {
+        closeLedger();
+    }
 
+    /**
+     * Determine the energy that can be consumed in this tick, if this was not done yet.
+     */
+    protected void openLedger() {
+        if (!ledgerOpen) {
+            ledgerAvailable = extractEnergyBatteries(Integer.MAX_VALUE, true);
+            ledgerDrain = 0;
+            ledgerOpen = true;
+        }
+    }
+
+    /**
+     * Extract the energy that was consumed in this tick from the batteries.
+     */
+    protected void closeLedger() {
+        if (ledgerOpen) {
+            ledgerOpen = false;
+            if (ledgerDrain > 0) {
+                extractEnergyBatteries(ledgerDrain, false);
+            }
+            ledgerAvailable = 0;
+            ledgerDrain = 0;
+        }
+    }
+
+    /**
+     * Consume energy from the ledger.
+     * @param energy The energy to consume.
+     * @param simulate If the consumption should be simulated.
+     * @return The consumed energy.
+     */
+    protected int consumeEnergy(int energy, boolean simulate) {
+        openLedger();
+        int consumed = Math.min(energy, ledgerAvailable);
+        if (!simulate) {
+            ledgerAvailable -= consumed;
+            ledgerDrain += consumed;
+        }
+        return consumed;
     }
 
     @Override
@@ -66,7 +121,7 @@ public class EnergyNetwork extends PositionedAddonsNetwork implements IEnergyNet
         int multiplier = GeneralConfig.energyConsumptionMultiplier;
         if(multiplier == 0) return true;
         int consumptionRate = ((IEnergyConsumingNetworkElement) element).getConsumptionRate() * multiplier;
-        return extractEnergy(consumptionRate, true) == consumptionRate;
+        return consumeEnergy(consumptionRate, true) == consumptionRate;
     }
 
     @Override
@@ -82,7 +137,7 @@ public class EnergyNetwork extends PositionedAddonsNetwork implements IEnergyNet
             int multiplier = GeneralConfig.energyConsumptionMultiplier;
             if (multiplier > 0) {
                 int consumptionRate = ((IEnergyConsumingNetworkElement) element).getConsumptionRate() * multiplier;
-                extractEnergy(consumptionRate, false);
+                consumeEnergy(consumptionRate, false);
             }
             ((IEnergyConsumingNetworkElement) element).postUpdate(getNetwork(), true);
         }
@@ -103,6 +158,9 @@ public class EnergyNetwork extends PositionedAddonsNetwork implements IEnergyNet
                 energy = addSafe(energy, energyStorage.getEnergyStored());
             }
         }
+        if (ledgerOpen) {
+            energy = Math.max(0, energy - ledgerDrain);
+        }
         return energy;
     }
 
@@ -130,6 +188,11 @@ public class EnergyNetwork extends PositionedAddonsNetwork implements IEnergyNet
 
     @Override
     public int receiveEnergy(int energy, boolean simulate) {
+        if (ledgerOpen && !simulate && ledgerDrain > 0) {
+            // Make room in the batteries for the energy that was already consumed in this tick.
+            extractEnergyBatteries(ledgerDrain, false);
+            ledgerDrain = 0;
+        }
         int toAdd = energy;
         for(PrioritizedPartPos partPos : getPositions()) {
             IEnergyStorage energyStorage = getEnergyStorage(partPos);
@@ -137,11 +200,23 @@ public class EnergyNetwork extends PositionedAddonsNetwork implements IEnergyNet
                 toAdd -= energyStorage.receiveEnergy(toAdd, simulate);
             }
         }
-        return energy - toAdd;
+        int received = energy - toAdd;
+        if (ledgerOpen && !simulate) {
+            // Energy that is received during a tick can be consumed in that same tick.
+            ledgerAvailable = addSafe(ledgerAvailable, received);
+        }
+        return received;
     }
 
     @Override
     public int extractEnergy(int energy, boolean simulate) {
+        if (ledgerOpen) {
+            return consumeEnergy(energy, simulate);
+        }
+        return extractEnergyBatteries(energy, simulate);
+    }
+
+    protected int extractEnergyBatteries(int energy, boolean simulate) {
         int toConsume = energy;
         for(PrioritizedPartPos partPos : getPositions()) {
             IEnergyStorage energyStorage = getEnergyStorage(partPos);
@@ -154,7 +229,7 @@ public class EnergyNetwork extends PositionedAddonsNetwork implements IEnergyNet
 
     @Override
     public boolean addPosition(PartPos pos, int priority) {
-        IEnergyStorage energyStorage = TileHelpers.getCapability(pos.getPos(), pos.getSide(), CapabilityEnergy.ENERGY);
+        IEnergyStorage energyStorage = CapabilityCache.getInstance().getCapability(pos.getPos(), pos.getSide(), CapabilityEnergy.ENERGY);
         return energyStorage != null && super.addPosition(pos, priority);
     }
 
@@ -170,6 +245,6 @@ public class EnergyNetwork extends PositionedAddonsNetwork implements IEnergyNet
     }
 
     protected static IEnergyStorage getEnergyStorage(PrioritizedPartPos pos) {
-        return TileHelpers.getCapability(pos.getPartPos().getPos(), pos.getPartPos().getSide(), CapabilityEnergy.ENERGY);
+        return CapabilityCache.getInstance().getCapability(pos.getPartPos().getPos(), pos.getPartPos().getSide(), CapabilityEnergy.ENERGY);
     }
 }
@@ -0,0 +1,17 @@
+package org.cyclops.integrateddynamics.core.network;
+
+import org.cyclops.integrateddynamics.api.network.IFullNetworkListener;
+
+/**
+ * Can be implemented next to {@link IFullNetworkListener} by network capabilities
+ * that need to be notified at the end of each network tick.
+ * @author rubensworks
+ */
+public interface IAfterUpdateListener {
+
+    /**
+     * Called at the end of each network tick, after all network elements that were due have been visited.
+     */
+    public void afterUpdate();
+
+}
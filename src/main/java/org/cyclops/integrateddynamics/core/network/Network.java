@@ -6,22 +6,35 @@ import com.google.common.collect.Sets;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
+import net.minecraft.world.WorldServer;
+import net.minecraftforge.common.DimensionManager;
 import net.minecraftforge.common.MinecraftForge;
 import net.minecraftforge.common.capabilities.Capability;
 import net.minecraftforge.common.capabilities.CapabilityDispatcher;
 import org.apache.logging.log4j.Level;
 import org.cyclops.cyclopscore.helper.TileHelpers;
 import org.cyclops.integrateddynamics.IntegratedDynamics;
+import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IVariable;
 import org.cyclops.integrateddynamics.api.network.*;
 import org.cyclops.integrateddynamics.api.network.event.INetworkEvent;
 import org.cyclops.integrateddynamics.api.network.event.INetworkEventBus;
+import org.cyclops.integrateddynamics.api.part.aspect.IAspectRead;
+import org.cyclops.integrateddynamics.api.part.aspect.IAspectVariable;
+import org.cyclops.integrateddynamics.api.part.read.IPartStateReader;
+import org.cyclops.integrateddynamics.api.part.read.IPartTypeReader;
+import org.cyclops.integrateddynamics.api.part.write.IPartStateWriter;
+import org.cyclops.integrateddynamics.api.part.write.IPartTypeWriter;
 import org.cyclops.integrateddynamics.api.path.IPathElement;
 import org.cyclops.integrateddynamics.capability.network.NetworkCarrierConfig;
 import org.cyclops.integrateddynamics.capability.networkelementprovider.NetworkElementProviderConfig;
+import org.cyclops.integrateddynamics.core.helper.NetworkHelpers;
 import org.cyclops.integrateddynamics.core.network.diagnostics.NetworkDiagnostics;
+import org.cyclops.integrateddynamics.core.network.diagnostics.NetworkProfiler;
 import org.cyclops.integrateddynamics.core.network.event.NetworkElementAddEvent;
 import org.cyclops.integrateddynamics.core.network.event.NetworkElementRemoveEvent;
 import org.cyclops.integrateddynamics.core.network.event.NetworkEventBus;
+import org.cyclops.integrateddynamics.core.part.aspect.LazyAspectVariable;
 import org.cyclops.integrateddynamics.core.path.Cluster;
 import org.cyclops.integrateddynamics.core.path.PathFinder;
 import org.cyclops.integrateddynamics.core.persist.world.NetworkWorldStorage;
@@ -40,12 +53,19 @@ public class Network implements INetwork {
     private final INetworkEventBus eventBus = new NetworkEventBus();
     private final TreeSet<INetworkElement> elements = Sets.newTreeSet();
     private TreeSet<INetworkElement> updateableElements = null;
-    private TreeMap<INetworkElement, Integer> updateableElementsTicks = null;
+    private TimingWheel<INetworkElement> updateableElementsTicks = null;
     private TreeSet<INetworkElement> invalidatedElements = Sets.newTreeSet();
     private Map<INetworkElement, Long> lastSecondDurations = Maps.newHashMap();
+    private List<INetworkElement> preparedElements = null;
+    private Map<INetworkElement, Long> preparedReaders = null;
+    private List<IVariable> preparedVariables = null;
+    private long preparedDuration = 0;
+    private Integer sleepingDimension = null;
+    private Set<Long> sleepingChunks = null;
 
     private final CapabilityDispatcher capabilityDispatcher;
     private IFullNetworkListener[] fullNetworkListeners;
+    private IAfterUpdateListener[] afterUpdateListeners;
 
     private volatile boolean changed = false;
     private volatile boolean killed = false;
@@ -103,6 +123,13 @@ public class Network implements INetwork {
         MinecraftForge.EVENT_BUS.post(event);
         List<IFullNetworkListener> listeners = event.getFullNetworkListeners();
         this.fullNetworkListeners = listeners.toArray(new IFullNetworkListener[listeners.size()]);
+        List<IAfterUpdateListener> afterUpdateListeners = Lists.newArrayList();
+        for (IFullNetworkListener listener : listeners) {
+            if (listener instanceof IAfterUpdateListener) {
+                afterUpdateListeners.add((IAfterUpdateListener) listener);
+            }
+        }
+        this.afterUpdateListeners = afterUpdateListeners.toArray(new IAfterUpdateListener[afterUpdateListeners.size()]);
         return event.getCapabilities().size() > 0 ? new CapabilityDispatcher(event.getCapabilities()) : null;
     }
 
@@ -119,32 +146,103 @@ public class Network implements INetwork {
     private void deriveNetworkElements(Cluster pathElements) {
         if(!killIfEmpty()) {
             for (IPathElement pathElement : pathElements) {
-                World world = pathElement.getPosition().getWorld();
-                BlockPos pos = pathElement.getPosition().getBlockPos();
-                INetworkCarrier networkCarrier = TileHelpers.getCapability(
-                        world, pos, null, NetworkCarrierConfig.CAPABILITY);
-                if (networkCarrier != null) {
-                    // Correctly remove any previously saved network in this carrier
-                    // and set the new network to this.
-                    INetwork network = networkCarrier.getNetwork();
-                    if (network != null) {
-                        network.removePathElement(pathElement);
-                    }
-                    networkCarrier.setNetwork(null);
-                    networkCarrier.setNetwork(this);
-                }
-                INetworkElementProvider networkElementProvider = TileHelpers.getCapability(
-                        pathElement.getPosition(), null, NetworkElementProviderConfig.CAPABILITY);
-                if (networkElementProvider != null) {
-                    for(INetworkElement element : networkElementProvider.createNetworkElements(world, pos)) {
-                        addNetworkElement(element, true);
-                    }
-                }
+                derivePathElement(pathElement, true);
             }
             onNetworkChanged();
         }
     }
 
+    /**
+     * Move the given path element to this network and add all network elements it provides.
+     * @param pathElement The path element.
+     * @param networkPreinit If the network is still in its initialization phase.
+     * @return The network elements that were added.
+     */
+    protected List<INetworkElement> derivePathElement(IPathElement pathElement, boolean networkPreinit) {
+        List<INetworkElement> addedElements = Lists.newArrayList();
+        World world = pathElement.getPosition().getWorld();
+        BlockPos pos = pathElement.getPosition().getBlockPos();
+        INetworkCarrier networkCarrier = TileHelpers.getCapability(
+                world, pos, null, NetworkCarrierConfig.CAPABILITY);
+        if (networkCarrier != null) {
+            // Correctly remove any previously saved network in this carrier
+            // and set the new network to this.
+            INetwork network = networkCarrier.getNetwork();
+            if (network != null) {
+                network.removePathElement(pathElement);
+            }
+            networkCarrier.setNetwork(null);
+            networkCarrier.setNetwork(this);
+        }
+        INetworkElementProvider networkElementProvider = TileHelpers.getCapability(
+                pathElement.getPosition(), null, NetworkElementProviderConfig.CAPABILITY);
+        if (networkElementProvider != null) {
+            for(INetworkElement element : networkElementProvider.createNetworkElements(world, pos)) {
+                if (addNetworkElement(element, networkPreinit)) {
+                    addedElements.add(element);
+                }
+            }
+        }
+        return addedElements;
+    }
+
+    /**
+     * Add the given path element to this running network, together with the network elements it provides.
+     * If the path element was part of another network, it will be removed from that network.
+     * The other elements of this network are not touched.
+     * @param pathElement The path element to add.
+     */
+    public synchronized void addPathElement(IPathElement pathElement) {
+        List<INetworkElement> addedElements = derivePathElement(pathElement, false);
+        baseCluster.add(pathElement);
+        for (INetworkElement element : addedElements) {
+            element.afterNetworkAlive(this);
+            element.afterNetworkReAlive(this);
+        }
+        onNetworkChanged();
+    }
+
+    /**
+     * Move all path elements of the given network into this running network.
+     * Only the network elements of the given network will be moved,
+     * the elements of this network are not re-derived.
+     * The given network will be killed once it is empty.
+     * @param network The network to merge into this one.
+     */
+    public synchronized void merge(Network network) {
+        for (IPathElement pathElement : Lists.newArrayList(network.baseCluster)) {
+            addPathElement(pathElement);
+        }
+    }
+
+    /**
+     * Split off the parts of this network that are not connected anymore to the rest of this network,
+     * for example after a path element was removed.
+     * Only the path elements of the detached parts will be moved to new networks,
+     * the part that remains connected will not be re-derived.
+     * @param heads The path elements in this network that used to be connected to each other,
+     *              such as the neighbours of the removed path element.
+     * @return The newly created networks.
+     */
+    public synchronized List<Network> split(List<IPathElement> heads) {
+        List<Network> networks = Lists.newArrayList();
+        for (Cluster cluster : PathFinder.getDetachedClusters(heads)) {
+            Network network = new Network(cluster);
+            NetworkWorldStorage.getInstance(IntegratedDynamics._instance).addNewNetwork(network);
+            network.initialize();
+            networks.add(network);
+        }
+        return networks;
+    }
+
+    /**
+     * @param pathElement A path element.
+     * @return If the given path element is part of this network.
+     */
+    public boolean containsPathElement(IPathElement pathElement) {
+        return baseCluster.contains(pathElement);
+    }
+
     @Override
     public INetworkEventBus getEventBus() {
         return this.eventBus;
@@ -221,7 +319,8 @@ public class Network implements INetwork {
     public void addNetworkElementUpdateable(INetworkElement element) {
         if(element.isUpdate()) {
             updateableElements.add(element);
-            updateableElementsTicks.put(element, 0);
+            updateableElementsTicks.schedule(element, 0);
+            wakeUp();
         }
     }
 
@@ -238,10 +337,10 @@ public class Network implements INetwork {
     @Override
     public void setPriority(INetworkElement element, int priority) {
         elements.remove(element);
-        Integer oldTickValue = null;
+        int oldTickValue = -1;
         if (element.isUpdate()) {
             updateableElements.remove(element);
-            oldTickValue = updateableElementsTicks.remove(element);
+            oldTickValue = updateableElementsTicks.unschedule(element);
         }
 
         //noinspection deprecation
@@ -249,8 +348,8 @@ public class Network implements INetwork {
         elements.add(element);
         if (element.isUpdate()) {
             updateableElements.add(element);
-            if (oldTickValue != null) {
-                updateableElementsTicks.put(element, oldTickValue);
+            if (oldTickValue >= 0) {
+                updateableElementsTicks.schedule(element, oldTickValue);
             }
         }
     }
@@ -278,7 +377,7 @@ public class Network implements INetwork {
     @Override
     public void removeNetworkElementUpdateable(INetworkElement element) {
         updateableElements.remove(element);
-        updateableElementsTicks.remove(element);
+        updateableElementsTicks.unschedule(element);
     }
 
     /**
@@ -287,7 +386,7 @@ public class Network implements INetwork {
      */
     protected void initialize(boolean silent) {
         updateableElements = Sets.newTreeSet();
-        updateableElementsTicks = Maps.newTreeMap();
+        updateableElementsTicks = new TimingWheel<INetworkElement>();
         for(INetworkElement element : elements) {
             addNetworkElementUpdateable(element);
             if(!silent) {
@@ -347,15 +446,156 @@ public class Network implements INetwork {
         for (IFullNetworkListener fullNetworkListener : this.fullNetworkListeners) {
             fullNetworkListener.onSkipUpdate(element);
         }
+        if (NetworkProfiler.getInstance().isSampling()) {
+            NetworkProfiler.getInstance().recordSkip(this, element);
+        }
+    }
+
+    /**
+     * Called at the end of each network tick, after all network elements that were due have been visited.
+     */
+    protected void afterUpdate() {
+        for (IAfterUpdateListener afterUpdateListener : this.afterUpdateListeners) {
+            afterUpdateListener.afterUpdate();
+        }
+    }
+
+    @Override
+    public final synchronized void prepareUpdate() {
+        if (killed || elements.isEmpty() || preparedElements != null) {
+            return;
+        }
+        NetworkProfiler profiler = NetworkProfiler.getInstance();
+        long startTime = 0;
+        if (profiler.isSampling()) {
+            startTime = System.nanoTime();
+        }
+
+        onUpdate();
+
+        // Readers only invalidate their variables, so they can be updated in this phase already.
+        // Their aspects that are in use are read again right away,
+        // so that the variables of the other elements can be evaluated without reading the world.
+        // Energy consumption and rescheduling of the readers is left to the second phase.
+        preparedElements = Lists.newArrayList(updateableElementsTicks.advance());
+        preparedReaders = Maps.newIdentityHashMap();
+        preparedVariables = Lists.newArrayList();
+        for (INetworkElement element : preparedElements) {
+            if (element instanceof IPartNetworkElement && ((IPartNetworkElement) element).getPart() instanceof IPartTypeReader
+                    && canUpdate(element)) {
+                long elementStartTime = System.nanoTime();
+                element.update(this);
+                readUsedAspects((IPartNetworkElement) element);
+                preparedReaders.put(element, System.nanoTime() - elementStartTime);
+            }
+        }
+        for (INetworkElement element : preparedElements) {
+            if (!preparedReaders.containsKey(element)) {
+                IVariable variable = getPreparedVariable(element);
+                if (variable != null) {
+                    preparedVariables.add(variable);
+                }
+            }
+        }
+
+        if (profiler.isSampling()) {
+            preparedDuration = System.nanoTime() - startTime;
+        }
+    }
+
+    /**
+     * Read the aspects of the given reader of which the value was used before its update.
+     * @param element A reader element that was just updated.
+     */
+    protected void readUsedAspects(IPartNetworkElement element) {
+        IPartTypeReader partType = (IPartTypeReader) element.getPart();
+        IPartStateReader partState = (IPartStateReader) element.getPartState();
+        for (IAspectRead aspect : (List<IAspectRead>) partType.getReadAspects()) {
+            IAspectVariable variable = partState.getVariable(aspect);
+            if (variable instanceof LazyAspectVariable && ((LazyAspectVariable) variable).wasRead()) {
+                variable.getValue();
+            }
+        }
+    }
+
+    /**
+     * @param element An element that is due in this tick.
+     * @return The active variable of the given element if it is a writer that can update, otherwise null.
+     */
+    protected IVariable getPreparedVariable(INetworkElement element) {
+        if (element instanceof IPartNetworkElement && ((IPartNetworkElement) element).getPart() instanceof IPartTypeWriter) {
+            IPartNetworkElement partElement = (IPartNetworkElement) element;
+            IPartTypeWriter partType = (IPartTypeWriter) partElement.getPart();
+            IPartStateWriter partState = (IPartStateWriter) partElement.getPartState();
+            if (partState.hasVariable() && canUpdate(element)) {
+                return partType.getActiveVariable(NetworkHelpers.getPartNetwork(this), partElement.getTarget(), partState);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Evaluate the variables that were collected by {@link #prepareUpdate()},
+     * so that their values are cached when the elements are updated.
+     * This does not read from the world, and may be called off the server thread,
+     * concurrently with the evaluation of other networks.
+     * Evaluations that would have to read from the world are left to {@link #update()}.
+     */
+    public synchronized void evaluatePreparedVariables() {
+        if (preparedVariables == null) {
+            return;
+        }
+        NetworkProfiler profiler = NetworkProfiler.getInstance();
+        long startTime = 0;
+        if (profiler.isSampling()) {
+            startTime = System.nanoTime();
+        }
+
+        ParallelEvaluation.setActive(true);
+        try {
+            for (IVariable variable : preparedVariables) {
+                try {
+                    variable.getValue();
+                } catch (EvaluationException e) {
+                    // The error will be reported when the element is updated.
+                } catch (ParallelEvaluation.WorldAccessException e) {
+                    // The variable will be evaluated when the element is updated.
+                }
+            }
+        } finally {
+            ParallelEvaluation.setActive(false);
+            preparedVariables = null;
+        }
+
+        if (profiler.isSampling()) {
+            preparedDuration += System.nanoTime() - startTime;
+        }
     }
 
     @Override
     public final synchronized void update() {
         this.changed = false;
         if(killIfEmpty() || killed) {
+            preparedElements = null;
+            preparedReaders = null;
+            preparedVariables = null;
             NetworkWorldStorage.getInstance(IntegratedDynamics._instance).removeInvalidatedNetwork(this);
         } else {
-            onUpdate();
+            NetworkProfiler profiler = NetworkProfiler.getInstance();
+            long tickStartTime = 0;
+            if (profiler.isSampling()) {
+                tickStartTime = System.nanoTime();
+            }
+
+            Iterable<INetworkElement> dueElements;
+            if (preparedElements != null) {
+                // The first phase already advanced the tick.
+                dueElements = preparedElements;
+            } else {
+                onUpdate();
+                // Only visit the elements that are due this tick, in order of priority.
+                dueElements = updateableElementsTicks.advance();
+            }
 
             // Update updateable network elements
             boolean isBeingDiagnozed = NetworkDiagnostics.getInstance().isBeingDiagnozed();
@@ -363,36 +603,77 @@ public class Network implements INetwork {
                 // Make sure we aren't using any unnecessary memory.
                 lastSecondDurations.clear();
             }
-            for (INetworkElement element : updateableElements) {
-                long startTime = 0;
-                if (isBeingDiagnozed) {
-                    startTime = System.nanoTime();
-                }
-                int lastElementTick = updateableElementsTicks.get(element);
-                if (canUpdate(element)) {
-                    if(lastElementTick <= 0) {
-                        updateableElementsTicks.put(element, element.getUpdateInterval() - 1);
-                        element.update(this);
-                        postUpdate(element);
-                    } else {
-                        updateableElementsTicks.put(element, lastElementTick - 1);
-                    }
-                } else {
-                    onSkipUpdate(element);
-                    updateableElementsTicks.put(element, lastElementTick - 1);
-                }
-                if (isBeingDiagnozed) {
-                    long duration = System.nanoTime() - startTime;
-                    Long lastDuration = lastSecondDurations.get(element);
-                    if (lastDuration != null) {
-                        duration = duration + lastDuration;
-                    }
-                    lastSecondDurations.put(element, duration);
+            for (INetworkElement element : dueElements) {
+                updateElement(element, isBeingDiagnozed, profiler.isSampling());
+            }
+            afterUpdate();
+            preparedElements = null;
+            preparedReaders = null;
+            preparedVariables = null;
+
+            if (profiler.isSampling()) {
+                profiler.recordNetworkTick(this, System.nanoTime() - tickStartTime + preparedDuration);
+            }
+            preparedDuration = 0;
+
+            if (shouldSleep()) {
+                sleep();
+            }
+        }
+    }
+
+    /**
+     * Update the given element if it can update, and reschedule it.
+     * @param element An element that is due in this tick.
+     * @param isBeingDiagnozed If the duration should be stored for the diagnostics.
+     * @param isSampling If the duration should be recorded by the profiler.
+     */
+    protected void updateElement(INetworkElement element, boolean isBeingDiagnozed, boolean isSampling) {
+        long startTime = 0;
+        if (isBeingDiagnozed || isSampling) {
+            startTime = System.nanoTime();
+        }
+        Long readerDuration = preparedReaders != null ? preparedReaders.get(element) : null;
+        if (readerDuration != null) {
+            // Already updated in the first phase.
+            startTime -= readerDuration;
+            postUpdate(element);
+            rescheduleUpdateable(element, element.getUpdateInterval());
+        } else if (canUpdate(element)) {
+            element.update(this);
+            postUpdate(element);
+            rescheduleUpdateable(element, element.getUpdateInterval());
+        } else {
+            onSkipUpdate(element);
+            rescheduleUpdateable(element, 1);
+        }
+        if (isBeingDiagnozed || isSampling) {
+            long duration = System.nanoTime() - startTime;
+            if (isSampling) {
+                NetworkProfiler.getInstance().recordElementTick(this, element, duration);
+            }
+            if (isBeingDiagnozed) {
+                Long lastDuration = lastSecondDurations.get(element);
+                if (lastDuration != null) {
+                    duration = duration + lastDuration;
                 }
+                lastSecondDurations.put(element, duration);
             }
         }
     }
 
+    /**
+     * Schedule the next update of the given element, if it is still updateable in this network.
+     * @param element The element that was just visited.
+     * @param interval The number of ticks until the next update.
+     */
+    protected void rescheduleUpdateable(INetworkElement element, int interval) {
+        if (updateableElements.contains(element)) {
+            // The wheel has already moved on to the next tick, so an interval of one is a delay of zero.
+            updateableElementsTicks.schedule(element, Math.max(1, interval) - 1);
+        }
+    }
+
     protected void onUpdate() {
         for (IFullNetworkListener fullNetworkListener : this.fullNetworkListeners) {
             fullNetworkListener.update();
@@ -465,6 +746,99 @@ public class Network implements INetwork {
 
     protected void onNetworkChanged() {
         this.changed = true;
+        wakeUp();
+    }
+
+    /**
+     * @param chunkX A chunk x coordinate.
+     * @param chunkZ A chunk z coordinate.
+     * @return A unique key for the given chunk.
+     */
+    public static long getChunkKey(int chunkX, int chunkZ) {
+        return ((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+    }
+
+    /**
+     * @return If this network should stop ticking
+     *         because all of its updateable elements are invalidated, or because its world is not loaded.
+     */
+    protected boolean shouldSleep() {
+        Integer dimension = getDimension();
+        if (dimension == null) {
+            // Without a dimension, we would never know when to wake up.
+            return false;
+        }
+        if (!updateableElements.isEmpty() && invalidatedElements.size() >= updateableElements.size()
+                && invalidatedElements.containsAll(updateableElements)) {
+            return true;
+        }
+        return !isDimensionLoaded(dimension);
+    }
+
+    /**
+     * @param dimension A dimension id.
+     * @return If the world of the given dimension is loaded and has loaded chunks.
+     */
+    protected boolean isDimensionLoaded(int dimension) {
+        WorldServer world = DimensionManager.getWorld(dimension);
+        return world != null && world.getChunkProvider().getLoadedChunkCount() > 0;
+    }
+
+    /**
+     * Called when this network went to sleep or woke up.
+     */
+    protected void onSleepChanged() {
+        NetworkWorldStorage.getInstance(IntegratedDynamics._instance).onNetworkSleepChanged(this);
+    }
+
+    /**
+     * Remove this network from the ticking networks until a chunk with one of its path elements is loaded.
+     */
+    protected void sleep() {
+        Set<Long> chunks = Sets.newHashSet();
+        for (IPathElement pathElement : baseCluster) {
+            BlockPos pos = pathElement.getPosition().getBlockPos();
+            chunks.add(getChunkKey(pos.getX() >> 4, pos.getZ() >> 4));
+        }
+        this.sleepingDimension = getDimension();
+        this.sleepingChunks = chunks;
+        onSleepChanged();
+    }
+
+    /**
+     * Add this network to the ticking networks again if it was sleeping.
+     */
+    public void wakeUp() {
+        if (isSleeping()) {
+            this.sleepingDimension = null;
+            this.sleepingChunks = null;
+            onSleepChanged();
+        }
+    }
+
+    /**
+     * @return If this network is not being ticked.
+     */
+    public boolean isSleeping() {
+        return sleepingChunks != null;
+    }
+
+    /**
+     * @return The dimension this network was in when it went to sleep, or null if it is not sleeping.
+     */
+    public Integer getSleepingDimension() {
+        return sleepingDimension;
+    }
+
+    /**
+     * Called when a chunk in the sleeping dimension of this network is loaded.
+     * @param chunkX The chunk x coordinate.
+     * @param chunkZ The chunk z coordinate.
+     */
+    public void onChunkLoad(int chunkX, int chunkZ) {
+        if (isSleeping() && sleepingChunks.contains(getChunkKey(chunkX, chunkZ))) {
+            wakeUp();
+        }
     }
 
     @Override
@@ -477,6 +851,17 @@ public class Network implements INetwork {
         return baseCluster.size();
     }
 
+    /**
+     * @return The dimension of the first path element in this network, or null if it is empty.
+     */
+    public Integer getDimension() {
+        if (baseCluster.isEmpty()) {
+            return null;
+        }
+        // The stored dimension id is used, as the world of the element is not available when its dimension is unloaded.
+        return baseCluster.iterator().next().getPosition().getWorldId();
+    }
+
     @Override
     public long getLastSecondDuration(INetworkElement networkElement) {
         Long duration = lastSecondDurations.get(networkElement);
@@ -516,5 +901,6 @@ public class Network implements INetwork {
     @Override
     public void revalidateElement(INetworkElement element) {
         invalidatedElements.remove(element);
+        wakeUp();
     }
 }
@@ -0,0 +1,60 @@
+package org.cyclops.integrateddynamics.core.network;
+
+/**
+ * Marks the threads that evaluate variables in the parallel phase of two-phase network ticking.
+ *
+ * In that phase, variables may only be evaluated using values that were already read on the server thread.
+ * Places that read from the world call {@link #checkWorldAccess()}, which aborts the evaluation in that phase,
+ * so that it is done again on the server thread in the second phase.
+ * @author rubensworks
+ */
+public final class ParallelEvaluation {
+
+    private static final ThreadLocal<Boolean> ACTIVE = new ThreadLocal<Boolean>() {
+        @Override
+        protected Boolean initialValue() {
+            return false;
+        }
+    };
+
+    private ParallelEvaluation() {
+
+    }
+
+    /**
+     * @return If the current thread is evaluating variables in the parallel phase.
+     */
+    public static boolean isActive() {
+        return ACTIVE.get();
+    }
+
+    /**
+     * @param active If the current thread is evaluating variables in the parallel phase.
+     */
+    public static void setActive(boolean active) {
+        ACTIVE.set(active);
+    }
+
+    /**
+     * Must be called before reading from the world during the evaluation of a variable.
+     * @throws WorldAccessException If the current thread is evaluating variables in the parallel phase.
+     */
+    public static void checkWorldAccess() throws WorldAccessException {
+        if (isActive()) {
+            throw new WorldAccessException();
+        }
+    }
+
+    /**
+     * Thrown when the world is read during the parallel phase.
+     */
+    public static class WorldAccessException extends RuntimeException {
+
+        public WorldAccessException() {
+            // This is thrown for control flow only, so no stack trace is needed.
+            super("The world can not be read during the parallel phase of network ticking.", null, false, false);
+        }
+
+    }
+
+}
@@ -1,18 +1,21 @@
 package org.cyclops.integrateddynamics.core.network;
 
-import com.google.common.collect.Lists;
+import com.google.common.collect.HashMultimap;
+import com.google.common.collect.Maps;
+import com.google.common.collect.SetMultimap;
+import com.google.common.collect.Sets;
 import gnu.trove.map.TIntObjectMap;
 import gnu.trove.map.hash.TIntObjectHashMap;
 import lombok.Getter;
 import lombok.Setter;
 import org.apache.logging.log4j.Level;
-import org.cyclops.cyclopscore.datastructure.CompositeMap;
 import org.cyclops.cyclopscore.datastructure.DimPos;
-import org.cyclops.cyclopscore.helper.TileHelpers;
 import org.cyclops.integrateddynamics.IntegratedDynamics;
 import org.cyclops.integrateddynamics.api.block.IVariableContainer;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IVariable;
+import org.cyclops.integrateddynamics.api.item.IOperatorVariableFacade;
+import org.cyclops.integrateddynamics.api.item.IProxyVariableFacade;
 import org.cyclops.integrateddynamics.api.item.IVariableFacade;
 import org.cyclops.integrateddynamics.api.network.FullNetworkListenerAdapter;
 import org.cyclops.integrateddynamics.api.network.INetwork;
@@ -22,12 +25,17 @@ import org.cyclops.integrateddynamics.api.part.aspect.IAspectRead;
 import org.cyclops.integrateddynamics.api.part.read.IPartStateReader;
 import org.cyclops.integrateddynamics.api.part.read.IPartTypeReader;
 import org.cyclops.integrateddynamics.api.path.IPathElement;
+import org.cyclops.integrateddynamics.core.evaluate.expression.LazyExpressionValueCache;
 import org.cyclops.integrateddynamics.capability.variablecontainer.VariableContainerConfig;
+import org.cyclops.integrateddynamics.core.helper.CapabilityCache;
 import org.cyclops.integrateddynamics.core.helper.PartHelpers;
+import org.cyclops.integrateddynamics.core.network.event.VariableContentsUpdatedEvent;
 
-import java.util.Iterator;
-import java.util.List;
+import javax.annotation.Nullable;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * A network that can hold parts.
@@ -40,9 +48,15 @@ public class PartNetwork extends FullNetworkListenerAdapter implements IPartNetw
     @Setter
     private INetwork network;
     private TIntObjectMap<PartPos> partPositions = new TIntObjectHashMap<>();
-    private List<DimPos> variableContainerPositions = Lists.newArrayList();
-    private Map<Integer, IVariableFacade> compositeVariableCache = null;
-    private TIntObjectMap<IValue> lazyExpressionValueCache = new TIntObjectHashMap<>();
+    // The ids of the variables in each variable container, in the order in which the containers were added.
+    private final Map<DimPos, Set<Integer>> variableContainerIds = Maps.newLinkedHashMap();
+    // The variables of all containers by id, updated incrementally when variables or containers change.
+    private final Map<Integer, IVariableFacade> variableIndex = Maps.newHashMap();
+    // The variables in the index by the variables and proxies they refer to.
+    private final DependencyGraph<Integer> variableDependencies = new DependencyGraph<>();
+    private final Map<Integer, Integer> variableProxyIds = Maps.newHashMap();
+    private final SetMultimap<Integer, Integer> proxyDependents = HashMultimap.create();
+    private final LazyExpressionValueCache lazyExpressionValueCache = new LazyExpressionValueCache();
     private TIntObjectMap<DimPos> proxyPositions = new TIntObjectHashMap<>();
 
     private volatile boolean partsChanged = false;
@@ -110,22 +124,63 @@ public class PartNetwork extends FullNetworkListenerAdapter implements IPartNetw
     }
 
     protected Map<Integer, IVariableFacade> getVariableCache() {
-        if(compositeVariableCache == null) {
-            // Create a new composite map view on the existing variable containers in this network.
-            CompositeMap<Integer, IVariableFacade> compositeMap = new CompositeMap<>();
-            for(Iterator<DimPos> it = variableContainerPositions.iterator(); it.hasNext();) {
-                DimPos dimPos = it.next();
-                IVariableContainer variableContainer = TileHelpers.getCapability(dimPos, null, VariableContainerConfig.CAPABILITY);
-                if(variableContainer != null) {
-                    compositeMap.addElement(variableContainer.getVariableCache());
-                } else {
-                    IntegratedDynamics.clog(Level.ERROR, "The variable container at " + dimPos + " was invalid, skipping.");
-                    it.remove();
+        return variableIndex;
+    }
+
+    /**
+     * Find the variable with the given id in the first variable container that contains it,
+     * and store it in the variable index.
+     * @param variableId The variable id.
+     */
+    protected void resolveVariable(int variableId) {
+        for (Map.Entry<DimPos, Set<Integer>> entry : variableContainerIds.entrySet()) {
+            if (entry.getValue().contains(variableId)) {
+                IVariableContainer variableContainer = CapabilityCache.getInstance().getCapability(entry.getKey(), null, VariableContainerConfig.CAPABILITY);
+                IVariableFacade variableFacade = variableContainer == null ? null : variableContainer.getVariableCache().get(variableId);
+                if (variableFacade != null) {
+                    setIndexedVariable(variableId, variableFacade);
+                    return;
                 }
             }
-            compositeVariableCache = compositeMap;
         }
-        return compositeVariableCache;
+        setIndexedVariable(variableId, null);
+    }
+
+    /**
+     * Store a variable in the variable index, and update the dependencies of the variable.
+     * @param variableId The variable id.
+     * @param variableFacade The variable, or null if it must be removed.
+     */
+    protected void setIndexedVariable(int variableId, @Nullable IVariableFacade variableFacade) {
+        Integer oldProxyId = variableProxyIds.remove(variableId);
+        if (oldProxyId != null) {
+            proxyDependents.remove(oldProxyId, variableId);
+        }
+        if (variableFacade == null) {
+            variableIndex.remove(variableId);
+            variableDependencies.removeDependencies(variableId);
+        } else {
+            variableIndex.put(variableId, variableFacade);
+            Set<Integer> dependencies = Sets.newHashSet();
+            if (variableFacade instanceof IOperatorVariableFacade) {
+                int[] variableIds = ((IOperatorVariableFacade) variableFacade).getVariableIds();
+                if (variableIds != null) {
+                    for (int dependency : variableIds) {
+                        dependencies.add(dependency);
+                    }
+                }
+            } else if (variableFacade instanceof IProxyVariableFacade) {
+                int proxyId = ((IProxyVariableFacade) variableFacade).getProxyId();
+                variableProxyIds.put(variableId, proxyId);
+                proxyDependents.put(proxyId, variableId);
+            }
+            variableDependencies.setDependencies(variableId, dependencies);
+        }
+    }
+
+    @Override
+    public boolean isVariableCyclic(int variableId) {
+        return variableDependencies.isCyclic(variableId);
     }
 
     @Override
@@ -140,29 +195,101 @@ public class PartNetwork extends FullNetworkListenerAdapter implements IPartNetw
 
     @Override
     public void setValue(int id, IValue value) {
-        lazyExpressionValueCache.put(id, value);
+        lazyExpressionValueCache.setValue(id, value);
+    }
+
+    @Override
+    public void setValue(int id, IValue value, @Nullable long[] inputVersions) {
+        lazyExpressionValueCache.setValue(id, value, inputVersions);
     }
 
     @Override
     public boolean hasValue(int id) {
-        return lazyExpressionValueCache.containsKey(id);
+        return lazyExpressionValueCache.hasValue(id);
+    }
+
+    @Override
+    public boolean hasValue(int id, long[] inputVersions) {
+        return lazyExpressionValueCache.hasValue(id, inputVersions);
     }
 
     @Override
     public IValue getValue(int id) {
-        return lazyExpressionValueCache.get(id);
+        return lazyExpressionValueCache.getValue(id);
+    }
+
+    @Override
+    public long getVersion(int id) {
+        return lazyExpressionValueCache.getVersion(id);
+    }
+
+    /**
+     * @return The value cache for lazy expressions in this network.
+     */
+    public LazyExpressionValueCache getLazyExpressionValueCache() {
+        return lazyExpressionValueCache;
     }
 
     @Override
     public boolean addVariableContainer(DimPos dimPos) {
-        compositeVariableCache = null;
-        return variableContainerPositions.add(dimPos);
+        if(variableContainerIds.containsKey(dimPos)) {
+            return false;
+        }
+        Set<Integer> variableIds = Sets.newHashSet();
+        variableContainerIds.put(dimPos, variableIds);
+        IVariableContainer variableContainer = CapabilityCache.getInstance().getCapability(dimPos, null, VariableContainerConfig.CAPABILITY);
+        if(variableContainer != null) {
+            for (Map.Entry<Integer, IVariableFacade> entry : variableContainer.getVariableCache().entrySet()) {
+                variableIds.add(entry.getKey());
+                // Variables in earlier containers take precedence.
+                if (!variableIndex.containsKey(entry.getKey())) {
+                    setIndexedVariable(entry.getKey(), entry.getValue());
+                }
+            }
+        } else {
+            IntegratedDynamics.clog(Level.ERROR, "The variable container at " + dimPos + " was invalid, skipping.");
+        }
+        return true;
     }
 
     @Override
     public void removeVariableContainer(DimPos dimPos) {
-        compositeVariableCache = null;
-        variableContainerPositions.remove(dimPos);
+        Set<Integer> variableIds = variableContainerIds.remove(dimPos);
+        if(variableIds != null) {
+            for (int variableId : variableIds) {
+                resolveVariable(variableId);
+            }
+        }
+    }
+
+    @Override
+    public void onVariablesChanged(DimPos dimPos, Collection<Integer> variableIds) {
+        Set<Integer> containerVariableIds = variableContainerIds.get(dimPos);
+        if(containerVariableIds != null) {
+            IVariableContainer variableContainer = CapabilityCache.getInstance().getCapability(dimPos, null, VariableContainerConfig.CAPABILITY);
+            for (int variableId : variableIds) {
+                if (variableContainer != null && variableContainer.getVariableCache().containsKey(variableId)) {
+                    containerVariableIds.add(variableId);
+                } else {
+                    containerVariableIds.remove(variableId);
+                }
+                resolveVariable(variableId);
+            }
+        }
+        notifyVariablesChanged(variableIds, Collections.<Integer>emptySet());
+    }
+
+    @Override
+    public void notifyVariablesChanged(Collection<Integer> variableIds, Collection<Integer> proxyIds) {
+        if(getNetwork() != null) {
+            // Also include the variables in the network that refer to the changed variables and proxies.
+            Set<Integer> changedIds = Sets.newHashSet(variableIds);
+            for (int proxyId : proxyIds) {
+                changedIds.addAll(proxyDependents.get(proxyId));
+            }
+            getNetwork().getEventBus().post(new VariableContentsUpdatedEvent(getNetwork(),
+                    variableDependencies.getTransitiveDependents(changedIds), proxyIds));
+        }
     }
 
     @Override
@@ -195,8 +322,8 @@ public class PartNetwork extends FullNetworkListenerAdapter implements IPartNetw
 
     @Override
     public void update() {
-        // Reset lazy variable cache
-        lazyExpressionValueCache.clear();
+        // Values that do not depend on versioned inputs are only valid for a single tick
+        lazyExpressionValueCache.onTick();
 
         // Signal parts of any changes
         if (partsChanged) {
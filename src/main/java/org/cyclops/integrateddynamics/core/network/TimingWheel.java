@@ -0,0 +1,178 @@
+package org.cyclops.integrateddynamics.core.network;
+
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * A hierarchical timing wheel for scheduling elements at a certain tick in the future.
+ * Only the elements that are due on a certain tick will be visited when advancing the wheel.
+ * Elements that are due on the same tick are returned in their natural order.
+ *
+ * Scheduling and unscheduling elements is O(log n) in the number of scheduled elements,
+ * advancing the wheel by one tick is O(1) amortized, excluding the due elements.
+ *
+ * The comparator of the elements must be consistent with equals,
+ * as an element is identified by its natural ordering.
+ * @param <E> The element type.
+ * @author rubensworks
+ */
+public class TimingWheel<E extends Comparable<? super E>> {
+
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final int LEVELS = 4;
+    private static final long MAX_DELAY = (1L << (SLOT_BITS * LEVELS)) - 1;
+
+    private final TreeSet<E>[][] slots;
+    private final TreeMap<E, Entry> entries = Maps.newTreeMap();
+    private long currentTick = 0;
+
+    @SuppressWarnings("unchecked")
+    public TimingWheel() {
+        this.slots = new TreeSet[LEVELS][SLOTS];
+    }
+
+    /**
+     * @return The tick that will be returned by the next call to {@link #advance()}.
+     */
+    public long getCurrentTick() {
+        return currentTick;
+    }
+
+    /**
+     * @return The number of scheduled elements.
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * @param element An element.
+     * @return If the given element is scheduled.
+     */
+    public boolean isScheduled(E element) {
+        return entries.containsKey(element);
+    }
+
+    /**
+     * Schedule the given element.
+     * If the element was already scheduled, its previous schedule will be removed.
+     * @param element The element to schedule.
+     * @param delay The number of ticks after the current tick at which the element will be due.
+     *              A delay of zero or less will make the element due at the current tick.
+     */
+    public void schedule(E element, int delay) {
+        unschedule(element);
+        insert(element, currentTick + Math.max(0, delay));
+    }
+
+    /**
+     * Remove the given element from the wheel.
+     * @param element The element to unschedule.
+     * @return The number of ticks the element had left until it was due, or -1 if it was not scheduled.
+     */
+    public int unschedule(E element) {
+        Entry entry = entries.remove(element);
+        if (entry == null) {
+            return -1;
+        }
+        TreeSet<E> slot = slots[entry.level][entry.slot];
+        slot.remove(element);
+        if (slot.isEmpty()) {
+            slots[entry.level][entry.slot] = null;
+        }
+        return (int) Math.min(Integer.MAX_VALUE, entry.deadline - currentTick);
+    }
+
+    /**
+     * Remove all elements from the wheel.
+     */
+    public void clear() {
+        for (TreeSet<E>[] level : slots) {
+            for (int i = 0; i < SLOTS; i++) {
+                level[i] = null;
+            }
+        }
+        entries.clear();
+    }
+
+    /**
+     * Take all elements that are due at the current tick and move on to the next tick.
+     * The returned elements are not scheduled anymore.
+     * @return The due elements, iterable in their natural order.
+     */
+    public Set<E> advance() {
+        if ((currentTick & SLOT_MASK) == 0) {
+            for (int level = 1; level < LEVELS; level++) {
+                int index = getSlotIndex(currentTick, level);
+                cascade(level, index);
+                if (index != 0) {
+                    break;
+                }
+            }
+        }
+
+        int index = getSlotIndex(currentTick, 0);
+        TreeSet<E> due = slots[0][index];
+        slots[0][index] = null;
+        currentTick++;
+        if (due == null) {
+            return Collections.emptySet();
+        }
+        for (E element : due) {
+            entries.remove(element);
+        }
+        return due;
+    }
+
+    protected static int getSlotIndex(long tick, int level) {
+        return (int) ((tick >> (level * SLOT_BITS)) & SLOT_MASK);
+    }
+
+    protected void cascade(int level, int index) {
+        TreeSet<E> slot = slots[level][index];
+        if (slot != null) {
+            slots[level][index] = null;
+            for (E element : slot) {
+                insert(element, entries.get(element).deadline);
+            }
+        }
+    }
+
+    protected void insert(E element, long deadline) {
+        long delay = Math.min(Math.max(0, deadline - currentTick), MAX_DELAY);
+        long placement = currentTick + delay;
+        int level = 0;
+        while (level < LEVELS - 1 && delay >= (1L << ((level + 1) * SLOT_BITS))) {
+            level++;
+        }
+        int index = getSlotIndex(placement, level);
+        TreeSet<E> slot = slots[level][index];
+        if (slot == null) {
+            slot = Sets.newTreeSet();
+            slots[level][index] = slot;
+        }
+        slot.add(element);
+        entries.put(element, new Entry(deadline, level, index));
+    }
+
+    private static class Entry {
+
+        private final long deadline;
+        private final int level;
+        private final int slot;
+
+        private Entry(long deadline, int level, int slot) {
+            this.deadline = deadline;
+            this.level = level;
+            this.slot = slot;
+        }
+    }
+
+}
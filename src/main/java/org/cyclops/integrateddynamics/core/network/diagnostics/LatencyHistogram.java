@@ -0,0 +1,109 @@
+package org.cyclops.integrateddynamics.core.network.diagnostics;
+
+/**
+ * A fixed-size histogram of durations in nanoseconds.
+ *
+ * Durations are stored in logarithmic buckets that each have four linear sub-buckets,
+ * so percentiles are at most 25% above the real value, independent of the number of recorded durations.
+ * @author rubensworks
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 2;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    /**
+     * Durations below 2^MIN_EXPONENT ns are stored in the first group of linear buckets.
+     */
+    private static final int MIN_EXPONENT = 6;
+    /**
+     * Durations of 2^MAX_EXPONENT ns (about 68 seconds) and more are all stored in the last bucket.
+     */
+    private static final int MAX_EXPONENT = 36;
+    private static final int BUCKETS = (MAX_EXPONENT - MIN_EXPONENT + 1) * SUB_BUCKETS;
+
+    private final int[] buckets = new int[BUCKETS];
+    private long count = 0;
+    private long sum = 0;
+    private long max = 0;
+
+    protected static int getBucket(long value) {
+        if (value < (1L << MIN_EXPONENT)) {
+            return (int) (Math.max(0, value) >>> (MIN_EXPONENT - SUB_BUCKET_BITS));
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        if (exponent >= MAX_EXPONENT) {
+            return BUCKETS - 1;
+        }
+        int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - MIN_EXPONENT + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    protected static long getBucketUpperBound(int bucket) {
+        int group = bucket / SUB_BUCKETS;
+        int subBucket = bucket % SUB_BUCKETS;
+        if (group == 0) {
+            return (long) (subBucket + 1) << (MIN_EXPONENT - SUB_BUCKET_BITS);
+        }
+        int exponent = group + MIN_EXPONENT - 1;
+        return (long) (SUB_BUCKETS + subBucket + 1) << (exponent - SUB_BUCKET_BITS);
+    }
+
+    /**
+     * Add a duration.
+     * @param durationNs A duration in nanoseconds.
+     */
+    public void record(long durationNs) {
+        buckets[getBucket(durationNs)]++;
+        count++;
+        sum += durationNs;
+        max = Math.max(max, durationNs);
+    }
+
+    /**
+     * @return The number of recorded durations.
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * @return The sum of all recorded durations in nanoseconds.
+     */
+    public long getSum() {
+        return sum;
+    }
+
+    /**
+     * @return The largest recorded duration in nanoseconds.
+     */
+    public long getMax() {
+        return max;
+    }
+
+    /**
+     * @return The mean recorded duration in nanoseconds.
+     */
+    public long getMean() {
+        return count == 0 ? 0 : sum / count;
+    }
+
+    /**
+     * @param percentile A percentile between 0 and 1.
+     * @return An upper bound for the duration below which the given percentage of durations lie, in nanoseconds.
+     */
+    public long getPercentile(double percentile) {
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile * count));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += buckets[i];
+            if (seen >= rank) {
+                return Math.min(getBucketUpperBound(i), max);
+            }
+        }
+        return max;
+    }
+
+}
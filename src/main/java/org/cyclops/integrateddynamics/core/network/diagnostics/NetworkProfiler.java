@@ -0,0 +1,259 @@
+package org.cyclops.integrateddynamics.core.network.diagnostics;
+
+import com.google.common.collect.MapMaker;
+import com.google.common.collect.Maps;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import org.cyclops.integrateddynamics.GeneralConfig;
+import org.cyclops.integrateddynamics.api.network.INetwork;
+import org.cyclops.integrateddynamics.api.network.INetworkElement;
+import org.cyclops.integrateddynamics.api.network.IPartNetwork;
+import org.cyclops.integrateddynamics.api.network.IPartNetworkElement;
+import org.cyclops.integrateddynamics.api.part.IPartState;
+import org.cyclops.integrateddynamics.api.part.IPartType;
+import org.cyclops.integrateddynamics.api.part.PartPos;
+import org.cyclops.integrateddynamics.api.part.PartTarget;
+import org.cyclops.integrateddynamics.api.part.aspect.IAspect;
+
+import java.util.Map;
+
+/**
+ * A sampling profiler for network ticks.
+ *
+ * Unlike the {@link NetworkDiagnostics}, this is always active,
+ * but it only measures one out of every {@link GeneralConfig#networkProfilerSampleInterval} ticks.
+ * For every network, it keeps a histogram of the total tick duration,
+ * and for every element a histogram of its update duration and the number of skipped updates.
+ * Aspect update durations are aggregated over all networks.
+ *
+ * The results can be exported as CSV or JSON.
+ * @author rubensworks
+ */
+public class NetworkProfiler {
+
+    private static final NetworkProfiler _INSTANCE = new NetworkProfiler();
+    private static final String[] COLUMNS = new String[]{"kind", "network", "name", "samples", "skips", "p50_ns", "p99_ns", "max_ns", "mean_ns"};
+
+    // Weak keys, so that networks and elements that are removed can be garbage collected.
+    private final Map<INetwork, NetworkProfile> networks = new MapMaker().weakKeys().makeMap();
+    private final Map<String, LatencyHistogram> aspects = Maps.newTreeMap();
+    private int tick = 0;
+    private boolean sampling = false;
+
+    private NetworkProfiler() {
+
+    }
+
+    public static NetworkProfiler getInstance() {
+        return _INSTANCE;
+    }
+
+    /**
+     * Called at the start of each server tick to determine if this tick should be sampled.
+     */
+    public void onTick() {
+        int interval = GeneralConfig.networkProfilerSampleInterval;
+        if (interval <= 0) {
+            sampling = false;
+        } else {
+            tick = (tick + 1) % interval;
+            sampling = tick == 0;
+        }
+    }
+
+    /**
+     * @return If the current tick is being sampled.
+     */
+    public boolean isSampling() {
+        return sampling;
+    }
+
+    protected NetworkProfile getProfile(INetwork network) {
+        NetworkProfile profile = networks.get(network);
+        if (profile == null) {
+            profile = new NetworkProfile();
+            networks.put(network, profile);
+        }
+        return profile;
+    }
+
+    protected ElementProfile getProfile(INetwork network, INetworkElement element) {
+        Map<INetworkElement, ElementProfile> elements = getProfile(network).elements;
+        ElementProfile profile = elements.get(element);
+        if (profile == null) {
+            profile = new ElementProfile();
+            elements.put(element, profile);
+        }
+        return profile;
+    }
+
+    public synchronized void recordNetworkTick(INetwork network, long durationNs) {
+        getProfile(network).ticks.record(durationNs);
+    }
+
+    public synchronized void recordElementTick(INetwork network, INetworkElement element, long durationNs) {
+        getProfile(network, element).ticks.record(durationNs);
+    }
+
+    public synchronized void recordSkip(INetwork network, INetworkElement element) {
+        getProfile(network, element).skips++;
+    }
+
+    public synchronized void recordAspect(IAspect aspect, long durationNs) {
+        String name = aspect.getUnlocalizedName();
+        LatencyHistogram histogram = aspects.get(name);
+        if (histogram == null) {
+            histogram = new LatencyHistogram();
+            aspects.put(name, histogram);
+        }
+        histogram.record(durationNs);
+    }
+
+    /**
+     * Update the given aspect, and measure its duration if the current tick is being sampled.
+     * @param aspect The aspect.
+     * @param network The network.
+     * @param partType The part type.
+     * @param target The part target.
+     * @param state The part state.
+     */
+    @SuppressWarnings("unchecked")
+    public static void updateAspect(IAspect aspect, IPartNetwork network, IPartType partType, PartTarget target, IPartState state) {
+        NetworkProfiler profiler = getInstance();
+        if (profiler.isSampling()) {
+            long startTime = System.nanoTime();
+            aspect.update(network, partType, target, state);
+            profiler.recordAspect(aspect, System.nanoTime() - startTime);
+        } else {
+            aspect.update(network, partType, target, state);
+        }
+    }
+
+    /**
+     * Remove all recorded data.
+     */
+    public synchronized void reset() {
+        networks.clear();
+        aspects.clear();
+    }
+
+    /**
+     * @return The number of networks that have been sampled.
+     */
+    public synchronized int getNetworkCount() {
+        return networks.size();
+    }
+
+    protected static String getElementName(INetworkElement element) {
+        if (element instanceof IPartNetworkElement) {
+            IPartNetworkElement partElement = (IPartNetworkElement) element;
+            PartPos pos = partElement.getTarget().getCenter();
+            BlockPos blockPos = pos.getPos().getBlockPos();
+            World world = pos.getPos().getWorld();
+            return String.format("%s (%s; %s,%s,%s; %s)", partElement.getPart().getUnlocalizedName(),
+                    world == null ? "?" : world.provider.getDimension(),
+                    blockPos.getX(), blockPos.getY(), blockPos.getZ(), pos.getSide().getName());
+        }
+        return element.getClass().getSimpleName();
+    }
+
+    protected static Object[] getRow(String kind, String network, String name, LatencyHistogram histogram, long skips) {
+        return new Object[]{kind, network, name, histogram.getCount(), skips,
+                histogram.getPercentile(0.5), histogram.getPercentile(0.99), histogram.getMax(), histogram.getMean()};
+    }
+
+    protected synchronized void visitRows(IRowVisitor visitor) {
+        for (Map.Entry<INetwork, NetworkProfile> networkEntry : networks.entrySet()) {
+            String network = String.valueOf(networkEntry.getKey().hashCode());
+            visitor.visit(getRow("network", network, "", networkEntry.getValue().ticks, 0));
+            for (Map.Entry<INetworkElement, ElementProfile> elementEntry : networkEntry.getValue().elements.entrySet()) {
+                ElementProfile profile = elementEntry.getValue();
+                visitor.visit(getRow("element", network, getElementName(elementEntry.getKey()), profile.ticks, profile.skips));
+            }
+        }
+        for (Map.Entry<String, LatencyHistogram> aspectEntry : aspects.entrySet()) {
+            visitor.visit(getRow("aspect", "", aspectEntry.getKey(), aspectEntry.getValue(), 0));
+        }
+    }
+
+    protected static String escapeCsv(Object value) {
+        String string = String.valueOf(value);
+        if (string.contains(",") || string.contains("\"")) {
+            return "\"" + string.replace("\"", "\"\"") + "\"";
+        }
+        return string;
+    }
+
+    protected static String escapeJson(Object value) {
+        if (value instanceof Number) {
+            return String.valueOf(value);
+        }
+        return "\"" + String.valueOf(value).replace("\\", "\\\\").replace("\"", "\\\"") + "\"";
+    }
+
+    /**
+     * @return All recorded data as CSV, with one row per network, element and aspect.
+     */
+    public String toCsv() {
+        final StringBuilder sb = new StringBuilder();
+        appendCsvRow(sb, COLUMNS);
+        visitRows(new IRowVisitor() {
+            @Override
+            public void visit(Object[] row) {
+                appendCsvRow(sb, row);
+            }
+        });
+        return sb.toString();
+    }
+
+    protected static void appendCsvRow(StringBuilder sb, Object[] row) {
+        for (int i = 0; i < row.length; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append(escapeCsv(row[i]));
+        }
+        sb.append('\n');
+    }
+
+    /**
+     * @return All recorded data as a JSON array, with one object per network, element and aspect.
+     */
+    public String toJson() {
+        final StringBuilder sb = new StringBuilder();
+        sb.append('[');
+        visitRows(new IRowVisitor() {
+            private boolean first = true;
+
+            @Override
+            public void visit(Object[] row) {
+                sb.append(first ? "\n  {" : ",\n  {");
+                first = false;
+                for (int i = 0; i < row.length; i++) {
+                    if (i > 0) {
+                        sb.append(", ");
+                    }
+                    sb.append(escapeJson(COLUMNS[i])).append(": ").append(escapeJson(row[i]));
+                }
+                sb.append('}');
+            }
+        });
+        sb.append("\n]\n");
+        return sb.toString();
+    }
+
+    protected static interface IRowVisitor {
+        public void visit(Object[] row);
+    }
+
+    protected static class NetworkProfile {
+        private final LatencyHistogram ticks = new LatencyHistogram();
+        private final Map<INetworkElement, ElementProfile> elements = new MapMaker().weakKeys().makeMap();
+    }
+
+    protected static class ElementProfile {
+        private final LatencyHistogram ticks = new LatencyHistogram();
+        private long skips = 0;
+    }
+
+}
@@ -1,15 +1,95 @@
 package org.cyclops.integrateddynamics.core.network.event;
 
+import com.google.common.collect.ImmutableSet;
+import org.cyclops.integrateddynamics.api.item.IOperatorVariableFacade;
+import org.cyclops.integrateddynamics.api.item.IProxyVariableFacade;
+import org.cyclops.integrateddynamics.api.item.IVariableFacade;
 import org.cyclops.integrateddynamics.api.network.INetwork;
+import org.cyclops.integrateddynamics.api.network.IPartNetwork;
+
+import javax.annotation.Nullable;
+import java.util.Collection;
+import java.util.Set;
 
 /**
  * An event used to signal network elements of updated variables inside the network.
+ *
+ * If variable ids are given, only the variables and proxies with these ids have changed,
+ * and only elements that refer to them need to refresh their variable.
+ * The variable ids also contain all variables in the network that depend on the changed variables,
+ * see {@link IPartNetwork#notifyVariablesChanged(Collection, Collection)}.
  * @author rubensworks
  */
 public class VariableContentsUpdatedEvent extends NetworkEvent {
 
+    private final Set<Integer> variableIds;
+    private final Set<Integer> proxyIds;
+
+    /**
+     * Make a new event that signals that all variables may have changed.
+     * @param network The network.
+     */
     public VariableContentsUpdatedEvent(INetwork network) {
         super(network);
+        this.variableIds = null;
+        this.proxyIds = null;
+    }
+
+    /**
+     * Make a new event that signals that the given variables have changed.
+     * @param network The network.
+     * @param variableIds The ids of the changed variables and the variables that depend on them.
+     * @param proxyIds The ids of the proxies of which the variable changed.
+     */
+    public VariableContentsUpdatedEvent(INetwork network, Collection<Integer> variableIds, Collection<Integer> proxyIds) {
+        super(network);
+        this.variableIds = ImmutableSet.copyOf(variableIds);
+        this.proxyIds = ImmutableSet.copyOf(proxyIds);
+    }
+
+    /**
+     * @return The changed variable ids, or null if all variables may have changed.
+     */
+    public @Nullable Set<Integer> getVariableIds() {
+        return variableIds;
+    }
+
+    /**
+     * @return The changed proxy ids, or null if all variables may have changed.
+     */
+    public @Nullable Set<Integer> getProxyIds() {
+        return proxyIds;
+    }
+
+    /**
+     * Check if an element with the given variable must refresh its variable.
+     * @param variableFacade The variable of the element, if null the element has no validated variable yet.
+     * @return If the given variable refers to one of the changed variables or proxies.
+     */
+    public boolean isAffected(@Nullable IVariableFacade variableFacade) {
+        if (variableIds == null) {
+            return true;
+        }
+        if (variableFacade == null) {
+            return false;
+        }
+        if (variableIds.contains(variableFacade.getId())) {
+            return true;
+        }
+        if (variableFacade instanceof IProxyVariableFacade) {
+            return proxyIds.contains(((IProxyVariableFacade) variableFacade).getProxyId());
+        }
+        if (variableFacade instanceof IOperatorVariableFacade) {
+            int[] dependencies = ((IOperatorVariableFacade) variableFacade).getVariableIds();
+            if (dependencies != null) {
+                for (int variableId : dependencies) {
+                    if (variableIds.contains(variableId)) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
     }
 
 }
@@ -0,0 +1,127 @@
+package org.cyclops.integrateddynamics.core.network.packet;
+
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.entity.player.EntityPlayerMP;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.EnumFacing;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import net.minecraftforge.fml.relauncher.Side;
+import net.minecraftforge.fml.relauncher.SideOnly;
+import org.cyclops.cyclopscore.helper.MinecraftHelpers;
+import org.cyclops.cyclopscore.network.CodecField;
+import org.cyclops.cyclopscore.network.PacketCodec;
+import org.cyclops.integrateddynamics.api.part.IPartContainer;
+import org.cyclops.integrateddynamics.api.part.IPartState;
+import org.cyclops.integrateddynamics.api.part.IPartType;
+import org.cyclops.integrateddynamics.core.helper.PartHelpers;
+import org.cyclops.integrateddynamics.core.part.PartStateBase;
+import org.cyclops.integrateddynamics.core.tileentity.TileMultipartTicking;
+
+/**
+ * Packet for sending changed fields of part states and their container to the client,
+ * without sending the NBT of the full container.
+ * @author rubensworks
+ *
+ */
+public class PartStateSyncPacket extends PacketCodec {
+
+    @CodecField
+    private int x;
+    @CodecField
+    private int y;
+    @CodecField
+    private int z;
+    @CodecField
+    private NBTTagCompound parts; // The changed fields of part states by side name.
+    @CodecField
+    private NBTTagCompound tile; // The changed fields of the container tile.
+
+    public PartStateSyncPacket() {
+
+    }
+
+    public PartStateSyncPacket(BlockPos pos, NBTTagCompound parts, NBTTagCompound tile) {
+        this.x = pos.getX();
+        this.y = pos.getY();
+        this.z = pos.getZ();
+        this.parts = parts;
+        this.tile = tile;
+    }
+
+    public BlockPos getPos() {
+        return new BlockPos(x, y, z);
+    }
+
+    /**
+     * @return A copy of this packet.
+     */
+    public PartStateSyncPacket copy() {
+        return new PartStateSyncPacket(getPos(), parts.copy(), tile.copy());
+    }
+
+    /**
+     * Add the fields of a newer packet for the same position to this packet, replacing older fields.
+     * @param packet A newer packet.
+     */
+    public void merge(PartStateSyncPacket packet) {
+        for (String side : packet.parts.getKeySet()) {
+            if (!parts.hasKey(side, MinecraftHelpers.NBTTag_Types.NBTTagCompound.ordinal())) {
+                parts.setTag(side, new NBTTagCompound());
+            }
+            NBTTagCompound fields = parts.getCompoundTag(side);
+            NBTTagCompound newFields = packet.parts.getCompoundTag(side);
+            for (String field : newFields.getKeySet()) {
+                fields.setTag(field, newFields.getTag(field));
+            }
+        }
+        for (String key : packet.tile.getKeySet()) {
+            tile.setTag(key, packet.tile.getTag(key));
+        }
+    }
+
+	@Override
+	public boolean isAsync() {
+		return false;
+	}
+
+	@Override
+	@SideOnly(Side.CLIENT)
+	public void actionClient(World world, EntityPlayer player) {
+        BlockPos pos = getPos();
+        boolean triggerBlockRenderUpdate = false;
+        IPartContainer partContainer = PartHelpers.getPartContainer(world, pos);
+        if (partContainer != null) {
+            for (String sideName : parts.getKeySet()) {
+                EnumFacing side = EnumFacing.byName(sideName);
+                if (side != null && partContainer.hasPart(side)) {
+                    IPartState partState = partContainer.getPartState(side);
+                    if (partState instanceof PartStateBase) {
+                        // Parts that change their status, such as errors, must be rendered again.
+                        IPartType partType = partContainer.getPart(side);
+                        IBlockState oldBlockState = partType.getBlockState(partContainer, side);
+                        ((PartStateBase) partState).readSyncFields(parts.getCompoundTag(sideName));
+                        if (!oldBlockState.equals(partType.getBlockState(partContainer, side))) {
+                            triggerBlockRenderUpdate = true;
+                        }
+                    }
+                }
+            }
+        }
+        TileEntity tileEntity = world.getTileEntity(pos);
+        if (!tile.hasNoTags() && tileEntity instanceof TileMultipartTicking) {
+            ((TileMultipartTicking) tileEntity).readSyncFields(tile);
+        }
+        if (triggerBlockRenderUpdate) {
+            world.markBlockRangeForRenderUpdate(pos, pos);
+        }
+	}
+
+	@Override
+	public void actionServer(World world, EntityPlayerMP player) {
+
+	}
+
+}
@@ -0,0 +1,120 @@
+package org.cyclops.integrateddynamics.core.network.packet;
+
+import com.google.common.collect.MapMaker;
+import com.google.common.collect.Maps;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.entity.player.EntityPlayerMP;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import net.minecraft.world.WorldServer;
+import org.apache.commons.lang3.tuple.Pair;
+import org.cyclops.integrateddynamics.GeneralConfig;
+import org.cyclops.integrateddynamics.IntegratedDynamics;
+
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Sends {@link PartStateSyncPacket}s to the players that are watching a part container.
+ *
+ * The number of part state syncs per player per tick is limited by {@link GeneralConfig#partStateSyncsPerPlayerPerTick}.
+ * Syncs beyond this limit are delayed, and later syncs for the same position are merged into them,
+ * so that the number of packets and client render updates is bounded, no matter how many parts are changing.
+ * @author rubensworks
+ */
+public class PartStateSyncQueue {
+
+    private static final PartStateSyncQueue _INSTANCE = new PartStateSyncQueue();
+
+    // Weak keys, so that players that log out can be garbage collected.
+    private final Map<EntityPlayerMP, Map<Pair<Integer, BlockPos>, PartStateSyncPacket>> delayedPackets = new MapMaker().weakKeys().makeMap();
+    private final Map<EntityPlayerMP, Integer> sentPackets = new MapMaker().weakKeys().makeMap();
+
+    private PartStateSyncQueue() {
+
+    }
+
+    public static PartStateSyncQueue getInstance() {
+        return _INSTANCE;
+    }
+
+    /**
+     * Send the changed fields to all players that are watching the given position.
+     * @param world The server world.
+     * @param pos The position of the container.
+     * @param parts The changed fields of part states by side name.
+     * @param tile The changed fields of the container tile.
+     * @param limited If this sync counts towards the per-player limit.
+     */
+    public void send(World world, BlockPos pos, NBTTagCompound parts, NBTTagCompound tile, boolean limited) {
+        if (!(world instanceof WorldServer)) {
+            return;
+        }
+        Pair<Integer, BlockPos> key = Pair.of(world.provider.getDimension(), pos);
+        PartStateSyncPacket packet = null;
+        for (EntityPlayer player : world.playerEntities) {
+            if (player instanceof EntityPlayerMP && ((WorldServer) world).getPlayerChunkMap()
+                    .isPlayerWatchingChunk((EntityPlayerMP) player, pos.getX() >> 4, pos.getZ() >> 4)) {
+                if (packet == null) {
+                    packet = new PartStateSyncPacket(pos, parts, tile);
+                }
+                EntityPlayerMP playerMP = (EntityPlayerMP) player;
+                Map<Pair<Integer, BlockPos>, PartStateSyncPacket> playerDelayedPackets = delayedPackets.get(playerMP);
+                PartStateSyncPacket delayedPacket = playerDelayedPackets != null ? playerDelayedPackets.get(key) : null;
+                if (delayedPacket != null) {
+                    // Merge into the delayed packet, so that older values can never overwrite newer ones.
+                    delayedPacket.merge(packet);
+                } else if (!limited || consumeBudget(playerMP)) {
+                    IntegratedDynamics._instance.getPacketHandler().sendToPlayer(packet, playerMP);
+                } else {
+                    if (playerDelayedPackets == null) {
+                        playerDelayedPackets = Maps.newLinkedHashMap();
+                        delayedPackets.put(playerMP, playerDelayedPackets);
+                    }
+                    playerDelayedPackets.put(key, packet.copy());
+                }
+            }
+        }
+    }
+
+    protected boolean consumeBudget(EntityPlayerMP player) {
+        int limit = GeneralConfig.partStateSyncsPerPlayerPerTick;
+        if (limit <= 0) {
+            return true;
+        }
+        Integer sent = sentPackets.get(player);
+        int count = sent == null ? 0 : sent;
+        if (count >= limit) {
+            return false;
+        }
+        sentPackets.put(player, count + 1);
+        return true;
+    }
+
+    /**
+     * Called at the end of each server tick to reset the limits,
+     * and send as many delayed packets as the new limits allow, oldest first.
+     */
+    public void onTick() {
+        sentPackets.clear();
+        Iterator<Map.Entry<EntityPlayerMP, Map<Pair<Integer, BlockPos>, PartStateSyncPacket>>> playerIt = delayedPackets.entrySet().iterator();
+        while (playerIt.hasNext()) {
+            Map.Entry<EntityPlayerMP, Map<Pair<Integer, BlockPos>, PartStateSyncPacket>> playerEntry = playerIt.next();
+            EntityPlayerMP player = playerEntry.getKey();
+            Iterator<Map.Entry<Pair<Integer, BlockPos>, PartStateSyncPacket>> packetIt = playerEntry.getValue().entrySet().iterator();
+            while (packetIt.hasNext() && consumeBudget(player)) {
+                Map.Entry<Pair<Integer, BlockPos>, PartStateSyncPacket> packetEntry = packetIt.next();
+                // Packets for other dimensions are dropped, the player receives the full data when returning.
+                if (packetEntry.getKey().getLeft() == player.worldObj.provider.getDimension()) {
+                    IntegratedDynamics._instance.getPacketHandler().sendToPlayer(packetEntry.getValue(), player);
+                }
+                packetIt.remove();
+            }
+            if (playerEntry.getValue().isEmpty()) {
+                playerIt.remove();
+            }
+        }
+    }
+
+}
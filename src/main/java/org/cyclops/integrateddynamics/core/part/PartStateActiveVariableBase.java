@@ -18,6 +18,7 @@ import org.cyclops.integrateddynamics.api.part.IPartType;
 import org.cyclops.integrateddynamics.api.part.PartTarget;
 import org.cyclops.integrateddynamics.item.ItemVariable;
 
+import javax.annotation.Nullable;
 import java.util.List;
 
 /**
@@ -27,6 +28,11 @@ import java.util.List;
 public abstract class PartStateActiveVariableBase<P extends IPartType>
         extends PartStateBase<P> {
 
+    /**
+     * The sync field for all error messages of this state.
+     */
+    public static final String SYNC_FIELD_ERRORS = "errors";
+
     private boolean checkedForWriteVariable = false;
     protected IVariableFacade currentVariableFacade = null;
     @Getter
@@ -90,6 +96,13 @@ public abstract class PartStateActiveVariableBase<P extends IPartType>
         return currentVariableFacade.getVariable(network);
     }
 
+    /**
+     * @return The variable that was last validated, or null if the variable has not been validated yet.
+     */
+    public @Nullable IVariableFacade getCurrentVariableFacade() {
+        return currentVariableFacade;
+    }
+
     /**
      * Refresh the current variable to have its current info reset and updated.
      * @param partType The corresponding part type.
@@ -121,7 +134,7 @@ public abstract class PartStateActiveVariableBase<P extends IPartType>
             globalErrorMessages.add(error);
         }
         onDirty();
-        sendUpdate(); // We want this error messages to be sent to the client(s).
+        sendFieldUpdate(SYNC_FIELD_ERRORS); // We want this error messages to be sent to the client(s).
     }
 
     @Override
@@ -139,6 +152,23 @@ public abstract class PartStateActiveVariableBase<P extends IPartType>
         inventory.readFromNBT(tag);
     }
 
+    @Override
+    protected void writeSyncField(String field, NBTTagCompound tag) {
+        super.writeSyncField(field, tag);
+        if (SYNC_FIELD_ERRORS.equals(field)) {
+            NBTClassType.writeNbt(List.class, "globalErrorMessages", globalErrorMessages, tag);
+        }
+    }
+
+    @Override
+    protected void readSyncField(String field, NBTTagCompound tag) {
+        super.readSyncField(field, tag);
+        if (SYNC_FIELD_ERRORS.equals(field)) {
+            //noinspection unchecked
+            this.globalErrorMessages = NBTClassType.readNbt(List.class, "globalErrorMessages", tag);
+        }
+    }
+
     /**
      * An inventory that can only hold one filled slot at a time.
      */
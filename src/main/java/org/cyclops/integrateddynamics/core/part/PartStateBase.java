@@ -1,5 +1,6 @@
 package org.cyclops.integrateddynamics.core.part;
 
+import com.google.common.collect.Sets;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.nbt.NBTTagList;
 import net.minecraftforge.common.MinecraftForge;
@@ -19,6 +20,7 @@ import org.cyclops.integrateddynamics.part.aspect.Aspects;
 
 import java.util.IdentityHashMap;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * A default implementation of the {@link IPartState}.
@@ -28,6 +30,7 @@ public abstract class PartStateBase<P extends IPartType> implements IPartState<P
 
     private boolean dirty = false;
     private boolean update = false;
+    private final Set<String> syncFields = Sets.newHashSet();
 
     private int updateInterval = GeneralConfig.defaultPartUpdateFreq;
     private int priority = 0;
@@ -153,6 +156,61 @@ public abstract class PartStateBase<P extends IPartType> implements IPartState<P
         this.update = true;
     }
 
+    /**
+     * Mark a single field to be sent to the client(s) in a part state sync packet,
+     * instead of sending the NBT of the full part container.
+     * @param field A field name that is handled by {@link #writeSyncField(String, NBTTagCompound)}.
+     */
+    public void sendFieldUpdate(String field) {
+        this.syncFields.add(field);
+    }
+
+    /**
+     * Write all fields that were marked for syncing, and unmark them.
+     * @return A tag with a sub-tag for each field, or null if no fields were marked.
+     */
+    public NBTTagCompound writeSyncFieldsAndReset() {
+        if (syncFields.isEmpty()) {
+            return null;
+        }
+        NBTTagCompound tag = new NBTTagCompound();
+        for (String field : syncFields) {
+            NBTTagCompound fieldTag = new NBTTagCompound();
+            writeSyncField(field, fieldTag);
+            tag.setTag(field, fieldTag);
+        }
+        syncFields.clear();
+        return tag;
+    }
+
+    /**
+     * Read the synced fields on the client.
+     * @param tag A tag that was created by {@link #writeSyncFieldsAndReset()}.
+     */
+    public void readSyncFields(NBTTagCompound tag) {
+        for (String field : tag.getKeySet()) {
+            readSyncField(field, tag.getCompoundTag(field));
+        }
+    }
+
+    /**
+     * Write the given field for syncing.
+     * @param field The field name.
+     * @param tag The tag to write to.
+     */
+    protected void writeSyncField(String field, NBTTagCompound tag) {
+
+    }
+
+    /**
+     * Read the given synced field.
+     * @param field The field name.
+     * @param tag The tag to read from.
+     */
+    protected void readSyncField(String field, NBTTagCompound tag) {
+
+    }
+
     @Override
     public IAspectProperties getAspectProperties(IAspect aspect) {
         return aspectProperties.get(aspect);
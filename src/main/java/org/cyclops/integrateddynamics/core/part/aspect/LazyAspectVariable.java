@@ -5,6 +5,7 @@ import lombok.NonNull;
 import org.apache.commons.lang3.tuple.Pair;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValueType;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IVariableVersioned;
 import org.cyclops.integrateddynamics.api.part.IPartState;
 import org.cyclops.integrateddynamics.api.part.IPartType;
 import org.cyclops.integrateddynamics.api.part.PartPos;
@@ -12,18 +13,22 @@ import org.cyclops.integrateddynamics.api.part.PartTarget;
 import org.cyclops.integrateddynamics.api.part.aspect.IAspectRead;
 import org.cyclops.integrateddynamics.api.part.aspect.IAspectVariable;
 import org.cyclops.integrateddynamics.api.part.aspect.property.IAspectProperties;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueHelpers;
+import org.cyclops.integrateddynamics.core.network.ParallelEvaluation;
 
 /**
  * Variable for a specific aspect from a part that calculates its target value only maximum once per ticking interval.
  * No calculations will be done if the value of this variable is not called.
  * @author rubensworks
  */
-public abstract class LazyAspectVariable<V extends IValue> implements IAspectVariable<V> {
+public abstract class LazyAspectVariable<V extends IValue> implements IAspectVariable<V>, IVariableVersioned<V> {
 
     @Getter private final IValueType<V> type;
     @Getter private final PartTarget target;
     @Getter private final IAspectRead<V, ?> aspect;
     @NonNull private V value;
+    private V previousValue = null;
+    private long version = -1;
     private IAspectProperties cachedProperties = null;
 
     public LazyAspectVariable(IValueType<V> type, PartTarget target, IAspectRead<V, ?> aspect) {
@@ -39,18 +44,39 @@ public abstract class LazyAspectVariable<V extends IValue> implements IAspectVar
 
     @Override
     public void update() {
+        if (value != null) {
+            previousValue = value;
+        }
         value = null;
         cachedProperties = null;
     }
 
+    /**
+     * @return If the value was calculated since the previous update, or before it.
+     */
+    public boolean wasRead() {
+        return value != null || previousValue != null;
+    }
+
     @Override
     public V getValue() {
         if(value == null) {
+            ParallelEvaluation.checkWorldAccess();
             this.value = getValueLazy();
+            if (version < 0 || !ValueHelpers.isValueUnchanged(previousValue, this.value)) {
+                version = ValueHelpers.createVersion();
+            }
+            previousValue = null;
         }
         return this.value;
     }
 
+    @Override
+    public long getVersion() {
+        getValue();
+        return version;
+    }
+
     protected IAspectProperties getAspectProperties() {
         if(cachedProperties == null && getAspect().hasProperties()) {
             PartPos pos = getTarget().getCenter();
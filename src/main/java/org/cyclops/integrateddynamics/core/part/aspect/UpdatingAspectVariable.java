@@ -1,22 +1,30 @@
 package org.cyclops.integrateddynamics.core.part.aspect;
 
+import lombok.AccessLevel;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NonNull;
+import lombok.Setter;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValueType;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IVariableVersioned;
 import org.cyclops.integrateddynamics.api.part.PartTarget;
 import org.cyclops.integrateddynamics.api.part.aspect.IAspectVariable;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueHelpers;
 
 /**
  * Variable for a specific aspect from a part that requires updates for value changes.
  * @author rubensworks
  */
 @Data
-public abstract class UpdatingAspectVariable<V extends IValue> implements IAspectVariable<V> {
+@EqualsAndHashCode(exclude = "version")
+public abstract class UpdatingAspectVariable<V extends IValue> implements IAspectVariable<V>, IVariableVersioned<V> {
 
     private final IValueType<V> type;
     private final PartTarget target;
     @NonNull private V value;
+    @Setter(AccessLevel.NONE)
+    private long version = ValueHelpers.createVersion();
 
     public UpdatingAspectVariable(IValueType<V> type, PartTarget target) {
         this.type = type;
@@ -24,6 +32,13 @@ public abstract class UpdatingAspectVariable<V extends IValue> implements IAspec
         this.value = type.getDefault();
     }
 
+    public void setValue(@NonNull V value) {
+        if (!ValueHelpers.isValueUnchanged(this.value, value)) {
+            this.version = ValueHelpers.createVersion();
+        }
+        this.value = value;
+    }
+
     @Override
     public boolean requiresUpdate() {
         return true;
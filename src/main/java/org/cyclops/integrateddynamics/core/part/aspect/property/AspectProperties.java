@@ -10,6 +10,7 @@ import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValueType;
 import org.cyclops.integrateddynamics.api.part.aspect.property.IAspectProperties;
 import org.cyclops.integrateddynamics.api.part.aspect.property.IAspectPropertyTypeInstance;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueHelpers;
 import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypes;
 
 import java.util.Collection;
@@ -70,7 +71,7 @@ public class AspectProperties implements IAspectProperties {
             NBTTagCompound nbtEntry = new NBTTagCompound();
             nbtEntry.setString("key", entry.getKey().getType().getUnlocalizedName());
             nbtEntry.setString("label", entry.getKey().getUnlocalizedName());
-            nbtEntry.setString("value", entry.getKey().getType().serialize(entry.getValue()));
+            nbtEntry.setTag("value", ValueHelpers.serializeNbt(entry.getKey().getType(), entry.getValue()));
             map.appendTag(nbtEntry);
         }
         tag.setTag("map", map);
@@ -88,7 +89,7 @@ public class AspectProperties implements IAspectProperties {
             if(type == null) {
                 IntegratedDynamics.clog(Level.ERROR, String.format("Could not find value type with name %s, skipping loading.", valueTypeName));
             } else {
-                IValue value = type.deserialize(nbtEntry.getString("value"));
+                IValue value = ValueHelpers.deserializeNbt(type, nbtEntry.getTag("value"));
                 String label = nbtEntry.getString("label");
                 if(value == null) {
                     IntegratedDynamics.clog(Level.ERROR, String.format("The value type %s could not load its value, using default.", valueTypeName));
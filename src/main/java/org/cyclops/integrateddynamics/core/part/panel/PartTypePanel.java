@@ -5,13 +5,13 @@ import org.cyclops.cyclopscore.config.extendedconfig.BlockConfig;
 import org.cyclops.integrateddynamics.api.part.IPartState;
 import org.cyclops.integrateddynamics.api.part.PartRenderPosition;
 import org.cyclops.integrateddynamics.core.block.IgnoredBlockStatus;
-import org.cyclops.integrateddynamics.core.part.PartTypeBase;
+import org.cyclops.integrateddynamics.core.part.PartTypeConfigurable;
 
 /**
  * A base part that is flat and can be used to render things on.
  * @author rubensworks
  */
-public abstract class PartTypePanel<P extends PartTypePanel<P, S>, S extends IPartState<P>> extends PartTypeBase<P, S> {
+public abstract class PartTypePanel<P extends PartTypePanel<P, S>, S extends IPartState<P>> extends PartTypeConfigurable<P, S> {
 
     public PartTypePanel(String name) {
         super(name, new PartRenderPosition(0.125F, 0.1875F, 0.625F, 0.625F));
@@ -22,4 +22,9 @@ public abstract class PartTypePanel<P extends PartTypePanel<P, S>, S extends IPa
         return new IgnoredBlockStatus(blockConfig);
     }
 
+    @Override
+    public boolean hasSettings() {
+        return false;
+    }
+
 }
@@ -8,6 +8,7 @@ import net.minecraft.client.gui.GuiScreen;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.inventory.Container;
 import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.NBTBase;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.util.EnumFacing;
 import net.minecraft.util.EnumHand;
@@ -16,9 +17,10 @@ import net.minecraft.util.text.TextFormatting;
 import net.minecraft.world.World;
 import org.apache.logging.log4j.Level;
 import org.cyclops.cyclopscore.config.extendedconfig.BlockConfig;
-import org.cyclops.cyclopscore.helper.BlockHelpers;
 import org.cyclops.cyclopscore.helper.L10NHelpers;
 import org.cyclops.cyclopscore.helper.MinecraftHelpers;
+import org.cyclops.cyclopscore.init.ModBase;
+import org.cyclops.cyclopscore.inventory.IGuiContainerProvider;
 import org.cyclops.integrateddynamics.IntegratedDynamics;
 import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
@@ -32,11 +34,16 @@ import org.cyclops.integrateddynamics.api.part.PartTarget;
 import org.cyclops.integrateddynamics.client.gui.GuiPartDisplay;
 import org.cyclops.integrateddynamics.core.block.IgnoredBlock;
 import org.cyclops.integrateddynamics.core.block.IgnoredBlockStatus;
+import org.cyclops.integrateddynamics.core.client.gui.container.GuiPartPanelSettings;
 import org.cyclops.integrateddynamics.core.evaluate.variable.ValueHelpers;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypeDouble;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypeInteger;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypeLong;
 import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypes;
 import org.cyclops.integrateddynamics.core.helper.L10NValues;
 import org.cyclops.integrateddynamics.core.helper.NetworkHelpers;
 import org.cyclops.integrateddynamics.core.helper.WrenchHelpers;
+import org.cyclops.integrateddynamics.core.inventory.container.ContainerPartPanelSettings;
 import org.cyclops.integrateddynamics.core.network.event.NetworkElementAddEvent;
 import org.cyclops.integrateddynamics.core.network.event.VariableContentsUpdatedEvent;
 import org.cyclops.integrateddynamics.core.part.PartStateActiveVariableBase;
@@ -61,6 +68,16 @@ public abstract class PartTypePanelVariableDriven<P extends PartTypePanelVariabl
         return new IgnoredBlockStatus(blockConfig);
     }
 
+    @Override
+    public boolean hasSettings() {
+        return true;
+    }
+
+    @Override
+    protected IGuiContainerProvider constructSettingsGuiProvider(int guiId) {
+        return new GuiProviderPanelSettings(guiId, getModGui());
+    }
+
     @Override
     protected Map<Class<? extends INetworkEvent>, IEventAction> constructNetworkEventActions() {
         Map<Class<? extends INetworkEvent>, IEventAction> actions = super.constructNetworkEventActions();
@@ -68,7 +85,9 @@ public abstract class PartTypePanelVariableDriven<P extends PartTypePanelVariabl
             @Override
             public void onAction(INetwork network, PartTarget target, S state, VariableContentsUpdatedEvent event) {
                 IPartNetwork partNetwork = NetworkHelpers.getPartNetwork(network);
-                onVariableContentsUpdated(partNetwork, target, state);
+                if(event.isAffected(state.getCurrentVariableFacade())) {
+                    onVariableContentsUpdated(partNetwork, target, state);
+                }
             }
         });
         actions.put(NetworkElementAddEvent.Post.class, new IEventAction<P, S, NetworkElementAddEvent.Post>() {
@@ -127,24 +146,42 @@ public abstract class PartTypePanelVariableDriven<P extends PartTypePanelVariabl
                 state.addGlobalError(new L10NHelpers.UnlocalizedString(e.getLocalizedMessage()));
             }
         }
-        if(!ValueHelpers.areValuesEqual(lastValue, newValue)) {
+        if(!ValueHelpers.areValuesEqual(lastValue, newValue) && isSignificantChange(state, lastValue, newValue)) {
             onValueChanged(partNetwork, target, state, lastValue, newValue);
 
-            // We can't call state.sendUpdate() here, so we must trigger a block update manually.
-            // This was the cause of issue #46 which made it so that values that change after one tick are
-            // NOT sent to the client.
-            // This was because in each server tick, all tiles are first updated and then the networks.
-            // Since sendUpdate marks a flag for the part to update, this caused a loss of one tick.
-            // For example:
-            // tick-0: Tile tick
-            // tick-0: Part tick: update a value, and mark part to update
-            // tick-0: -- send all block updates to client ---
-            // tick-1: Tile tick: notices and update, marks a block update
-            // tick-1: Part tick: update the value again, the old value has still not been sent here!
-            // tick-1: -- send all block updates to client --- This will contain the value that was set in tick-1.
+            // Only the display value is sent to the client(s), instead of the full part container.
             state.onDirty();
-            BlockHelpers.markForUpdate(target.getCenter().getPos().getWorld(), target.getCenter().getPos().getBlockPos());
+            state.sendFieldUpdate(State.SYNC_FIELD_DISPLAY_VALUE);
+        }
+    }
+
+    /**
+     * Check if the change of a value is large enough to be displayed.
+     * For numerical values, the difference must be at least the change threshold of the state.
+     * @param state The part state.
+     * @param lastValue The displayed value.
+     * @param newValue The new value.
+     * @return If the new value should be displayed.
+     */
+    protected boolean isSignificantChange(S state, IValue lastValue, IValue newValue) {
+        double threshold = state.getChangeThreshold();
+        if (threshold <= 0 || lastValue == null || newValue == null || lastValue.getType() != newValue.getType()) {
+            return true;
         }
+        double lastNumber = getNumber(lastValue);
+        double newNumber = getNumber(newValue);
+        return Double.isNaN(lastNumber) || Double.isNaN(newNumber) || Math.abs(newNumber - lastNumber) >= threshold;
+    }
+
+    protected static double getNumber(IValue value) {
+        if (value instanceof ValueTypeInteger.ValueInteger) {
+            return ((ValueTypeInteger.ValueInteger) value).getRawValue();
+        } else if (value instanceof ValueTypeLong.ValueLong) {
+            return ((ValueTypeLong.ValueLong) value).getRawValue();
+        } else if (value instanceof ValueTypeDouble.ValueDouble) {
+            return ((ValueTypeDouble.ValueDouble) value).getRawValue();
+        }
+        return Double.NaN;
     }
 
     protected void onValueChanged(IPartNetwork network, PartTarget target, S state, IValue lastValue, IValue newValue) {
@@ -248,12 +285,20 @@ public abstract class PartTypePanelVariableDriven<P extends PartTypePanelVariabl
 
     public static abstract class State<P extends PartTypePanelVariableDriven<P, S>, S extends PartTypePanelVariableDriven.State<P, S>> extends PartStateActiveVariableBase<P> {
 
+        /**
+         * The sync field for the display value.
+         */
+        public static final String SYNC_FIELD_DISPLAY_VALUE = "displayValue";
+
         @Getter
         @Setter
         private IValue displayValue;
         @Getter
         @Setter
         private EnumFacing facingRotation = EnumFacing.NORTH;
+        @Getter
+        @Setter
+        private double changeThreshold = 0;
 
         public State() {
             super(1);
@@ -262,27 +307,54 @@ public abstract class PartTypePanelVariableDriven<P extends PartTypePanelVariabl
         @Override
         public void writeToNBT(NBTTagCompound tag) {
             super.writeToNBT(tag);
-            IValue value = getDisplayValue();
-            if(value != null) {
-                tag.setString("displayValueType", value.getType().getUnlocalizedName());;
-                tag.setString("displayValue", value.getType().serialize(value));
-            }
+            writeDisplayValue(tag);
             tag.setInteger("facingRotation", facingRotation.ordinal());
+            tag.setDouble("changeThreshold", changeThreshold);
         }
 
         @Override
         public void readFromNBT(NBTTagCompound tag) {
             super.readFromNBT(tag);
+            readDisplayValue(tag);
+            facingRotation = EnumFacing.values()[Math.max(2, tag.getInteger("facingRotation"))];
+            changeThreshold = tag.getDouble("changeThreshold");
+        }
+
+        @Override
+        protected void writeSyncField(String field, NBTTagCompound tag) {
+            super.writeSyncField(field, tag);
+            if (SYNC_FIELD_DISPLAY_VALUE.equals(field)) {
+                writeDisplayValue(tag);
+            }
+        }
+
+        @Override
+        protected void readSyncField(String field, NBTTagCompound tag) {
+            super.readSyncField(field, tag);
+            if (SYNC_FIELD_DISPLAY_VALUE.equals(field)) {
+                readDisplayValue(tag);
+            }
+        }
+
+        protected void writeDisplayValue(NBTTagCompound tag) {
+            IValue value = getDisplayValue();
+            if(value != null) {
+                tag.setString("displayValueType", value.getType().getUnlocalizedName());;
+                tag.setTag("displayValue", ValueHelpers.serializeNbt(value));
+            }
+        }
+
+        protected void readDisplayValue(NBTTagCompound tag) {
             if(tag.hasKey("displayValueType", MinecraftHelpers.NBTTag_Types.NBTTagString.ordinal())
-                    && tag.hasKey("displayValue", MinecraftHelpers.NBTTag_Types.NBTTagString.ordinal())) {
+                    && tag.hasKey("displayValue")) {
                 IValueType valueType = ValueTypes.REGISTRY.getValueType(tag.getString("displayValueType"));
                 if(valueType != null) {
-                    String serializedValue = tag.getString("displayValue");
-                    L10NHelpers.UnlocalizedString deserializationError = valueType.canDeserialize(serializedValue);
-                    if(deserializationError == null) {
-                        setDisplayValue(valueType.deserialize(serializedValue));
-                    } else {
-                        IntegratedDynamics.clog(Level.ERROR, deserializationError.localize());
+                    NBTBase serializedValue = tag.getTag("displayValue");
+                    try {
+                        setDisplayValue(ValueHelpers.deserializeNbt(valueType, serializedValue));
+                    } catch (IllegalArgumentException e) {
+                        IntegratedDynamics.clog(Level.ERROR, new L10NHelpers.UnlocalizedString(
+                                L10NValues.VALUETYPE_ERROR_INVALIDINPUT, serializedValue.toString()).localize());
                     }
                 } else {
                     IntegratedDynamics.clog(Level.ERROR,
@@ -292,7 +364,23 @@ public abstract class PartTypePanelVariableDriven<P extends PartTypePanelVariabl
             } else {
                 setDisplayValue(null);
             }
-            facingRotation = EnumFacing.values()[Math.max(2, tag.getInteger("facingRotation"))];
+        }
+    }
+
+    public static class GuiProviderPanelSettings extends GuiProviderSettings {
+
+        public GuiProviderPanelSettings(int guiID, ModBase modGui) {
+            super(guiID, modGui);
+        }
+
+        @Override
+        public Class<? extends Container> getContainer() {
+            return ContainerPartPanelSettings.class;
+        }
+
+        @Override
+        public Class<? extends GuiScreen> getGui() {
+            return GuiPartPanelSettings.class;
         }
     }
 
@@ -16,6 +16,7 @@ import org.cyclops.integrateddynamics.api.part.aspect.IAspectVariable;
 import org.cyclops.integrateddynamics.api.part.read.IPartStateReader;
 import org.cyclops.integrateddynamics.api.part.read.IPartTypeReader;
 import org.cyclops.integrateddynamics.client.gui.GuiPartReader;
+import org.cyclops.integrateddynamics.core.network.diagnostics.NetworkProfiler;
 import org.cyclops.integrateddynamics.core.part.PartTypeAspects;
 import org.cyclops.integrateddynamics.inventory.container.ContainerPartReader;
 import org.cyclops.integrateddynamics.part.aspect.Aspects;
@@ -53,7 +54,7 @@ public abstract class PartTypeReadBase<P extends IPartTypeReader<P, S>, S extend
     public void update(INetwork network, IPartNetwork partNetwork, PartTarget target, S state) {
         super.update(network, partNetwork, target, state);
         for(IAspect aspect : getAspects()) {
-            aspect.update(partNetwork, this, target, state);
+            NetworkProfiler.updateAspect(aspect, partNetwork, this, target, state);
         }
     }
 
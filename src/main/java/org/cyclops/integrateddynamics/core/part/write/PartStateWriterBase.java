@@ -51,6 +51,22 @@ public class PartStateWriterBase<P extends IPartTypeWriter>
         super.readFromNBT(tag);
     }
 
+    @Override
+    protected void writeSyncField(String field, NBTTagCompound tag) {
+        super.writeSyncField(field, tag);
+        if (SYNC_FIELD_ERRORS.equals(field)) {
+            NBTClassType.getType(Map.class, this.errorMessages).writePersistedField("errorMessages", this.errorMessages, tag);
+        }
+    }
+
+    @Override
+    protected void readSyncField(String field, NBTTagCompound tag) {
+        super.readSyncField(field, tag);
+        if (SYNC_FIELD_ERRORS.equals(field)) {
+            this.errorMessages = (Map<String, List<L10NHelpers.UnlocalizedString>>) NBTClassType.getType(Map.class, this.errorMessages).readPersistedField("errorMessages", tag);
+        }
+    }
+
     @Override
     protected void validate(IPartNetwork network) {
         // Note that this is only called server-side, so these errors are sent via NBT to the client(s).
@@ -116,7 +132,7 @@ public class PartStateWriterBase<P extends IPartTypeWriter>
             CollectionHelpers.addToMapList(errorMessages, aspect.getUnlocalizedName(), error);
         }
         onDirty();
-        sendUpdate(); // We want this error messages to be sent to the client(s).
+        sendFieldUpdate(SYNC_FIELD_ERRORS); // We want this error messages to be sent to the client(s).
     }
 
     @Override
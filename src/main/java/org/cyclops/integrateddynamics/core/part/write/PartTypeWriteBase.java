@@ -28,6 +28,7 @@ import org.cyclops.integrateddynamics.core.block.IgnoredBlock;
 import org.cyclops.integrateddynamics.core.block.IgnoredBlockStatus;
 import org.cyclops.integrateddynamics.core.helper.L10NValues;
 import org.cyclops.integrateddynamics.core.helper.NetworkHelpers;
+import org.cyclops.integrateddynamics.core.network.diagnostics.NetworkProfiler;
 import org.cyclops.integrateddynamics.core.network.event.NetworkElementAddEvent;
 import org.cyclops.integrateddynamics.core.network.event.VariableContentsUpdatedEvent;
 import org.cyclops.integrateddynamics.core.part.PartTypeAspects;
@@ -62,7 +63,9 @@ public abstract class PartTypeWriteBase<P extends IPartTypeWriter<P, S>, S exten
             @Override
             public void onAction(INetwork network, PartTarget target, S state, VariableContentsUpdatedEvent event) {
                 IPartNetwork partNetwork = NetworkHelpers.getPartNetwork(network);
-                onVariableContentsUpdated(partNetwork, target, state);
+                if(event.isAffected(state.getCurrentVariableFacade())) {
+                    onVariableContentsUpdated(partNetwork, target, state);
+                }
             }
         });
         actions.put(NetworkElementAddEvent.Post.class, new IEventAction<P, S, NetworkElementAddEvent.Post>() {
@@ -90,7 +93,7 @@ public abstract class PartTypeWriteBase<P extends IPartTypeWriter<P, S>, S exten
         super.update(network, partNetwork, target, state);
         IAspect aspect = getActiveAspect(target, state);
         if (aspect != null) {
-            aspect.update(partNetwork, this, target, state);
+            NetworkProfiler.updateAspect(aspect, partNetwork, this, target, state);
         }
     }
 
@@ -0,0 +1,191 @@
+package org.cyclops.integrateddynamics.core.path;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Queues;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Iteratively builds a cluster of connected elements using a breadth-first search.
+ * Elements are identified by their dimension and packed block position,
+ * which are kept in a single {@link PositionSet}, so the search uses constant stack depth
+ * and does not allocate intermediate collections per element.
+ *
+ * It can also determine which parts of a cluster became disconnected after an element was removed,
+ * without having to visit the part that is still connected.
+ * @param <E> The element type.
+ * @author rubensworks
+ */
+public abstract class ClusterBuilder<E> {
+
+    /**
+     * @param element An element.
+     * @return The dimension id of the element.
+     */
+    protected abstract int getDimension(E element);
+
+    /**
+     * @param element An element.
+     * @return The packed block position of the element.
+     */
+    protected abstract long getPosition(E element);
+
+    /**
+     * @param element An element.
+     * @return The elements that are reachable from the given element.
+     */
+    protected abstract Iterable<? extends E> getNeighbours(E element);
+
+    /**
+     * Add all elements that are connected to the given head to the given collection.
+     * @param head The element to start from.
+     * @param cluster The collection to add the connected elements to, including the head.
+     */
+    public void build(E head, Collection<? super E> cluster) {
+        PositionSet visited = new PositionSet();
+        ArrayDeque<E> queue = Queues.newArrayDeque();
+
+        visited.add(getDimension(head), getPosition(head));
+        queue.add(head);
+        E element;
+        while ((element = queue.poll()) != null) {
+            cluster.add(element);
+            for (E neighbour : getNeighbours(element)) {
+                if (visited.add(getDimension(neighbour), getPosition(neighbour))) {
+                    queue.add(neighbour);
+                }
+            }
+        }
+    }
+
+    /**
+     * Find the clusters that are not connected to each other anymore,
+     * starting from the given heads that used to be connected, for example the neighbours of a removed element.
+     *
+     * A search is started from each head and all searches are advanced one element at a time in lockstep.
+     * Searches that reach each other are part of the same cluster.
+     * As soon as at most one cluster is still being explored, that cluster is the one that remains connected,
+     * so the work is bounded by the size of the clusters that became detached.
+     * If all clusters are fully explored, the largest one is considered to remain connected.
+     * @param heads The elements to start from.
+     * @return The fully explored clusters that are detached from the remaining cluster.
+     */
+    @SuppressWarnings("unchecked")
+    public List<List<E>> getDetachedClusters(List<? extends E> heads) {
+        List<List<E>> detached = Lists.newArrayList();
+        int count = heads.size();
+        if (count <= 1) {
+            return detached;
+        }
+
+        PositionMap owners = new PositionMap();
+        int[] groups = new int[count];
+        ArrayDeque<E>[] queues = new ArrayDeque[count];
+        List<E>[] members = new List[count];
+        for (int i = 0; i < count; i++) {
+            E head = heads.get(i);
+            groups[i] = i;
+            queues[i] = Queues.newArrayDeque();
+            members[i] = Lists.newArrayList();
+            int owner = owners.putIfAbsent(getDimension(head), getPosition(head), i);
+            if (owner == PositionMap.ABSENT) {
+                queues[i].add(head);
+                members[i].add(head);
+            } else {
+                join(groups, owner, i);
+            }
+        }
+
+        boolean[] finished = new boolean[count];
+        while (true) {
+            // Advance all searches by one element.
+            for (int i = 0; i < count; i++) {
+                E element = queues[i].poll();
+                if (element != null) {
+                    for (E neighbour : getNeighbours(element)) {
+                        int owner = owners.putIfAbsent(getDimension(neighbour), getPosition(neighbour), i);
+                        if (owner == PositionMap.ABSENT) {
+                            queues[i].add(neighbour);
+                            members[i].add(neighbour);
+                        } else {
+                            join(groups, owner, i);
+                        }
+                    }
+                }
+            }
+
+            // A group is finished once none of its searches have anything left to explore.
+            boolean[] exploring = new boolean[count];
+            for (int i = 0; i < count; i++) {
+                if (!queues[i].isEmpty()) {
+                    exploring[getGroup(groups, i)] = true;
+                }
+            }
+            int unfinished = 0;
+            for (int i = 0; i < count; i++) {
+                if (getGroup(groups, i) == i && !finished[i]) {
+                    if (exploring[i]) {
+                        unfinished++;
+                    } else {
+                        finished[i] = true;
+                    }
+                }
+            }
+            if (unfinished <= 1) {
+                break;
+            }
+        }
+
+        // Collect the elements of all finished groups.
+        List<E>[] clusters = new List[count];
+        List<E> largest = null;
+        for (int i = 0; i < count; i++) {
+            int group = getGroup(groups, i);
+            if (finished[group]) {
+                if (clusters[group] == null) {
+                    clusters[group] = Lists.newArrayList();
+                    detached.add(clusters[group]);
+                }
+                clusters[group].addAll(members[i]);
+            }
+        }
+        if (detached.size() == countGroups(groups)) {
+            // Everything was explored, so the largest cluster remains.
+            for (List<E> cluster : detached) {
+                if (largest == null || cluster.size() > largest.size()) {
+                    largest = cluster;
+                }
+            }
+            detached.remove(largest);
+        }
+        return detached;
+    }
+
+    protected static int getGroup(int[] groups, int i) {
+        while (groups[i] != i) {
+            i = groups[i];
+        }
+        return i;
+    }
+
+    protected static void join(int[] groups, int a, int b) {
+        int groupA = getGroup(groups, a);
+        int groupB = getGroup(groups, b);
+        if (groupA != groupB) {
+            groups[Math.max(groupA, groupB)] = Math.min(groupA, groupB);
+        }
+    }
+
+    protected static int countGroups(int[] groups) {
+        int count = 0;
+        for (int i = 0; i < groups.length; i++) {
+            if (groups[i] == i) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+}
@@ -1,10 +1,10 @@
 package org.cyclops.integrateddynamics.core.path;
 
+import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
-import org.cyclops.cyclopscore.datastructure.DimPos;
 import org.cyclops.integrateddynamics.api.path.IPathElement;
 
-import java.util.Set;
+import java.util.List;
 import java.util.TreeSet;
 
 /**
@@ -13,35 +13,47 @@ import java.util.TreeSet;
  */
 public final class PathFinder {
 
-    protected static TreeSet<IPathElement> getConnectedElements(IPathElement head, Set<DimPos> visitedPositions) {
-        TreeSet<IPathElement> elements = Sets.newTreeSet();
-
-        // Make sure to add our head
-        if(!visitedPositions.contains(head.getPosition())) {
-            elements.add(head);
-            visitedPositions.add(head.getPosition());
+    private static final ClusterBuilder<IPathElement> CLUSTER_BUILDER = new ClusterBuilder<IPathElement>() {
+        @Override
+        protected int getDimension(IPathElement element) {
+            return element.getPosition().getWorld().provider.getDimension();
         }
 
-        // Add neighbours that haven't been checked yet.
-        for(IPathElement neighbour : head.getReachableElements()) {
-            if(!visitedPositions.contains(neighbour.getPosition())) {
-                elements.add(neighbour);
-                visitedPositions.add(neighbour.getPosition());
-            }
+        @Override
+        protected long getPosition(IPathElement element) {
+            return element.getPosition().getBlockPos().toLong();
         }
 
-        // Loop over the added neighbours to recursively check their neighbours.
-        Set<IPathElement> neighbourElements = Sets.newHashSet();
-        for(IPathElement addedElement : elements) {
-            neighbourElements.addAll(getConnectedElements(addedElement, visitedPositions));
+        @Override
+        protected Iterable<IPathElement> getNeighbours(IPathElement element) {
+            return element.getReachableElements();
         }
-        elements.addAll(neighbourElements);
+    };
 
+    protected static TreeSet<IPathElement> getConnectedElements(IPathElement head) {
+        TreeSet<IPathElement> elements = Sets.newTreeSet();
+        CLUSTER_BUILDER.build(head, elements);
         return elements;
     }
 
     public static Cluster getConnectedCluster(IPathElement head) {
-        return new Cluster(getConnectedElements(head, Sets.<DimPos>newTreeSet()));
+        return new Cluster(getConnectedElements(head));
+    }
+
+    /**
+     * Find the clusters that became disconnected from each other,
+     * starting from path elements that used to be connected,
+     * such as the neighbours of a removed path element.
+     * The cluster that remains connected to the rest of the network will not be fully visited.
+     * @param heads The path elements to start from.
+     * @return The detached clusters.
+     */
+    public static List<Cluster> getDetachedClusters(List<IPathElement> heads) {
+        List<Cluster> clusters = Lists.newArrayList();
+        for (List<IPathElement> elements : CLUSTER_BUILDER.getDetachedClusters(heads)) {
+            clusters.add(new Cluster(Sets.newTreeSet(elements)));
+        }
+        return clusters;
     }
 
 }
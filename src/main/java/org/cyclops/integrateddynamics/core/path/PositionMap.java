@@ -0,0 +1,123 @@
+package org.cyclops.integrateddynamics.core.path;
+
+/**
+ * A map from positions to non-negative integers, where each position is a dimension id and a packed block position,
+ * as produced by {@link net.minecraft.util.math.BlockPos#toLong()}.
+ * Entries are stored in primitive arrays using open addressing, so no objects are allocated per entry.
+ * @author rubensworks
+ */
+public class PositionMap {
+
+    /**
+     * The value returned for absent positions.
+     */
+    public static final int ABSENT = -1;
+
+    private static final float LOAD_FACTOR = 0.5F;
+
+    private int[] dimensions;
+    private long[] positions;
+    private int[] values;
+    private boolean[] used;
+    private int size = 0;
+    private int mask;
+
+    public PositionMap() {
+        this(16);
+    }
+
+    /**
+     * @param expectedSize The number of positions this map is expected to hold.
+     */
+    public PositionMap(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(16, (int) (expectedSize / LOAD_FACTOR)) - 1) << 1;
+        allocate(capacity);
+    }
+
+    private void allocate(int capacity) {
+        this.dimensions = new int[capacity];
+        this.positions = new long[capacity];
+        this.values = new int[capacity];
+        this.used = new boolean[capacity];
+        this.mask = capacity - 1;
+    }
+
+    protected static int hash(int dimension, long position) {
+        long h = position * 0x9E3779B97F4A7C15L + dimension;
+        h ^= h >>> 32;
+        h *= 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 29));
+    }
+
+    /**
+     * @return The number of positions in this map.
+     */
+    public int size() {
+        return size;
+    }
+
+    protected int indexOf(int dimension, long position) {
+        int i = hash(dimension, position) & mask;
+        while (used[i]) {
+            if (positions[i] == position && dimensions[i] == dimension) {
+                return i;
+            }
+            i = (i + 1) & mask;
+        }
+        return ~i;
+    }
+
+    /**
+     * @param dimension A dimension id.
+     * @param position A packed block position.
+     * @return The value for the position, or {@link #ABSENT}.
+     */
+    public int get(int dimension, long position) {
+        int i = indexOf(dimension, position);
+        return i >= 0 ? values[i] : ABSENT;
+    }
+
+    /**
+     * Set the value for a position if it was not present yet.
+     * @param dimension A dimension id.
+     * @param position A packed block position.
+     * @param value A non-negative value.
+     * @return The value that was already present for the position, or {@link #ABSENT} if the value was set.
+     */
+    public int putIfAbsent(int dimension, long position, int value) {
+        int i = indexOf(dimension, position);
+        if (i >= 0) {
+            return values[i];
+        }
+        i = ~i;
+        used[i] = true;
+        dimensions[i] = dimension;
+        positions[i] = position;
+        values[i] = value;
+        if (++size > used.length * LOAD_FACTOR) {
+            grow();
+        }
+        return ABSENT;
+    }
+
+    private void grow() {
+        int[] oldDimensions = this.dimensions;
+        long[] oldPositions = this.positions;
+        int[] oldValues = this.values;
+        boolean[] oldUsed = this.used;
+        allocate(oldUsed.length << 1);
+        for (int j = 0; j < oldUsed.length; j++) {
+            if (oldUsed[j]) {
+                int i = hash(oldDimensions[j], oldPositions[j]) & mask;
+                while (used[i]) {
+                    i = (i + 1) & mask;
+                }
+                used[i] = true;
+                dimensions[i] = oldDimensions[j];
+                positions[i] = oldPositions[j];
+                values[i] = oldValues[j];
+            }
+        }
+    }
+
+}
@@ -0,0 +1,40 @@
+package org.cyclops.integrateddynamics.core.path;
+
+/**
+ * A set of positions where each position is a dimension id and a packed block position,
+ * as produced by {@link net.minecraft.util.math.BlockPos#toLong()}.
+ * @author rubensworks
+ */
+public class PositionSet extends PositionMap {
+
+    public PositionSet() {
+        super();
+    }
+
+    /**
+     * @param expectedSize The number of positions this set is expected to hold.
+     */
+    public PositionSet(int expectedSize) {
+        super(expectedSize);
+    }
+
+    /**
+     * @param dimension A dimension id.
+     * @param position A packed block position.
+     * @return If the position is present in this set.
+     */
+    public boolean contains(int dimension, long position) {
+        return indexOf(dimension, position) >= 0;
+    }
+
+    /**
+     * Add a position to this set.
+     * @param dimension A dimension id.
+     * @param position A packed block position.
+     * @return If the position was not yet present in this set.
+     */
+    public boolean add(int dimension, long position) {
+        return putIfAbsent(dimension, position, 0) == ABSENT;
+    }
+
+}
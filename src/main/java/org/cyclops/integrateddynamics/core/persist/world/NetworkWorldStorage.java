@@ -1,5 +1,8 @@
 package org.cyclops.integrateddynamics.core.persist.world;
 
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.nbt.NBTTagList;
@@ -10,11 +13,14 @@ import org.cyclops.cyclopscore.persist.world.WorldStorage;
 import org.cyclops.integrateddynamics.api.network.INetwork;
 import org.cyclops.integrateddynamics.core.network.Network;
 
-import java.util.Collections;
+import java.util.Map;
 import java.util.Set;
 
 /**
  * World NBT storage for all active networks.
+ *
+ * Networks are iterated far more often than they are added or removed,
+ * so readers get an immutable snapshot that is only rebuilt after the networks have changed.
  * @author rubensworks
  */
 public class NetworkWorldStorage extends WorldStorage {
@@ -24,6 +30,8 @@ public class NetworkWorldStorage extends WorldStorage {
     @NBTPersist
     private Set<INetwork> networks = Sets.newHashSet();
 
+    private volatile Snapshot snapshot = null;
+
     private NetworkWorldStorage(ModBase mod) {
         super(mod);
     }
@@ -54,11 +62,13 @@ public class NetworkWorldStorage extends WorldStorage {
         } else {
             super.readGeneratedFieldsFromNBT(tag);
         }
+        onNetworksChanged();
     }
 
     @Override
-    public void reset() {
+    public synchronized void reset() {
         networks.clear();
+        onNetworksChanged();
     }
 
     @Override
@@ -71,7 +81,9 @@ public class NetworkWorldStorage extends WorldStorage {
      * @param network The network.
      */
     public synchronized void addNewNetwork(INetwork network) {
-        networks.add(network);
+        if (networks.add(network)) {
+            onNetworksChanged();
+        }
     }
 
     /**
@@ -80,14 +92,58 @@ public class NetworkWorldStorage extends WorldStorage {
      * @param network The network.
      */
     public synchronized void removeInvalidatedNetwork(INetwork network) {
-        networks.remove(network);
+        if (networks.remove(network)) {
+            onNetworksChanged();
+        }
+    }
+
+    protected synchronized void onNetworksChanged() {
+        snapshot = null;
+    }
+
+    /**
+     * Called when a network went to sleep or woke up.
+     * @param network The network.
+     */
+    public void onNetworkSleepChanged(INetwork network) {
+        onNetworksChanged();
+    }
+
+    protected Snapshot getSnapshot() {
+        Snapshot snapshot = this.snapshot;
+        if (snapshot == null) {
+            synchronized (this) {
+                snapshot = this.snapshot;
+                if (snapshot == null) {
+                    snapshot = new Snapshot(networks);
+                    this.snapshot = snapshot;
+                }
+            }
+        }
+        return snapshot;
+    }
+
+    /**
+     * @return An immutable snapshot of the current network set, which is not copied again until the networks change.
+     */
+    public Set<INetwork> getNetworks() {
+        return getSnapshot().networks;
     }
 
     /**
-     * @return A thread-safe copy of the current network set.
+     * @return An immutable snapshot of the networks that are not sleeping.
      */
-    public synchronized Set<INetwork> getNetworks() {
-        return Collections.unmodifiableSet(Sets.newHashSet(networks));
+    public Set<INetwork> getTickingNetworks() {
+        return getSnapshot().tickingNetworks;
+    }
+
+    /**
+     * @param dimension A dimension id.
+     * @return An immutable snapshot of the networks that went to sleep in the given dimension.
+     */
+    public Set<INetwork> getSleepingNetworks(int dimension) {
+        Set<INetwork> networks = getSnapshot().sleepingNetworks.get(dimension);
+        return networks == null ? ImmutableSet.<INetwork>of() : networks;
     }
 
     @Override
@@ -95,6 +151,7 @@ public class NetworkWorldStorage extends WorldStorage {
         for(INetwork network : networks) {
             network.afterServerLoad();
         }
+        onNetworksChanged();
     }
 
     @Override
@@ -104,4 +161,52 @@ public class NetworkWorldStorage extends WorldStorage {
         }
     }
 
+    /**
+     * An immutable view of the networks at a certain moment.
+     */
+    protected static class Snapshot {
+
+        private final Set<INetwork> networks;
+        private final Set<INetwork> tickingNetworks;
+        private final Map<Integer, Set<INetwork>> sleepingNetworks;
+
+        public Snapshot(Set<INetwork> networks) {
+            this.networks = ImmutableSet.copyOf(networks);
+            Map<Integer, ImmutableSet.Builder<INetwork>> sleepingBuilders = Maps.newHashMap();
+            ImmutableSet.Builder<INetwork> tickingNetworks = ImmutableSet.builder();
+            for (INetwork network : this.networks) {
+                if (network instanceof Network) {
+                    Network concreteNetwork = (Network) network;
+                    if (concreteNetwork.isSleeping()) {
+                        addToIndex(sleepingBuilders, concreteNetwork.getSleepingDimension(), network);
+                        continue;
+                    }
+                }
+                tickingNetworks.add(network);
+            }
+            this.tickingNetworks = tickingNetworks.build();
+            this.sleepingNetworks = buildIndex(sleepingBuilders);
+        }
+
+        protected static void addToIndex(Map<Integer, ImmutableSet.Builder<INetwork>> builders, Integer dimension,
+                                         INetwork network) {
+            if (dimension != null) {
+                ImmutableSet.Builder<INetwork> builder = builders.get(dimension);
+                if (builder == null) {
+                    builder = ImmutableSet.builder();
+                    builders.put(dimension, builder);
+                }
+                builder.add(network);
+            }
+        }
+
+        protected static Map<Integer, Set<INetwork>> buildIndex(Map<Integer, ImmutableSet.Builder<INetwork>> builders) {
+            ImmutableMap.Builder<Integer, Set<INetwork>> index = ImmutableMap.builder();
+            for (Map.Entry<Integer, ImmutableSet.Builder<INetwork>> entry : builders.entrySet()) {
+                index.put(entry.getKey(), entry.getValue().build());
+            }
+            return index.build();
+        }
+    }
+
 }
@@ -0,0 +1,194 @@
+package org.cyclops.integrateddynamics.core.recipe;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraftforge.fluids.FluidStack;
+import net.minecraftforge.oredict.OreDictionary;
+import org.apache.commons.lang3.tuple.Triple;
+import org.cyclops.cyclopscore.helper.FluidHelpers;
+
+import javax.annotation.Nullable;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An index for finding recipes by their input item and fluid, shared by all machines of a certain type.
+ *
+ * Recipes are indexed by input item, metadata and fluid.
+ * Each bucket is sorted by descending input fluid amount, and by registration order for equal amounts.
+ * The index is built on first use, and is rebuilt when the number of recipes in the registry changes.
+ *
+ * The index only narrows down the candidate recipes,
+ * the exact input matching is still done by {@link #matches(Object, ItemStack, FluidStack)}.
+ * @param <R> The recipe type.
+ * @author rubensworks
+ */
+public abstract class ItemAndFluidRecipeIndex<R> {
+
+    private static final Comparator<Entry<?>> ENTRY_COMPARATOR = new Comparator<Entry<?>>() {
+        @Override
+        public int compare(Entry<?> o1, Entry<?> o2) {
+            if (o1.fluidAmount != o2.fluidAmount) {
+                return o1.fluidAmount > o2.fluidAmount ? -1 : 1;
+            }
+            return Integer.compare(o1.ordinal, o2.ordinal);
+        }
+    };
+
+    private Map<Triple<Item, Integer, String>, List<Entry<R>>> index = null;
+    private int indexedRecipes = -1;
+
+    /**
+     * @return All recipes in the registry, in registration order.
+     */
+    protected abstract List<R> getRecipes();
+
+    /**
+     * @param recipe A recipe.
+     * @return The item stacks that are accepted as input by the recipe, can be empty if the recipe has no input item.
+     */
+    protected abstract List<ItemStack> getInputItems(R recipe);
+
+    /**
+     * @param recipe A recipe.
+     * @return The input fluid of the recipe.
+     */
+    protected abstract @Nullable FluidStack getInputFluid(R recipe);
+
+    /**
+     * @param recipe A candidate recipe.
+     * @param itemStack The input item.
+     * @param fluidStack The input fluid.
+     * @return If the recipe exactly matches the given input, ignoring the fluid amount.
+     */
+    protected abstract boolean matches(R recipe, @Nullable ItemStack itemStack, @Nullable FluidStack fluidStack);
+
+    protected static Triple<Item, Integer, String> getKey(@Nullable Item item, int meta, @Nullable FluidStack fluidStack) {
+        return Triple.of(item, item == null ? 0 : meta, fluidStack == null ? null : fluidStack.getFluid().getName());
+    }
+
+    protected synchronized Map<Triple<Item, Integer, String>, List<Entry<R>>> getIndex() {
+        List<R> recipes = getRecipes();
+        if (index == null || indexedRecipes != recipes.size()) {
+            Map<Triple<Item, Integer, String>, List<Entry<R>>> newIndex = Maps.newHashMap();
+            int ordinal = 0;
+            for (R recipe : recipes) {
+                FluidStack fluidStack = getInputFluid(recipe);
+                Entry<R> entry = new Entry<>(recipe, ordinal++, FluidHelpers.getAmount(fluidStack));
+                List<ItemStack> itemStacks = getInputItems(recipe);
+                if (itemStacks.isEmpty()) {
+                    addEntry(newIndex, getKey(null, 0, fluidStack), entry);
+                }
+                for (ItemStack itemStack : itemStacks) {
+                    if (itemStack == null) {
+                        addEntry(newIndex, getKey(null, 0, fluidStack), entry);
+                    } else {
+                        addEntry(newIndex, getKey(itemStack.getItem(), itemStack.getItemDamage(), fluidStack), entry);
+                    }
+                }
+            }
+            for (Map.Entry<Triple<Item, Integer, String>, List<Entry<R>>> bucket : newIndex.entrySet()) {
+                Collections.sort(bucket.getValue(), ENTRY_COMPARATOR);
+                bucket.setValue(ImmutableList.copyOf(bucket.getValue()));
+            }
+            index = newIndex;
+            indexedRecipes = recipes.size();
+        }
+        return index;
+    }
+
+    protected static <R> void addEntry(Map<Triple<Item, Integer, String>, List<Entry<R>>> index,
+                                       Triple<Item, Integer, String> key, Entry<R> entry) {
+        List<Entry<R>> bucket = index.get(key);
+        if (bucket == null) {
+            bucket = Lists.newArrayList();
+            index.put(key, bucket);
+        }
+        // Oredict inputs can contain the same item multiple times.
+        if (bucket.isEmpty() || bucket.get(bucket.size() - 1) != entry) {
+            bucket.add(entry);
+        }
+    }
+
+    /**
+     * Find the candidate recipes for the given input.
+     * @param itemStack The input item.
+     * @param fluidStack The input fluid.
+     * @return The candidates, sorted by descending input fluid amount.
+     */
+    protected List<Entry<R>> getCandidates(@Nullable ItemStack itemStack, @Nullable FluidStack fluidStack) {
+        Map<Triple<Item, Integer, String>, List<Entry<R>>> index = getIndex();
+        if (itemStack == null) {
+            List<Entry<R>> bucket = index.get(getKey(null, 0, fluidStack));
+            return bucket == null ? Collections.<Entry<R>>emptyList() : bucket;
+        }
+        List<Entry<R>> exact = index.get(getKey(itemStack.getItem(), itemStack.getItemDamage(), fluidStack));
+        List<Entry<R>> wildcard = itemStack.getItemDamage() == OreDictionary.WILDCARD_VALUE ? null
+                : index.get(getKey(itemStack.getItem(), OreDictionary.WILDCARD_VALUE, fluidStack));
+        if (wildcard == null) {
+            return exact == null ? Collections.<Entry<R>>emptyList() : exact;
+        } else if (exact == null) {
+            return wildcard;
+        }
+        List<Entry<R>> candidates = Lists.newArrayListWithCapacity(exact.size() + wildcard.size());
+        candidates.addAll(exact);
+        candidates.addAll(wildcard);
+        Collections.sort(candidates, ENTRY_COMPARATOR);
+        return candidates;
+    }
+
+    /**
+     * Find the first registered recipe for the given input.
+     * @param itemStack The input item.
+     * @param fluidStack The input fluid.
+     * @return The recipe or null.
+     */
+    public @Nullable R findRecipe(@Nullable ItemStack itemStack, @Nullable FluidStack fluidStack) {
+        R firstRecipe = null;
+        int firstOrdinal = Integer.MAX_VALUE;
+        for (Entry<R> entry : getCandidates(itemStack, fluidStack)) {
+            if (entry.ordinal < firstOrdinal && matches(entry.recipe, itemStack, fluidStack)) {
+                firstRecipe = entry.recipe;
+                firstOrdinal = entry.ordinal;
+            }
+        }
+        return firstRecipe;
+    }
+
+    /**
+     * Find the recipe with the largest input fluid amount that is not larger than the given fluid amount.
+     * If no fluid is given, the first registered recipe for the given item is returned.
+     * @param itemStack The input item.
+     * @param fluidStack The input fluid.
+     * @return The recipe or null.
+     */
+    public @Nullable R findMaxFluidRecipe(@Nullable ItemStack itemStack, @Nullable FluidStack fluidStack) {
+        if (fluidStack == null) {
+            return findRecipe(itemStack, null);
+        }
+        for (Entry<R> entry : getCandidates(itemStack, fluidStack)) {
+            if (entry.fluidAmount <= fluidStack.amount && matches(entry.recipe, itemStack, fluidStack)) {
+                return entry.recipe;
+            }
+        }
+        return null;
+    }
+
+    protected static class Entry<R> {
+        private final R recipe;
+        private final int ordinal;
+        private final int fluidAmount;
+
+        public Entry(R recipe, int ordinal, int fluidAmount) {
+            this.recipe = recipe;
+            this.ordinal = ordinal;
+            this.fluidAmount = fluidAmount;
+        }
+    }
+
+}
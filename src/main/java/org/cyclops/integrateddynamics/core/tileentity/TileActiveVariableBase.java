@@ -20,6 +20,8 @@ import org.cyclops.integrateddynamics.core.helper.L10NValues;
 import org.cyclops.integrateddynamics.core.helper.NetworkHelpers;
 import org.cyclops.integrateddynamics.core.network.event.VariableContentsUpdatedEvent;
 
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Set;
 
@@ -76,7 +78,14 @@ public abstract class TileActiveVariableBase<E> extends TileCableConnectableInve
             }
         }
         if(partNetwork != null && lastVariabledId != variableId) {
-            network.getEventBus().post(new VariableContentsUpdatedEvent(network));
+            Set<Integer> changedIds = Sets.newHashSet();
+            if(lastVariabledId != -1) {
+                changedIds.add(lastVariabledId);
+            }
+            if(variableId != -1) {
+                changedIds.add(variableId);
+            }
+            partNetwork.notifyVariablesChanged(changedIds, getProvidedProxyIds());
         }
         sendUpdate();
     }
@@ -85,6 +94,13 @@ public abstract class TileActiveVariableBase<E> extends TileCableConnectableInve
 
     }
 
+    /**
+     * @return The ids of the proxies by which other variables in the network refer to the variable in this tile.
+     */
+    protected Collection<Integer> getProvidedProxyIds() {
+        return Collections.emptySet();
+    }
+
     @Override
     public void onDirty() {
         if(!worldObj.isRemote) {
@@ -120,7 +136,20 @@ public abstract class TileActiveVariableBase<E> extends TileCableConnectableInve
     @Override
     public void onEvent(INetworkEvent event, E networkElement) {
         if(event instanceof VariableContentsUpdatedEvent) {
-            updateReadVariable();
+            VariableContentsUpdatedEvent updatedEvent = (VariableContentsUpdatedEvent) event;
+            IPartNetwork partNetwork = NetworkHelpers.getPartNetwork(getNetwork());
+            if(updatedEvent.isAffected(variableStored)) {
+                updateReadVariable();
+                // Elements that refer to the variable in this tile must refresh as well.
+                // The proxy ids of the event are included to stop proxies that refer to each other.
+                Collection<Integer> providedIds = getProvidedProxyIds();
+                if(partNetwork != null && updatedEvent.getProxyIds() != null
+                        && !updatedEvent.getProxyIds().containsAll(providedIds)) {
+                    Set<Integer> proxyIds = Sets.newHashSet(updatedEvent.getProxyIds());
+                    proxyIds.addAll(providedIds);
+                    partNetwork.notifyVariablesChanged(Collections.<Integer>emptySet(), proxyIds);
+                }
+            }
         }
     }
 
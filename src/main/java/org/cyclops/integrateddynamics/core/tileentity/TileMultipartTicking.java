@@ -39,10 +39,12 @@ import org.cyclops.integrateddynamics.capability.partcontainer.PartContainerConf
 import org.cyclops.integrateddynamics.capability.partcontainer.PartContainerTileMultipartTicking;
 import org.cyclops.integrateddynamics.capability.path.PathElementConfig;
 import org.cyclops.integrateddynamics.capability.path.PathElementTile;
-import org.cyclops.integrateddynamics.client.model.CableRenderState;
 import org.cyclops.integrateddynamics.core.helper.CableHelpers;
 import org.cyclops.integrateddynamics.core.helper.PartHelpers;
+import org.cyclops.integrateddynamics.core.network.packet.PartStateSyncQueue;
 
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Map;
 import java.util.Objects;
 
@@ -85,6 +87,8 @@ public class TileMultipartTicking extends CyclopsTileEntity implements CyclopsTi
     private final ICableFakeable cableFakeable;
 
     private IExtendedBlockState cachedState = null;
+    private boolean syncLightLevels = false;
+    private boolean syncRedstoneLevels = false;
 
     public TileMultipartTicking() {
         partContainer = new PartContainerTileMultipartTicking(this);
@@ -168,13 +172,6 @@ public class TileMultipartTicking extends CyclopsTileEntity implements CyclopsTi
             IFacadeable facadeable = getCapability(FacadeableConfig.CAPABILITY, null);
             builder.withProperty(BlockCable.FACADE, facadeable.hasFacade() ? Optional.of(facadeable.getFacade()) : Optional.absent());
             builder.withProperty(BlockCable.PARTCONTAINER, partContainer);
-            builder.withProperty(BlockCable.RENDERSTATE, new CableRenderState(
-                    this.cableFakeable.isRealCable(),
-                    EnumFacingMap.newMap(this.connected),
-                    EnumFacingMap.newMap(this.partContainer.getPartData()),
-                    facadeBlockName,
-                    facadeMeta
-                    ));
         }
         return cachedState = builder.build();
     }
@@ -186,16 +183,96 @@ public class TileMultipartTicking extends CyclopsTileEntity implements CyclopsTi
             cable.updateConnections();
         }
         partContainer.update();
+        if (syncLightLevels || syncRedstoneLevels) {
+            sendSyncFields();
+        }
+    }
+
+    protected void sendSyncFields() {
+        NBTTagCompound tag = new NBTTagCompound();
+        if (syncLightLevels) {
+            tag.setTag("lightLevels", writeLevels(lightLevels));
+        }
+        if (syncRedstoneLevels) {
+            tag.setTag("redstoneLevels", writeLevels(redstoneLevels));
+            tag.setTag("redstoneStrong", writeFlags(redstoneStrong));
+        }
+        syncLightLevels = false;
+        syncRedstoneLevels = false;
+        PartStateSyncQueue.getInstance().send(getWorld(), getPos(), new NBTTagCompound(), tag, false);
+    }
+
+    /**
+     * Read the light and redstone fields that were sent in a part state sync packet.
+     * @param tag The synced fields.
+     */
+    public void readSyncFields(NBTTagCompound tag) {
+        if (tag.hasKey("lightLevels", MinecraftHelpers.NBTTag_Types.NBTTagCompound.ordinal())) {
+            lightLevels = readLevels(tag.getCompoundTag("lightLevels"));
+        }
+        if (tag.hasKey("redstoneLevels", MinecraftHelpers.NBTTag_Types.NBTTagCompound.ordinal())) {
+            redstoneLevels = readLevels(tag.getCompoundTag("redstoneLevels"));
+            redstoneStrong = readFlags(tag.getCompoundTag("redstoneStrong"));
+        }
+        onUpdateReceived();
+    }
+
+    protected static NBTTagCompound writeLevels(EnumFacingMap<Integer> levels) {
+        NBTTagCompound tag = new NBTTagCompound();
+        for (Map.Entry<EnumFacing, Integer> entry : levels.entrySet()) {
+            tag.setInteger(entry.getKey().getName(), entry.getValue());
+        }
+        return tag;
+    }
+
+    protected static NBTTagCompound writeFlags(EnumFacingMap<Boolean> flags) {
+        NBTTagCompound tag = new NBTTagCompound();
+        for (Map.Entry<EnumFacing, Boolean> entry : flags.entrySet()) {
+            tag.setBoolean(entry.getKey().getName(), entry.getValue());
+        }
+        return tag;
+    }
+
+    protected static EnumFacingMap<Integer> readLevels(NBTTagCompound tag) {
+        EnumFacingMap<Integer> levels = EnumFacingMap.newMap();
+        for (EnumFacing side : EnumFacing.VALUES) {
+            if (tag.hasKey(side.getName())) {
+                levels.put(side, tag.getInteger(side.getName()));
+            }
+        }
+        return levels;
+    }
+
+    protected static EnumFacingMap<Boolean> readFlags(NBTTagCompound tag) {
+        EnumFacingMap<Boolean> flags = EnumFacingMap.newMap();
+        for (EnumFacing side : EnumFacing.VALUES) {
+            if (tag.hasKey(side.getName())) {
+                flags.put(side, tag.getBoolean(side.getName()));
+            }
+        }
+        return flags;
     }
 
     public void updateRedstoneInfo(EnumFacing side) {
-        sendUpdate();
+        updateRedstoneInfo(Collections.singleton(side));
+    }
+
+    /**
+     * Sync the redstone levels and notify the neighbours of this block and of the given sides once.
+     * @param sides The sides of which the redstone level has changed.
+     */
+    public void updateRedstoneInfo(Collection<EnumFacing> sides) {
+        syncRedstoneLevels = true;
+        markDirty();
         getWorld().notifyNeighborsOfStateChange(getPos(), getBlockType());
-        getWorld().notifyNeighborsOfStateChange(pos.offset(side.getOpposite()), getBlockType());
+        for (EnumFacing side : sides) {
+            getWorld().notifyNeighborsOfStateChange(pos.offset(side.getOpposite()), getBlockType());
+        }
     }
 
     public void updateLightInfo() {
-        sendUpdate();
+        syncLightLevels = true;
+        markDirty();
     }
 
     public INetwork getNetwork() {
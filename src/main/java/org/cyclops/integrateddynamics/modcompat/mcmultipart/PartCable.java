@@ -51,7 +51,6 @@ import org.cyclops.integrateddynamics.capability.networkelementprovider.NetworkE
 import org.cyclops.integrateddynamics.capability.partcontainer.PartContainerConfig;
 import org.cyclops.integrateddynamics.capability.path.PathElementConfig;
 import org.cyclops.integrateddynamics.capability.path.PathElementPart;
-import org.cyclops.integrateddynamics.client.model.CableRenderState;
 import org.cyclops.integrateddynamics.core.helper.CableHelpers;
 import org.cyclops.integrateddynamics.core.helper.NetworkHelpers;
 import org.cyclops.integrateddynamics.core.helper.PartHelpers;
@@ -149,13 +148,6 @@ public class PartCable extends MultipartBase implements ITickable {
             } else {
                 builder.withProperty(BlockCable.PART_RENDERPOSITIONS[side.ordinal()], PartRenderPosition.NONE);
             }
-            builder.withProperty(BlockCable.RENDERSTATE, new CableRenderState(
-                    true,
-                    EnumFacingMap.newMap(this.connected),
-                    EnumFacingMap.newMap(this.partContainer.getPartData()),
-                    null,
-                    0
-            ));
         }
         return cachedState = builder.build();
     }
@@ -163,7 +155,7 @@ public class PartCable extends MultipartBase implements ITickable {
     @Override
     public BlockStateContainer createBlockState() {
         return new ExtendedBlockState(MCMultiPartMod.multipart, new IProperty[0],
-                ArrayUtils.addAll(BlockCable.PART_RENDERPOSITIONS, ArrayUtils.addAll(BlockCable.CONNECTED, BlockCable.RENDERSTATE)));
+                ArrayUtils.addAll(BlockCable.PART_RENDERPOSITIONS, BlockCable.CONNECTED));
     }
 
     @Override
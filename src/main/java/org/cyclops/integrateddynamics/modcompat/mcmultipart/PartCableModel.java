@@ -11,7 +11,6 @@ import org.cyclops.cyclopscore.helper.BlockHelpers;
 import org.cyclops.integrateddynamics.api.part.PartRenderPosition;
 import org.cyclops.integrateddynamics.block.BlockCable;
 import org.cyclops.integrateddynamics.client.model.CableModelBase;
-import org.cyclops.integrateddynamics.client.model.IRenderState;
 
 /**
  * A dynamic model for cables.
@@ -62,15 +61,10 @@ public class PartCableModel extends CableModelBase {
     }
 
     @Override
-    protected IBakedModel getPartModel(EnumFacing side) {
+    protected IBlockState getPartBlockState(EnumFacing side) {
         return null;
     }
 
-    @Override
-    protected IRenderState getRenderState() {
-        return BlockHelpers.getSafeBlockStateProperty(getState(), BlockCable.RENDERSTATE, null);
-    }
-
     @Override
     public IBakedModel handleBlockState(IBlockState state, EnumFacing side, long rand) {
         return new PartCableModel(state, side, rand);
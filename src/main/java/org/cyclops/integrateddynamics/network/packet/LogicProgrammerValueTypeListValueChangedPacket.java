@@ -2,6 +2,7 @@ package org.cyclops.integrateddynamics.network.packet;
 
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.entity.player.EntityPlayerMP;
+import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.world.World;
 import net.minecraftforge.fml.relauncher.Side;
 import net.minecraftforge.fml.relauncher.SideOnly;
@@ -21,18 +22,19 @@ import org.cyclops.integrateddynamics.inventory.container.ContainerLogicProgramm
 public class LogicProgrammerValueTypeListValueChangedPacket extends PacketCodec {
 
 	@CodecField
-	private String value;
+	private NBTTagCompound value;
 
     public LogicProgrammerValueTypeListValueChangedPacket() {
 
     }
 
     public LogicProgrammerValueTypeListValueChangedPacket(ValueTypeList.ValueList value) {
-		this.value = value.getType().serialize(value);
+		this.value = new NBTTagCompound();
+		this.value.setTag("value", ValueTypes.LIST.serializeNbt(value));
     }
 
 	protected ValueTypeList.ValueList getListValue() {
-		return ValueTypes.LIST.deserialize(value);
+		return ValueTypes.LIST.deserializeNbt(value.getTag("value"));
 	}
 
 	@Override
@@ -2,6 +2,7 @@ package org.cyclops.integrateddynamics.network.packet;
 
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.entity.player.EntityPlayerMP;
+import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.world.World;
 import net.minecraftforge.fml.relauncher.Side;
 import net.minecraftforge.fml.relauncher.SideOnly;
@@ -22,17 +23,18 @@ import org.cyclops.integrateddynamics.inventory.container.ContainerLogicProgramm
 public class LogicProgrammerValueTypeOperatorValueChangedPacket extends PacketCodec {
 
 	@CodecField
-	private String operatorValue;
+	private NBTTagCompound operatorValue;
 
     public LogicProgrammerValueTypeOperatorValueChangedPacket() {
 
     }
 
     public LogicProgrammerValueTypeOperatorValueChangedPacket(ValueTypeOperator.ValueOperator value) {
+		this.operatorValue = new NBTTagCompound();
 		try {
-			this.operatorValue = value.getType().serialize(value);
+			this.operatorValue.setTag("value", ValueTypes.OPERATOR.serializeNbt(value));
 		} catch (Exception e) {
-			this.operatorValue = "";
+			// An empty tag deserializes to no operator.
 		}
     }
 
@@ -54,7 +56,7 @@ public class LogicProgrammerValueTypeOperatorValueChangedPacket extends PacketCo
 			if(element instanceof ValueTypeOperatorElement) {
 				IOperator operator;
 				try {
-					operator = ValueTypes.OPERATOR.deserialize(operatorValue).getRawValue();
+					operator = ValueTypes.OPERATOR.deserializeNbt(operatorValue.getTag("value")).getRawValue();
 				} catch (IllegalArgumentException e) {
 					operator = null;
 				}
@@ -23,7 +23,6 @@ import org.apache.commons.lang3.tuple.Pair;
 import org.cyclops.commoncapabilities.api.capability.temperature.ITemperature;
 import org.cyclops.commoncapabilities.api.capability.work.IWorker;
 import org.cyclops.cyclopscore.datastructure.DimPos;
-import org.cyclops.cyclopscore.helper.TileHelpers;
 import org.cyclops.integrateddynamics.Capabilities;
 import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
 import org.cyclops.integrateddynamics.api.network.INetwork;
@@ -33,6 +32,7 @@ import org.cyclops.integrateddynamics.api.part.aspect.property.IAspectProperties
 import org.cyclops.integrateddynamics.api.part.aspect.property.IAspectPropertyTypeInstance;
 import org.cyclops.integrateddynamics.core.NoteBlockEventReceiver;
 import org.cyclops.integrateddynamics.core.evaluate.variable.*;
+import org.cyclops.integrateddynamics.core.helper.CapabilityCache;
 import org.cyclops.integrateddynamics.core.helper.NetworkHelpers;
 import org.cyclops.integrateddynamics.core.part.aspect.build.AspectBuilder;
 import org.cyclops.integrateddynamics.core.part.aspect.build.IAspectValuePropagator;
@@ -235,7 +235,7 @@ public class AspectReadBuilders {
             @Override
             public IFluidTankProperties[] getOutput(Pair<PartTarget, IAspectProperties> input) {
                 DimPos dimPos = input.getLeft().getTarget().getPos();
-                IFluidHandler fluidHandler = TileHelpers.getCapability(dimPos, input.getLeft().getTarget().getSide(),
+                IFluidHandler fluidHandler = CapabilityCache.getInstance().getCapability(dimPos, input.getLeft().getTarget().getSide(),
                         CapabilityFluidHandler.FLUID_HANDLER_CAPABILITY);
                 if(fluidHandler != null) {
                     return fluidHandler.getTankProperties();
@@ -247,7 +247,7 @@ public class AspectReadBuilders {
             @Override
             public IFluidTankProperties getOutput(Pair<PartTarget, IAspectProperties> input) {
                 DimPos dimPos = input.getLeft().getTarget().getPos();
-                IFluidHandler fluidHandler = TileHelpers.getCapability(dimPos, input.getLeft().getTarget().getSide(),
+                IFluidHandler fluidHandler = CapabilityCache.getInstance().getCapability(dimPos, input.getLeft().getTarget().getSide(),
                         CapabilityFluidHandler.FLUID_HANDLER_CAPABILITY);
                 if(fluidHandler != null) {
                     IFluidTankProperties[] tankInfo = fluidHandler.getTankProperties();
@@ -308,14 +308,14 @@ public class AspectReadBuilders {
             @Override
             public IItemHandler getOutput(Pair<PartTarget, IAspectProperties> input) {
                 PartPos target = input.getLeft().getTarget();
-                return TileHelpers.getCapability(target.getPos().getWorld(), target.getPos().getBlockPos(), target.getSide(), CapabilityItemHandler.ITEM_HANDLER_CAPABILITY);
+                return CapabilityCache.getInstance().getCapability(target.getPos().getWorld(), target.getPos().getBlockPos(), target.getSide(), CapabilityItemHandler.ITEM_HANDLER_CAPABILITY);
             }
         };
         public static final IAspectValuePropagator<Pair<PartTarget, IAspectProperties>, ItemStack> PROP_GET_SLOT = new IAspectValuePropagator<Pair<PartTarget, IAspectProperties>, ItemStack>() {
             @Override
             public ItemStack getOutput(Pair<PartTarget, IAspectProperties> input) {
                 PartPos target = input.getLeft().getTarget();
-                IItemHandler itemHandler = TileHelpers.getCapability(target.getPos().getWorld(), target.getPos().getBlockPos(), target.getSide(), CapabilityItemHandler.ITEM_HANDLER_CAPABILITY);
+                IItemHandler itemHandler = CapabilityCache.getInstance().getCapability(target.getPos().getWorld(), target.getPos().getBlockPos(), target.getSide(), CapabilityItemHandler.ITEM_HANDLER_CAPABILITY);
                 int slotId = input.getRight().getValue(PROPERTY_SLOTID).getRawValue();
                 if(itemHandler != null && slotId >= 0 && slotId < itemHandler.getSlots()) {
                     return itemHandler.getStackInSlot(slotId);
@@ -347,14 +347,14 @@ public class AspectReadBuilders {
             @Override
             public IWorker getOutput(Pair<PartTarget, IAspectProperties> input) {
                 DimPos dimPos = input.getLeft().getTarget().getPos();
-                return TileHelpers.getCapability(dimPos.getWorld(), dimPos.getBlockPos(), input.getLeft().getTarget().getSide(), Capabilities.WORKER);
+                return CapabilityCache.getInstance().getCapability(dimPos.getWorld(), dimPos.getBlockPos(), input.getLeft().getTarget().getSide(), Capabilities.WORKER);
             }
         };
         public static final IAspectValuePropagator<Pair<PartTarget, IAspectProperties>, ITemperature> PROP_GET_TEMPERATURE = new IAspectValuePropagator<Pair<PartTarget, IAspectProperties>, ITemperature>() {
             @Override
             public ITemperature getOutput(Pair<PartTarget, IAspectProperties> input) {
                 DimPos dimPos = input.getLeft().getTarget().getPos();
-                return TileHelpers.getCapability(dimPos.getWorld(), dimPos.getBlockPos(), input.getLeft().getTarget().getSide(), Capabilities.TEMPERATURE);
+                return CapabilityCache.getInstance().getCapability(dimPos.getWorld(), dimPos.getBlockPos(), input.getLeft().getTarget().getSide(), Capabilities.TEMPERATURE);
             }
         };
 
@@ -2,10 +2,10 @@ package org.cyclops.integrateddynamics.part.aspect.write.redstone;
 
 import net.minecraft.util.EnumFacing;
 import org.cyclops.cyclopscore.datastructure.DimPos;
-import org.cyclops.cyclopscore.helper.TileHelpers;
 import org.cyclops.integrateddynamics.api.block.IDynamicRedstone;
 import org.cyclops.integrateddynamics.api.part.PartTarget;
 import org.cyclops.integrateddynamics.capability.dynamicredstone.DynamicRedstoneConfig;
+import org.cyclops.integrateddynamics.core.helper.CapabilityCache;
 
 /**
  * Default component for writing redstone levels.
@@ -32,6 +32,6 @@ public class WriteRedstoneComponent implements IWriteRedstoneComponent {
 
     @Override
     public IDynamicRedstone getDynamicRedstoneBlock(DimPos dimPos, EnumFacing side) {
-        return TileHelpers.getCapability(dimPos, side, DynamicRedstoneConfig.CAPABILITY);
+        return CapabilityCache.getInstance().getCapability(dimPos, side, DynamicRedstoneConfig.CAPABILITY);
     }
 }
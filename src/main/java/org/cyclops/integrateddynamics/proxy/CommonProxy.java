@@ -6,6 +6,7 @@ import org.cyclops.cyclopscore.proxy.CommonProxyComponent;
 import org.cyclops.integrateddynamics.IntegratedDynamics;
 import org.cyclops.integrateddynamics.core.network.packet.ActionLabelPacket;
 import org.cyclops.integrateddynamics.core.network.packet.AllLabelsPacket;
+import org.cyclops.integrateddynamics.core.network.packet.PartStateSyncPacket;
 import org.cyclops.integrateddynamics.network.packet.*;
 
 /**
@@ -36,6 +37,7 @@ public class CommonProxy extends CommonProxyComponent {
         packetHandler.register(NetworkDiagnosticsNetworkPacket.class);
         packetHandler.register(NetworkDiagnosticsOpenClient.class);
         packetHandler.register(PlayerTeleportPacket.class);
+        packetHandler.register(PartStateSyncPacket.class);
 
         IntegratedDynamics.clog("Registered packet handler.");
     }
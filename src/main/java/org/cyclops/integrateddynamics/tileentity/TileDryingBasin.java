@@ -23,6 +23,9 @@ import org.cyclops.cyclopscore.tileentity.CyclopsTileEntity;
 import org.cyclops.cyclopscore.tileentity.TankInventoryTileEntity;
 import org.cyclops.integrateddynamics.IntegratedDynamics;
 import org.cyclops.integrateddynamics.block.BlockDryingBasin;
+import org.cyclops.integrateddynamics.core.recipe.ItemAndFluidRecipeIndex;
+
+import java.util.List;
 
 /**
  * A part entity for drying stuff.
@@ -31,6 +34,29 @@ import org.cyclops.integrateddynamics.block.BlockDryingBasin;
 public class TileDryingBasin extends TankInventoryTileEntity implements CyclopsTileEntity.ITickingTile {
 
     private static final int WOOD_IGNITION_TEMPERATURE = 573; // 300 degrees celcius
+    private static final ItemAndFluidRecipeIndex<IRecipe<ItemAndFluidStackRecipeComponent, ItemAndFluidStackRecipeComponent, DurationRecipeProperties>> RECIPE_INDEX =
+            new ItemAndFluidRecipeIndex<IRecipe<ItemAndFluidStackRecipeComponent, ItemAndFluidStackRecipeComponent, DurationRecipeProperties>>() {
+                @Override
+                protected List<IRecipe<ItemAndFluidStackRecipeComponent, ItemAndFluidStackRecipeComponent, DurationRecipeProperties>> getRecipes() {
+                    return BlockDryingBasin.getInstance().getRecipeRegistry().allRecipes();
+                }
+
+                @Override
+                protected List<ItemStack> getInputItems(IRecipe<ItemAndFluidStackRecipeComponent, ItemAndFluidStackRecipeComponent, DurationRecipeProperties> recipe) {
+                    return recipe.getInput().getItemStacks();
+                }
+
+                @Override
+                protected FluidStack getInputFluid(IRecipe<ItemAndFluidStackRecipeComponent, ItemAndFluidStackRecipeComponent, DurationRecipeProperties> recipe) {
+                    return recipe.getInput().getFluidStack();
+                }
+
+                @Override
+                protected boolean matches(IRecipe<ItemAndFluidStackRecipeComponent, ItemAndFluidStackRecipeComponent, DurationRecipeProperties> recipe,
+                                          ItemStack itemStack, FluidStack fluidStack) {
+                    return recipe.getInput().equals(new ItemAndFluidStackRecipeComponent(itemStack, fluidStack));
+                }
+            };
 
     @Delegate
     private final ITickingTile tickingTileComponent = new TickingTileComponent(this);
@@ -61,19 +87,7 @@ public class TileDryingBasin extends TankInventoryTileEntity implements CyclopsT
                         IRecipe<ItemAndFluidStackRecipeComponent, ItemAndFluidStackRecipeComponent, DurationRecipeProperties>>() {
                     @Override
                     public IRecipe<ItemAndFluidStackRecipeComponent, ItemAndFluidStackRecipeComponent, DurationRecipeProperties> getNewValue(Pair<ItemStack, FluidStack> key) {
-                        ItemAndFluidStackRecipeComponent recipeInput =
-                                new ItemAndFluidStackRecipeComponent(key.getLeft(), key.getRight());
-                        IRecipe<ItemAndFluidStackRecipeComponent, ItemAndFluidStackRecipeComponent, DurationRecipeProperties> maxRecipe = null;
-                        for (IRecipe<ItemAndFluidStackRecipeComponent, ItemAndFluidStackRecipeComponent, DurationRecipeProperties> recipe : getRegistry().findRecipesByInput(recipeInput)) {
-                            if(key.getRight() == null) {
-                                return recipe;
-                            } else if(key.getRight().amount >= recipe.getInput().getFluidStack().amount
-                                    && (maxRecipe == null
-                                        || recipe.getInput().getFluidStack().amount > maxRecipe.getInput().getFluidStack().amount)) {
-                                maxRecipe = recipe;
-                            }
-                        }
-                        return maxRecipe;
+                        return RECIPE_INDEX.findMaxFluidRecipe(key.getLeft(), key.getRight());
                     }
 
                     @Override
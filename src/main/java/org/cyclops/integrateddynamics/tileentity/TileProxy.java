@@ -23,6 +23,9 @@ import org.cyclops.integrateddynamics.core.item.ProxyVariableFacade;
 import org.cyclops.integrateddynamics.core.tileentity.TileActiveVariableBase;
 import org.cyclops.integrateddynamics.network.ProxyNetworkElement;
 
+import java.util.Collection;
+import java.util.Collections;
+
 /**
  * A part entity for the variable proxy.
  * @author rubensworks
@@ -110,6 +113,11 @@ public class TileProxy extends TileActiveVariableBase<ProxyNetworkElement> {
         });
     }
 
+    @Override
+    protected Collection<Integer> getProvidedProxyIds() {
+        return Collections.singleton(getProxyId());
+    }
+
     @Override
     protected void preValidate(IVariableFacade variableStored) {
         super.preValidate(variableStored);
@@ -24,6 +24,9 @@ import org.cyclops.cyclopscore.recipe.custom.component.ItemStackRecipeComponent;
 import org.cyclops.cyclopscore.tileentity.CyclopsTileEntity;
 import org.cyclops.cyclopscore.tileentity.TankInventoryTileEntity;
 import org.cyclops.integrateddynamics.block.BlockSqueezer;
+import org.cyclops.integrateddynamics.core.recipe.ItemAndFluidRecipeIndex;
+
+import java.util.List;
 
 /**
  * A part entity for squeezing stuff.
@@ -31,6 +34,30 @@ import org.cyclops.integrateddynamics.block.BlockSqueezer;
  */
 public class TileSqueezer extends TankInventoryTileEntity implements CyclopsTileEntity.ITickingTile {
 
+    private static final ItemAndFluidRecipeIndex<IRecipe<ItemStackRecipeComponent, ItemAndFluidStackRecipeComponent, DummyPropertiesComponent>> RECIPE_INDEX =
+            new ItemAndFluidRecipeIndex<IRecipe<ItemStackRecipeComponent, ItemAndFluidStackRecipeComponent, DummyPropertiesComponent>>() {
+                @Override
+                protected List<IRecipe<ItemStackRecipeComponent, ItemAndFluidStackRecipeComponent, DummyPropertiesComponent>> getRecipes() {
+                    return BlockSqueezer.getInstance().getRecipeRegistry().allRecipes();
+                }
+
+                @Override
+                protected List<ItemStack> getInputItems(IRecipe<ItemStackRecipeComponent, ItemAndFluidStackRecipeComponent, DummyPropertiesComponent> recipe) {
+                    return recipe.getInput().getItemStacks();
+                }
+
+                @Override
+                protected FluidStack getInputFluid(IRecipe<ItemStackRecipeComponent, ItemAndFluidStackRecipeComponent, DummyPropertiesComponent> recipe) {
+                    return null;
+                }
+
+                @Override
+                protected boolean matches(IRecipe<ItemStackRecipeComponent, ItemAndFluidStackRecipeComponent, DummyPropertiesComponent> recipe,
+                                          ItemStack itemStack, FluidStack fluidStack) {
+                    return recipe.getInput().equals(new ItemStackRecipeComponent(itemStack));
+                }
+            };
+
     @Delegate
     private final ITickingTile tickingTileComponent = new TickingTileComponent(this);
 
@@ -57,8 +84,7 @@ public class TileSqueezer extends TankInventoryTileEntity implements CyclopsTile
                         IRecipe<ItemStackRecipeComponent, ItemAndFluidStackRecipeComponent, DummyPropertiesComponent>>() {
                     @Override
                     public IRecipe<ItemStackRecipeComponent, ItemAndFluidStackRecipeComponent, DummyPropertiesComponent> getNewValue(ItemStack key) {
-                        ItemStackRecipeComponent recipeInput = new ItemStackRecipeComponent(key);
-                        return getRegistry().findRecipeByInput(recipeInput);
+                        return RECIPE_INDEX.findRecipe(key, null);
                     }
 
                     @Override
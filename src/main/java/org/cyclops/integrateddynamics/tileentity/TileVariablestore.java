@@ -1,6 +1,7 @@
 package org.cyclops.integrateddynamics.tileentity;
 
 import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
 import net.minecraft.inventory.IInventory;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
@@ -11,19 +12,21 @@ import org.cyclops.cyclopscore.datastructure.DimPos;
 import org.cyclops.cyclopscore.persist.IDirtyMarkListener;
 import org.cyclops.integrateddynamics.api.block.IVariableContainer;
 import org.cyclops.integrateddynamics.api.item.IVariableFacade;
-import org.cyclops.integrateddynamics.api.network.INetwork;
 import org.cyclops.integrateddynamics.api.network.INetworkElement;
+import org.cyclops.integrateddynamics.api.network.IPartNetwork;
 import org.cyclops.integrateddynamics.capability.networkelementprovider.NetworkElementProviderConfig;
 import org.cyclops.integrateddynamics.capability.networkelementprovider.NetworkElementProviderSingleton;
 import org.cyclops.integrateddynamics.capability.variablecontainer.VariableContainerConfig;
 import org.cyclops.integrateddynamics.capability.variablecontainer.VariableContainerDefault;
 import org.cyclops.integrateddynamics.capability.variablefacade.VariableFacadeHolderConfig;
-import org.cyclops.integrateddynamics.core.network.event.VariableContentsUpdatedEvent;
+import org.cyclops.integrateddynamics.core.helper.NetworkHelpers;
 import org.cyclops.integrateddynamics.core.tileentity.TileCableConnectableInventory;
 import org.cyclops.integrateddynamics.item.ItemVariable;
 import org.cyclops.integrateddynamics.network.VariablestoreNetworkElement;
 
 import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * A part entity used to store variables.
@@ -36,6 +39,8 @@ public class TileVariablestore extends TileCableConnectableInventory implements
     public static final int COLS = 9;
 
     private final IVariableContainer variableContainer;
+    private final ItemStack[] slotStacks = new ItemStack[ROWS * COLS];
+    private final IVariableFacade[] slotVariables = new IVariableFacade[ROWS * COLS];
 
     public TileVariablestore() {
         super(ROWS * COLS, "variables", 1);
@@ -72,21 +77,49 @@ public class TileVariablestore extends TileCableConnectableInventory implements
         refreshVariables(inventory);
     }
 
+    /**
+     * Update the variables of the slots that have changed since the last refresh,
+     * and notify the network of the ids of the variables that were added, removed or changed.
+     * @param inventory The inventory.
+     */
     protected void refreshVariables(IInventory inventory) {
-        variableContainer.getVariableCache().clear();
+        Set<Integer> changedIds = Sets.newHashSet();
         for (int i = 0; i < inventory.getSizeInventory(); i++) {
             ItemStack itemStack = inventory.getStackInSlot(i);
-            if (itemStack != null) {
-                IVariableFacade variableFacade = ItemVariable.getInstance().getVariableFacade(itemStack);
-                if (variableFacade != null && variableFacade.isValid()) {
-                    variableContainer.getVariableCache().put(variableFacade.getId(), variableFacade);
+            if (!ItemStack.areItemStacksEqual(itemStack, slotStacks[i])) {
+                if (slotVariables[i] != null) {
+                    changedIds.add(slotVariables[i].getId());
                 }
+                slotStacks[i] = itemStack == null ? null : itemStack.copy();
+                slotVariables[i] = null;
+                if (itemStack != null) {
+                    IVariableFacade variableFacade = ItemVariable.getInstance().getVariableFacade(itemStack);
+                    if (variableFacade != null && variableFacade.isValid()) {
+                        slotVariables[i] = variableFacade;
+                        changedIds.add(variableFacade.getId());
+                    }
+                }
+            }
+        }
+        if (changedIds.isEmpty()) {
+            return;
+        }
+
+        // Multiple slots can contain the same variable, the first slot takes precedence.
+        Map<Integer, IVariableFacade> variableCache = variableContainer.getVariableCache();
+        for (int variableId : changedIds) {
+            variableCache.remove(variableId);
+        }
+        for (IVariableFacade variableFacade : slotVariables) {
+            if (variableFacade != null && changedIds.contains(variableFacade.getId())
+                    && !variableCache.containsKey(variableFacade.getId())) {
+                variableCache.put(variableFacade.getId(), variableFacade);
             }
         }
 
-        INetwork network = getNetwork();
-        if(network != null) {
-            network.getEventBus().post(new VariableContentsUpdatedEvent(network));
+        IPartNetwork partNetwork = NetworkHelpers.getPartNetwork(getNetwork());
+        if(partNetwork != null) {
+            partNetwork.onVariablesChanged(DimPos.of(worldObj, getPos()), changedIds);
         }
     }
 
@@ -0,0 +1,159 @@
+package org.cyclops.integrateddynamics.core.evaluate.expression;
+
+import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IVariable;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IVariableVersioned;
+import org.cyclops.integrateddynamics.core.evaluate.operator.Operators;
+import org.cyclops.integrateddynamics.core.evaluate.variable.DummyVariableBoolean;
+import org.cyclops.integrateddynamics.core.evaluate.variable.DummyVariableInteger;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueHelpers;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypeBoolean;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypeInteger;
+import org.cyclops.integrateddynamics.core.evaluate.variable.Variable;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypes;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Test the dependency-tracked caching of lazy expressions.
+ * @author rubensworks
+ */
+public class TestLazyExpression {
+
+    private LazyExpressionValueCache cache;
+
+    @Before
+    public void before() {
+        cache = new LazyExpressionValueCache();
+    }
+
+    protected static int getInt(LazyExpression expression) throws EvaluationException {
+        return ((ValueTypeInteger.ValueInteger) expression.evaluate()).getRawValue();
+    }
+
+    @Test
+    public void testConstantInputsSurviveTicks() throws EvaluationException {
+        LazyExpression expression = new LazyExpression(0, Operators.ARITHMETIC_ADDITION, new IVariable[]{
+                new Variable<>(ValueTypes.INTEGER, ValueTypeInteger.ValueInteger.of(1)),
+                new Variable<>(ValueTypes.INTEGER, ValueTypeInteger.ValueInteger.of(2))}, cache);
+        assertThat(getInt(expression), is(3));
+        for (int i = 0; i < 10; i++) {
+            cache.onTick();
+            assertThat(getInt(expression), is(3));
+        }
+        assertThat("evaluated once", cache.getMisses(), is(1L));
+        assertThat("reused in later ticks", cache.getHits(), is(10L));
+    }
+
+    @Test
+    public void testChangedInputInvalidates() throws EvaluationException {
+        VersionedVariable a = new VersionedVariable(1);
+        LazyExpression expression = new LazyExpression(0, Operators.ARITHMETIC_ADDITION, new IVariable[]{a,
+                new Variable<>(ValueTypes.INTEGER, ValueTypeInteger.ValueInteger.of(2))}, cache);
+        assertThat(getInt(expression), is(3));
+        cache.onTick();
+        a.setValue(10);
+        assertThat(getInt(expression), is(12));
+        assertThat(cache.getInvalidations(), is(1L));
+        assertThat(cache.getMisses(), is(2L));
+    }
+
+    @Test
+    public void testNestedExpressions() throws EvaluationException {
+        VersionedVariable a = new VersionedVariable(1);
+        LazyExpression inner = new LazyExpression(0, Operators.ARITHMETIC_ADDITION, new IVariable[]{a, a}, cache);
+        LazyExpression outer = new LazyExpression(1, Operators.ARITHMETIC_MULTIPLICATION, new IVariable[]{inner, inner}, cache);
+        assertThat(getInt(outer), is(4));
+        long innerVersion = inner.getVersion();
+
+        cache.onTick();
+        assertThat(getInt(outer), is(4));
+        assertThat("inner version is stable", inner.getVersion(), is(innerVersion));
+        assertThat(cache.getMisses(), is(2L));
+
+        cache.onTick();
+        a.setValue(2);
+        assertThat(getInt(outer), is(16));
+        assertThat(cache.getMisses(), is(4L));
+    }
+
+    @Test
+    public void testUnversionedInputsOnlyCachedPerTick() throws EvaluationException {
+        DummyVariableInteger a = new DummyVariableInteger(ValueTypeInteger.ValueInteger.of(1));
+        LazyExpression expression = new LazyExpression(0, Operators.ARITHMETIC_ADDITION, new IVariable[]{a, a}, cache);
+        assertThat(getInt(expression), is(2));
+        assertThat(getInt(expression), is(2));
+        assertThat(cache.getMisses(), is(1L));
+        cache.onTick();
+        a.setValue(ValueTypeInteger.ValueInteger.of(5));
+        assertThat(getInt(expression), is(10));
+        assertThat(cache.getMisses(), is(2L));
+    }
+
+    @Test
+    public void testUntakenBranchNotEvaluated() throws EvaluationException {
+        VersionedBoolean condition = new VersionedBoolean(true);
+        VersionedVariable taken = new VersionedVariable(1);
+        VersionedVariable untaken = new VersionedVariable(2) {
+            @Override
+            public ValueTypeInteger.ValueInteger getValue() {
+                throw new IllegalStateException("The untaken branch must not be evaluated.");
+            }
+
+            @Override
+            public long getVersion() {
+                throw new IllegalStateException("The untaken branch must not be evaluated.");
+            }
+        };
+        LazyExpression expression = new LazyExpression(0, Operators.GENERAL_CHOICE, new IVariable[]{condition, taken, untaken}, cache);
+        assertThat(getInt(expression), is(1));
+        for (int i = 0; i < 5; i++) {
+            cache.onTick();
+            assertThat(getInt(expression), is(1));
+        }
+        assertThat("evaluated once", cache.getMisses(), is(1L));
+        assertThat("reused in later ticks", cache.getHits(), is(5L));
+
+        cache.onTick();
+        taken.setValue(3);
+        assertThat(getInt(expression), is(3));
+        assertThat(cache.getInvalidations(), is(1L));
+    }
+
+    private static class VersionedBoolean extends DummyVariableBoolean implements IVariableVersioned<ValueTypeBoolean.ValueBoolean> {
+
+        private final long version = ValueHelpers.createVersion();
+
+        public VersionedBoolean(boolean value) {
+            super(ValueTypeBoolean.ValueBoolean.of(value));
+        }
+
+        @Override
+        public long getVersion() {
+            return version;
+        }
+    }
+
+    private static class VersionedVariable extends DummyVariableInteger implements IVariableVersioned<ValueTypeInteger.ValueInteger> {
+
+        private long version = ValueHelpers.createVersion();
+
+        public VersionedVariable(int value) {
+            super(ValueTypeInteger.ValueInteger.of(value));
+        }
+
+        public void setValue(int value) {
+            setValue(ValueTypeInteger.ValueInteger.of(value));
+            version = ValueHelpers.createVersion();
+        }
+
+        @Override
+        public long getVersion() {
+            return version;
+        }
+    }
+
+}
@@ -0,0 +1,121 @@
+package org.cyclops.integrateddynamics.core.evaluate.operator;
+
+import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
+import org.cyclops.integrateddynamics.api.evaluate.operator.IOperator;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValueType;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IVariable;
+import org.cyclops.integrateddynamics.core.evaluate.variable.DummyVariableBoolean;
+import org.cyclops.integrateddynamics.core.evaluate.variable.DummyVariableInteger;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypeBoolean;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypeInteger;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypes;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Test compiled operators against interpreted operators.
+ * @author rubensworks
+ */
+public class TestOperatorCompiler {
+
+    private static final IValueType[] INTEGER = new IValueType[]{ValueTypes.INTEGER};
+
+    protected static DummyVariableInteger integer(int value) {
+        return new DummyVariableInteger(ValueTypeInteger.ValueInteger.of(value));
+    }
+
+    protected static IOperator curry(IOperator operator, IVariable applied) {
+        return new CurriedOperator(operator, applied);
+    }
+
+    protected static IValue evaluate(OperatorBase.IFunction function, IVariable... input) throws EvaluationException {
+        return function.evaluate(new OperatorBase.SafeVariablesGetter(input));
+    }
+
+    protected static void assertSame(IOperator operator, IVariable... input) throws EvaluationException {
+        IValueType[] inputTypes = new IValueType[input.length];
+        for (int i = 0; i < input.length; i++) {
+            inputTypes[i] = input[i].getType();
+        }
+        OperatorBase.IFunction compiled = OperatorCompiler.compile(operator, inputTypes);
+        assertThat("compiled and interpreted results are equal", evaluate(compiled, input), is(operator.evaluate(input)));
+    }
+
+    @Test
+    public void testBase() throws EvaluationException {
+        OperatorBase.IFunction compiled = OperatorCompiler.compile(Operators.INTEGER_INCREMENT, INTEGER);
+        assertThat(compiled, instanceOf(OperatorCompiler.Validated.class));
+        assertThat(((ValueTypeInteger.ValueInteger) evaluate(compiled, integer(1))).getRawValue(), is(2));
+    }
+
+    @Test
+    public void testPipe() throws EvaluationException {
+        IOperator pipe = CombinedOperator.Pipe.asOperator(Operators.INTEGER_INCREMENT, Operators.INTEGER_INCREMENT,
+                Operators.INTEGER_INCREMENT);
+        assertThat(OperatorCompiler.compile(pipe, INTEGER), instanceOf(OperatorCompiler.Pipe.class));
+        assertSame(pipe, integer(10));
+    }
+
+    @Test
+    public void testFlip() throws EvaluationException {
+        IOperator flip = CombinedOperator.Flip.asOperator(Operators.ARITHMETIC_SUBTRACTION);
+        assertThat(OperatorCompiler.compile(flip, new IValueType[]{ValueTypes.INTEGER, ValueTypes.INTEGER}),
+                instanceOf(OperatorCompiler.Flip.class));
+        assertSame(flip, integer(10), integer(3));
+    }
+
+    @Test
+    public void testCurried() throws EvaluationException {
+        IOperator positive = curry(Operators.RELATIONAL_LT, integer(0));
+        assertThat(OperatorCompiler.compile(positive, INTEGER), instanceOf(OperatorCompiler.Curried.class));
+        assertSame(positive, integer(-1));
+        assertSame(positive, integer(1));
+    }
+
+    @Test
+    public void testConjunction() throws EvaluationException {
+        IOperator positive = curry(Operators.RELATIONAL_LT, integer(0));
+        IOperator small = curry(Operators.RELATIONAL_GT, integer(10));
+        IOperator conjunction = CombinedOperator.Conjunction.asOperator(positive, small);
+        IOperator disjunction = CombinedOperator.Disjunction.asOperator(positive, small);
+        IOperator negation = CombinedOperator.Negation.asOperator(conjunction);
+        for (int i = -5; i < 15; i += 5) {
+            assertSame(conjunction, integer(i));
+            assertSame(disjunction, integer(i));
+            assertSame(negation, integer(i));
+        }
+    }
+
+    @Test
+    public void testDynamicFallback() throws EvaluationException {
+        OperatorBase.IFunction compiled = OperatorCompiler.compile(Operators.GENERAL_IDENTITY,
+                new IValueType[]{ValueTypes.CATEGORY_ANY});
+        assertThat(compiled, instanceOf(OperatorCompiler.Interpreted.class));
+        assertThat(evaluate(compiled, integer(3)), is((IValue) ValueTypeInteger.ValueInteger.of(3)));
+    }
+
+    @Test(expected = EvaluationException.class)
+    public void testInvalidTypes() throws EvaluationException {
+        OperatorBase.IFunction compiled = OperatorCompiler.compile(Operators.INTEGER_INCREMENT,
+                new IValueType[]{ValueTypes.BOOLEAN});
+        assertThat(compiled, instanceOf(OperatorCompiler.Interpreted.class));
+        evaluate(compiled, new DummyVariableBoolean(ValueTypeBoolean.ValueBoolean.of(true)));
+    }
+
+    @Test
+    public void testNested() throws EvaluationException {
+        IOperator positive = curry(Operators.RELATIONAL_LT, integer(0));
+        IOperator small = curry(Operators.RELATIONAL_GT, integer(1000));
+        IOperator pipe = CombinedOperator.Pipe.asOperator(Operators.INTEGER_INCREMENT, Operators.INTEGER_INCREMENT,
+                CombinedOperator.Conjunction.asOperator(positive, small));
+        assertThat(OperatorCompiler.compile(pipe, INTEGER), instanceOf(OperatorCompiler.Pipe.class));
+        assertSame(pipe, integer(5));
+        assertSame(pipe, integer(-5));
+        assertSame(pipe, integer(2000));
+    }
+
+}
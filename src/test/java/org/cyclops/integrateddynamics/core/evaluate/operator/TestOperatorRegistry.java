@@ -0,0 +1,100 @@
+package org.cyclops.integrateddynamics.core.evaluate.operator;
+
+import com.google.common.collect.Lists;
+import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
+import org.cyclops.integrateddynamics.api.evaluate.operator.IOperator;
+import org.cyclops.integrateddynamics.api.evaluate.operator.IOperatorSerializer;
+import org.cyclops.integrateddynamics.core.evaluate.variable.DummyVariableBoolean;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypeBoolean;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Test the serializer dispatch of the operator registry against testing all serializers.
+ * @author rubensworks
+ */
+public class TestOperatorRegistry {
+
+    private static final IOperatorSerializer[] SERIALIZERS = new IOperatorSerializer[]{
+            new CurriedOperator.Serializer(), new CombinedOperator.Conjunction.Serializer(),
+            new CombinedOperator.Disjunction.Serializer(), new CombinedOperator.Negation.Serializer(),
+            new CombinedOperator.Pipe.Serializer(), new CombinedOperator.Flip.Serializer()
+    };
+
+    private OperatorRegistry registry;
+    private List<IOperator> general;
+    private List<IOperator> curried;
+    private List<IOperator> combined;
+
+    @Before
+    public void before() throws EvaluationException {
+        registry = (OperatorRegistry) Operators.REGISTRY;
+
+        general = Lists.newArrayList(registry.getOperators());
+        curried = Lists.newArrayList();
+        for (boolean value : new boolean[]{false, true}) {
+            DummyVariableBoolean variable = new DummyVariableBoolean(ValueTypeBoolean.ValueBoolean.of(value));
+            curried.add(new CurriedOperator(Operators.LOGICAL_AND, variable));
+            curried.add(new CurriedOperator(Operators.LOGICAL_OR, variable));
+        }
+        combined = Lists.newArrayList(
+                CombinedOperator.Conjunction.asOperator(Operators.LOGICAL_NOT, Operators.LOGICAL_NOT),
+                CombinedOperator.Disjunction.asOperator(Operators.LOGICAL_NOT, Operators.LOGICAL_NOT),
+                CombinedOperator.Negation.asOperator(Operators.LOGICAL_NOT),
+                CombinedOperator.Pipe.asOperator(Operators.LOGICAL_NOT, Operators.LOGICAL_NOT),
+                CombinedOperator.Flip.asOperator(Operators.LOGICAL_AND)
+        );
+    }
+
+    protected static IOperatorSerializer getSerializerLinear(IOperator operator) {
+        for (IOperatorSerializer serializer : SERIALIZERS) {
+            if (serializer.canHandle(operator)) {
+                return serializer;
+            }
+        }
+        return null;
+    }
+
+    @Test
+    public void testGeneral() {
+        for (int i = 0; i < 2; i++) {
+            assertThat(registry.getSerializer(Operators.LOGICAL_NOT), nullValue());
+            assertThat(registry.getSerializer(Operators.GENERAL_IDENTITY), nullValue());
+        }
+    }
+
+    @Test
+    public void testCurried() {
+        for (IOperator operator : curried) {
+            assertThat(registry.getSerializer(operator).getUniqueName(), is("curry"));
+        }
+    }
+
+    @Test
+    public void testCombined() {
+        for (int i = 0; i < 2; i++) {
+            for (IOperator operator : combined) {
+                assertThat(registry.getSerializer(operator).getUniqueName(), is(getSerializerLinear(operator).getUniqueName()));
+            }
+        }
+        assertThat(registry.getSerializer(combined.get(3)).getUniqueName(), is("combined.pipe"));
+        assertThat(registry.getSerializer(combined.get(0)).getUniqueName(), is("combined.conjunction"));
+    }
+
+    @Test
+    public void testRoundTrip() throws EvaluationException {
+        for (List<IOperator> operators : Lists.newArrayList(general, curried, combined)) {
+            for (IOperator operator : operators) {
+                assertThat(registry.serializeNbt(registry.deserializeNbt(registry.serializeNbt(operator))),
+                        is(registry.serializeNbt(operator)));
+            }
+        }
+    }
+
+}
@@ -414,6 +414,20 @@ public class TestListOperators {
         assertThat("lazybuilt([0, 1, 2], 3).size = 3", list.getLength(), is(Integer.MAX_VALUE));
     }
 
+    @Test
+    public void testListLazyBuiltLarge() throws EvaluationException {
+        IValue res1 = Operators.LIST_LAZYBUILT.evaluate(new IVariable[]{i3, oIntegerIncrement});
+        IValueTypeListProxy<ValueTypeInteger, ValueTypeInteger.ValueInteger> list = ((ValueTypeList.ValueList) res1).getRawValue();
+
+        assertThat("lazybuilt(3, ++)[100000] = 100003", list.get(100000).getRawValue(), is(100003));
+        assertThat("lazybuilt(3, ++)[5000] = 5003", list.get(5000).getRawValue(), is(5003));
+        assertThat("lazybuilt(3, ++)[99999] = 100002", list.get(99999).getRawValue(), is(100002));
+        assertThat("lazybuilt(3, ++)[7] = 10", list.get(7).getRawValue(), is(10));
+        for (int i = 0; i < 1000; i++) {
+            assertThat("sequential access", list.get(i).getRawValue(), is(i + 3));
+        }
+    }
+
     @Test(expected = EvaluationException.class)
     public void testInvalidInputSizeLazyBuiltInvalidType() throws EvaluationException {
         Operators.LIST_LAZYBUILT.evaluate(new IVariable[]{i3, oRelationalEquals});
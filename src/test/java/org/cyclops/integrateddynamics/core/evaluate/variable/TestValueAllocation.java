@@ -0,0 +1,86 @@
+package org.cyclops.integrateddynamics.core.evaluate.variable;
+
+import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
+import org.cyclops.integrateddynamics.api.evaluate.operator.IOperator;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IVariable;
+import org.cyclops.integrateddynamics.core.evaluate.operator.Operators;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Test value interning, also for the results of the arithmetic and relational operators
+ * on the same integer input vectors as {@link TestArithmeticOperators}.
+ * @author rubensworks
+ */
+public class TestValueAllocation {
+
+    private static final IOperator[] OPERATORS = new IOperator[]{
+            Operators.ARITHMETIC_ADDITION, Operators.ARITHMETIC_SUBTRACTION, Operators.ARITHMETIC_MULTIPLICATION,
+            Operators.ARITHMETIC_MAXIMUM, Operators.ARITHMETIC_MINIMUM, Operators.RELATIONAL_GT, Operators.RELATIONAL_LT
+    };
+
+    private IVariable[] integers;
+
+    @Before
+    public void before() {
+        ValueCastMappings.load();
+
+        integers = new IVariable[]{
+                new DummyVariableInteger(ValueTypeInteger.ValueInteger.of(0  )),
+                new DummyVariableInteger(ValueTypeInteger.ValueInteger.of(1  )),
+                new DummyVariableInteger(ValueTypeInteger.ValueInteger.of(-10)),
+                new DummyVariableInteger(ValueTypeInteger.ValueInteger.of(10 )),
+                new DummyVariableInteger(ValueTypeInteger.ValueInteger.of(15 ))
+        };
+    }
+
+    @Test
+    public void testInterning() {
+        assertThat(ValueTypeInteger.ValueInteger.of(-128), sameInstance(ValueTypeInteger.ValueInteger.of(-128)));
+        assertThat(ValueTypeInteger.ValueInteger.of(1024), sameInstance(ValueTypeInteger.ValueInteger.of(1024)));
+        assertThat(ValueTypeInteger.ValueInteger.of(1025), not(sameInstance(ValueTypeInteger.ValueInteger.of(1025))));
+        assertThat(ValueTypeInteger.ValueInteger.of(1025), is(ValueTypeInteger.ValueInteger.of(1025)));
+        assertThat(ValueTypeInteger.ValueInteger.of(-5).getRawValue(), is(-5));
+
+        assertThat(ValueTypeLong.ValueLong.of(-128L), sameInstance(ValueTypeLong.ValueLong.of(-128L)));
+        assertThat(ValueTypeLong.ValueLong.of(1024L), sameInstance(ValueTypeLong.ValueLong.of(1024L)));
+        assertThat(ValueTypeLong.ValueLong.of(Long.MAX_VALUE), not(sameInstance(ValueTypeLong.ValueLong.of(Long.MAX_VALUE))));
+        assertThat(ValueTypeLong.ValueLong.of(-5L).getRawValue(), is(-5L));
+    }
+
+    protected static IVariable[][] pairs(IVariable[] variables) {
+        IVariable[][] pairs = new IVariable[variables.length * variables.length][];
+        for (int i = 0; i < variables.length; i++) {
+            for (int j = 0; j < variables.length; j++) {
+                pairs[i * variables.length + j] = new IVariable[]{variables[i], variables[j]};
+            }
+        }
+        return pairs;
+    }
+
+    @Test
+    public void testInternedResults() throws EvaluationException {
+        for (IOperator operator : OPERATORS) {
+            for (IVariable[] input : pairs(integers)) {
+                IValue result = operator.evaluate(input);
+                if (result instanceof ValueTypeInteger.ValueInteger) {
+                    int value = ((ValueTypeInteger.ValueInteger) result).getRawValue();
+                    if (value >= -128 && value <= 1024) {
+                        assertThat("small integer results are interned", result,
+                                sameInstance((IValue) ValueTypeInteger.ValueInteger.of(value)));
+                    }
+                } else {
+                    assertThat("relational results are shared booleans", result,
+                            sameInstance(operator.evaluate(input)));
+                }
+            }
+        }
+    }
+
+}
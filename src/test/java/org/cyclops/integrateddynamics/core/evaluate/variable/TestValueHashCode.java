@@ -0,0 +1,109 @@
+package org.cyclops.integrateddynamics.core.evaluate.variable;
+
+import com.google.common.collect.Lists;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Test the hashCode contract of values and list proxies.
+ * @author rubensworks
+ */
+public class TestValueHashCode {
+
+    @Before
+    public void before() {
+        ValueTypeListProxyFactories.load();
+    }
+
+    protected static void assertEqualHash(IValue a, IValue b) {
+        assertThat(a, is(b));
+        assertThat(a.hashCode(), is(b.hashCode()));
+    }
+
+    @Test
+    public void testPrimitives() {
+        assertEqualHash(ValueTypeInteger.ValueInteger.of(5000), ValueTypeInteger.ValueInteger.of(5000));
+        assertEqualHash(ValueTypeLong.ValueLong.of(Long.MAX_VALUE), ValueTypeLong.ValueLong.of(Long.MAX_VALUE));
+        assertEqualHash(ValueTypeDouble.ValueDouble.of(0.0), ValueTypeDouble.ValueDouble.of(-0.0));
+        assertEqualHash(ValueTypeDouble.ValueDouble.of(1.5), ValueTypeDouble.ValueDouble.of(1.5));
+        assertEqualHash(ValueTypeBoolean.ValueBoolean.of(true), ValueTypeBoolean.ValueBoolean.of(true));
+        assertEqualHash(ValueTypeString.ValueString.of(new String("abc")), ValueTypeString.ValueString.of("abc"));
+    }
+
+    @Test
+    public void testLists() {
+        IValue a = ValueTypeList.ValueList.ofAll(ValueTypeInteger.ValueInteger.of(1), ValueTypeInteger.ValueInteger.of(2));
+        IValue b = ValueTypeList.ValueList.ofAll(ValueTypeInteger.ValueInteger.of(1), ValueTypeInteger.ValueInteger.of(2));
+        IValue c = ValueTypeList.ValueList.ofAll(ValueTypeInteger.ValueInteger.of(2), ValueTypeInteger.ValueInteger.of(1));
+        IValue d = ValueTypeList.ValueList.ofAll(ValueTypeInteger.ValueInteger.of(1));
+        assertEqualHash(a, b);
+        assertThat(a, not(c));
+        assertThat(a, not(d));
+        assertThat(d, not(a));
+    }
+
+    @Test
+    public void testMaterializedIndex() {
+        ValueTypeListProxyMaterialized<ValueTypeInteger, ValueTypeInteger.ValueInteger> list =
+                new ValueTypeListProxyMaterialized<>(ValueTypes.INTEGER, Lists.newArrayList(
+                        ValueTypeInteger.ValueInteger.of(1), ValueTypeInteger.ValueInteger.of(2),
+                        ValueTypeInteger.ValueInteger.of(2), ValueTypeInteger.ValueInteger.of(5000)));
+        // The first query scans the list, later ones use the index.
+        for (int i = 0; i < 3; i++) {
+            assertThat(list.contains(ValueTypeInteger.ValueInteger.of(5000)), is(true));
+            assertThat(list.contains(ValueTypeInteger.ValueInteger.of(3)), is(false));
+            assertThat(list.contains(ValueTypeBoolean.ValueBoolean.of(true)), is(false));
+            assertThat(list.count(ValueTypeInteger.ValueInteger.of(2)), is(2));
+            assertThat(list.count(ValueTypeInteger.ValueInteger.of(3)), is(0));
+        }
+    }
+
+    @Test
+    public void testMaterializedHashAcrossThreads() throws InterruptedException {
+        final List<ValueTypeInteger.ValueInteger> values = Lists.newArrayList();
+        for (int i = 0; i < 1000; i++) {
+            values.add(ValueTypeInteger.ValueInteger.of(i));
+        }
+        final int expected = new ValueTypeListProxyMaterialized<>(ValueTypes.INTEGER, values).hashCode();
+        for (int round = 0; round < 50; round++) {
+            final ValueTypeListProxyMaterialized<ValueTypeInteger, ValueTypeInteger.ValueInteger> list =
+                    new ValueTypeListProxyMaterialized<>(ValueTypes.INTEGER, values);
+            final ValueTypeListProxyMaterialized<ValueTypeInteger, ValueTypeInteger.ValueInteger> other =
+                    new ValueTypeListProxyMaterialized<>(ValueTypes.INTEGER, Lists.newArrayList(values));
+            final CountDownLatch start = new CountDownLatch(1);
+            final AtomicInteger failures = new AtomicInteger();
+            Thread[] threads = new Thread[4];
+            for (int i = 0; i < threads.length; i++) {
+                threads[i] = new Thread() {
+                    @Override
+                    public void run() {
+                        try {
+                            start.await();
+                        } catch (InterruptedException e) {
+                            return;
+                        }
+                        if (list.hashCode() != expected || !list.equals(other)) {
+                            failures.incrementAndGet();
+                        }
+                    }
+                };
+                threads[i].start();
+            }
+            start.countDown();
+            for (Thread thread : threads) {
+                thread.join();
+            }
+            assertThat("hashes are equal on all threads", failures.get(), is(0));
+        }
+    }
+
+}
@@ -0,0 +1,131 @@
+package org.cyclops.integrateddynamics.core.evaluate.variable;
+
+import net.minecraft.nbt.NBTBase;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.nbt.NBTTagList;
+import net.minecraft.nbt.NBTTagString;
+import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
+import org.cyclops.integrateddynamics.api.evaluate.operator.IOperator;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IVariable;
+import org.cyclops.integrateddynamics.core.evaluate.operator.CombinedOperator;
+import org.cyclops.integrateddynamics.core.evaluate.operator.CurriedOperator;
+import org.cyclops.integrateddynamics.core.evaluate.operator.Operators;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Test the NBT serialization of values and operators and the migration of string-serialized values.
+ * @author rubensworks
+ */
+public class TestValueSerialization {
+
+    private static final int LIST_LENGTH = 1000;
+    private static final int OPERATOR_DEPTH = 50;
+
+    private ValueTypeList.ValueList list;
+    private ValueTypeList.ValueList nestedList;
+    private ValueTypeOperator.ValueOperator operator;
+
+    @Before
+    public void before() {
+        ValueTypeListProxyFactories.load();
+
+        ValueTypeInteger.ValueInteger[] integers = new ValueTypeInteger.ValueInteger[LIST_LENGTH];
+        for (int i = 0; i < LIST_LENGTH; i++) {
+            integers[i] = ValueTypeInteger.ValueInteger.of(i);
+        }
+        list = ValueTypeList.ValueList.ofAll(integers);
+        nestedList = ValueTypeList.ValueList.ofAll(
+                ValueTypeList.ValueList.ofAll(ValueTypeString.ValueString.of("a"), ValueTypeString.ValueString.of("b;c")),
+                ValueTypeList.ValueList.ofAll(ValueTypeString.ValueString.of("d:e"), ValueTypeString.ValueString.of("{f}"))
+        );
+
+        IOperator op = Operators.LOGICAL_NOT;
+        for (int i = 0; i < OPERATOR_DEPTH; i++) {
+            op = CombinedOperator.Pipe.asOperator(
+                    new CurriedOperator(Operators.LOGICAL_AND, new DummyVariableBoolean(ValueTypeBoolean.ValueBoolean.of(i % 2 == 0))),
+                    op);
+        }
+        operator = ValueTypeOperator.ValueOperator.of(op);
+    }
+
+    @Test
+    public void testPrimitives() {
+        assertThat(ValueTypes.INTEGER.deserializeNbt(ValueTypes.INTEGER.serializeNbt(ValueTypeInteger.ValueInteger.of(-10))),
+                is(ValueTypeInteger.ValueInteger.of(-10)));
+        assertThat(ValueTypes.DOUBLE.deserializeNbt(ValueTypes.DOUBLE.serializeNbt(ValueTypeDouble.ValueDouble.of(10.1))),
+                is(ValueTypeDouble.ValueDouble.of(10.1)));
+        assertThat(ValueTypes.BOOLEAN.deserializeNbt(ValueTypes.BOOLEAN.serializeNbt(ValueTypeBoolean.ValueBoolean.of(true))),
+                is(ValueTypeBoolean.ValueBoolean.of(true)));
+        assertThat(ValueTypes.STRING.deserializeNbt(ValueTypes.STRING.serializeNbt(ValueTypeString.ValueString.of("a;b"))),
+                is(ValueTypeString.ValueString.of("a;b")));
+    }
+
+    @Test
+    public void testLegacyPrimitives() {
+        assertThat(ValueTypes.INTEGER.deserializeNbt(new NBTTagString("-10")), is(ValueTypeInteger.ValueInteger.of(-10)));
+        assertThat(ValueTypes.DOUBLE.deserializeNbt(new NBTTagString("10.1")), is(ValueTypeDouble.ValueDouble.of(10.1)));
+        assertThat(ValueTypes.BOOLEAN.deserializeNbt(new NBTTagString("true")), is(ValueTypeBoolean.ValueBoolean.of(true)));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidTag() {
+        ValueTypes.INTEGER.deserializeNbt(new NBTTagCompound());
+    }
+
+    @Test
+    public void testLists() {
+        assertThat(ValueTypes.LIST.serializeNbt(list), instanceOf(NBTTagCompound.class));
+        assertThat(ValueTypes.LIST.deserializeNbt(ValueTypes.LIST.serializeNbt(list)), is(list));
+        assertThat(ValueTypes.LIST.deserializeNbt(ValueTypes.LIST.serializeNbt(nestedList)), is(nestedList));
+    }
+
+    @Test
+    public void testLegacyLists() {
+        assertThat(ValueTypes.LIST.deserializeNbt(new NBTTagString(ValueTypes.LIST.serialize(list))), is(list));
+        assertThat(ValueTypes.LIST.deserializeNbt(new NBTTagString(ValueTypes.LIST.serialize(nestedList))), is(nestedList));
+    }
+
+    @Test
+    public void testOperators() throws EvaluationException {
+        NBTBase tag = ValueTypes.OPERATOR.serializeNbt(operator);
+        assertThat(ValueTypes.OPERATOR.serializeNbt(ValueTypes.OPERATOR.deserializeNbt(tag)), is(tag));
+
+        IValue result = ValueTypes.OPERATOR.deserializeNbt(tag).getRawValue()
+                .evaluate(new IVariable[]{new DummyVariableBoolean(ValueTypeBoolean.ValueBoolean.of(true))});
+        IValue expected = operator.getRawValue()
+                .evaluate(new IVariable[]{new DummyVariableBoolean(ValueTypeBoolean.ValueBoolean.of(true))});
+        assertThat(result, is(expected));
+    }
+
+    @Test
+    public void testLegacyOperators() throws EvaluationException {
+        String notName = Operators.LOGICAL_NOT.getUniqueName();
+        assertThat(ValueTypes.OPERATOR.deserializeNbt(new NBTTagString(notName)).getRawValue(), is(Operators.LOGICAL_NOT));
+
+        NBTTagList operators = new NBTTagList();
+        operators.appendTag(new NBTTagString(notName));
+        operators.appendTag(new NBTTagString(notName));
+        NBTTagCompound pipeTag = new NBTTagCompound();
+        pipeTag.setTag("operators", operators);
+        IOperator pipe = ValueTypes.OPERATOR.deserializeNbt(new NBTTagString("combined.pipe:" + pipeTag.toString())).getRawValue();
+        assertThat(Operators.REGISTRY.serializeNbt(pipe),
+                is(Operators.REGISTRY.serializeNbt(CombinedOperator.Pipe.asOperator(Operators.LOGICAL_NOT, Operators.LOGICAL_NOT))));
+
+        NBTTagCompound curryTag = new NBTTagCompound();
+        curryTag.setString("valueType", ValueTypes.BOOLEAN.getUnlocalizedName());
+        curryTag.setString("value", "true");
+        curryTag.setString("baseOperator", Operators.LOGICAL_AND.getUniqueName());
+        IOperator curried = ValueTypes.OPERATOR.deserializeNbt(new NBTTagString("curry:" + curryTag.toString())).getRawValue();
+        assertThat(curried.evaluate(new IVariable[]{new DummyVariableBoolean(ValueTypeBoolean.ValueBoolean.of(false))}),
+                is((IValue) ValueTypeBoolean.ValueBoolean.of(false)));
+        assertThat(curried.evaluate(new IVariable[]{new DummyVariableBoolean(ValueTypeBoolean.ValueBoolean.of(true))}),
+                is((IValue) ValueTypeBoolean.ValueBoolean.of(true)));
+    }
+
+}
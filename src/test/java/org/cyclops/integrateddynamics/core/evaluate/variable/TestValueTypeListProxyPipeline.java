@@ -0,0 +1,172 @@
+package org.cyclops.integrateddynamics.core.evaluate.variable;
+
+import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
+import org.cyclops.integrateddynamics.api.evaluate.operator.IOperator;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValueTypeListProxy;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IVariable;
+import org.cyclops.integrateddynamics.core.evaluate.operator.CurriedOperator;
+import org.cyclops.integrateddynamics.core.evaluate.operator.Operators;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Test the fused list pipeline.
+ * @author rubensworks
+ */
+public class TestValueTypeListProxyPipeline {
+
+    private DummyVariableList lintegers;
+    private IOperator isEven;
+    private IOperator equalsTen;
+
+    @Before
+    public void before() {
+        ValueTypeListProxyFactories.load();
+
+        ValueTypeInteger.ValueInteger[] values = new ValueTypeInteger.ValueInteger[54];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = ValueTypeInteger.ValueInteger.of(i);
+        }
+        lintegers = new DummyVariableList(ValueTypeList.ValueList.ofAll(values));
+
+        IOperator modulusTwo = new CurriedOperator(flip(Operators.INTEGER_MODULUS), new DummyVariableInteger(ValueTypeInteger.ValueInteger.of(2)));
+        IOperator isZero = new CurriedOperator(Operators.RELATIONAL_EQUALS, new DummyVariableInteger(ValueTypeInteger.ValueInteger.of(0)));
+        isEven = pipe(modulusTwo, isZero);
+        equalsTen = new CurriedOperator(Operators.RELATIONAL_EQUALS, new DummyVariableInteger(ValueTypeInteger.ValueInteger.of(10)));
+    }
+
+    protected static IOperator flip(IOperator operator) {
+        try {
+            return ((ValueTypeOperator.ValueOperator) Operators.OPERATOR_FLIP.evaluate(new IVariable[]{
+                    new DummyVariableOperator(ValueTypeOperator.ValueOperator.of(operator))})).getRawValue();
+        } catch (EvaluationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    protected static IOperator pipe(IOperator first, IOperator second) {
+        try {
+            return ((ValueTypeOperator.ValueOperator) Operators.OPERATOR_PIPE.evaluate(new IVariable[]{
+                    new DummyVariableOperator(ValueTypeOperator.ValueOperator.of(first)),
+                    new DummyVariableOperator(ValueTypeOperator.ValueOperator.of(second))})).getRawValue();
+        } catch (EvaluationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Test
+    public void testMapFilterReduce() throws EvaluationException {
+        IValueTypeListProxy list = lintegers.getValue().getRawValue();
+        ValueTypeListProxyPipeline pipeline = ValueTypeListProxyPipeline.of(list)
+                .map(Operators.INTEGER_INCREMENT)
+                .filter(isEven);
+        assertThat("[1..54] has 27 even numbers", pipeline.getLength(), is(27));
+        assertThat(((ValueTypeInteger.ValueInteger) pipeline.get(0)).getRawValue(), is(2));
+
+        IValue sum = pipeline.reduce(Operators.ARITHMETIC_ADDITION, ValueTypeInteger.ValueInteger.of(0));
+        assertThat("2 + 4 + ... + 54", ((ValueTypeInteger.ValueInteger) sum).getRawValue(), is(756));
+        assertThat(pipeline.count(isEven), is(27));
+        assertThat(pipeline.contains(ValueTypeInteger.ValueInteger.of(3)), is(false));
+        assertThat(pipeline.contains(ValueTypeInteger.ValueInteger.of(4)), is(true));
+    }
+
+    @Test
+    public void testOperatorsUsePipeline() throws EvaluationException {
+        IValue mapped = Operators.OPERATOR_MAP.evaluate(new IVariable[]{
+                new DummyVariableOperator(ValueTypeOperator.ValueOperator.of(Operators.INTEGER_INCREMENT)), lintegers});
+        IValue filtered = Operators.OPERATOR_FILTER.evaluate(new IVariable[]{
+                new DummyVariableOperator(ValueTypeOperator.ValueOperator.of(isEven)), new DummyVariableList((ValueTypeList.ValueList) mapped)});
+        assertThat(((ValueTypeList.ValueList) filtered).getRawValue(), instanceOf(ValueTypeListProxyPipeline.class));
+
+        IValue count = Operators.LIST_COUNT_PREDICATE.evaluate(new IVariable[]{
+                new DummyVariableList((ValueTypeList.ValueList) mapped), new DummyVariableOperator(ValueTypeOperator.ValueOperator.of(isEven))});
+        assertThat(((ValueTypeInteger.ValueInteger) count).getRawValue(), is(27));
+    }
+
+    @Test
+    public void testAnyMatchInfinite() throws EvaluationException {
+        // Only terminates if the search stops at the first match.
+        ValueTypeListProxyPipeline pipeline = ValueTypeListProxyPipeline.of(
+                new ValueTypeListProxyLazyBuilt<>(ValueTypeInteger.ValueInteger.of(0), Operators.INTEGER_INCREMENT));
+        assertThat(pipeline.map(Operators.INTEGER_INCREMENT).anyMatch(equalsTen), is(true));
+        assertThat(pipeline.isInfinite(), is(true));
+    }
+
+    @Test
+    public void testChangingSource() throws EvaluationException {
+        ChangingList source = new ChangingList();
+        ValueTypeListProxyPipeline mapped = ValueTypeListProxyPipeline.of(source).map(Operators.INTEGER_INCREMENT);
+        ValueTypeListProxyPipeline filtered = ValueTypeListProxyPipeline.of(source).filter(isEven);
+        assertThat(((ValueTypeInteger.ValueInteger) mapped.get(0)).getRawValue(), is(1));
+        assertThat(((ValueTypeInteger.ValueInteger) filtered.get(0)).getRawValue(), is(0));
+
+        source.offset = 1;
+        assertThat("a pipeline is a snapshot", ((ValueTypeInteger.ValueInteger) mapped.get(0)).getRawValue(), is(1));
+        assertThat("a pipeline is a snapshot", ((ValueTypeInteger.ValueInteger) filtered.get(0)).getRawValue(), is(0));
+        assertThat("new pipelines follow the source", ((ValueTypeInteger.ValueInteger) ValueTypeListProxyPipeline.of(source)
+                .map(Operators.INTEGER_INCREMENT).get(0)).getRawValue(), is(2));
+        assertThat("new pipelines follow the source", ((ValueTypeInteger.ValueInteger) ValueTypeListProxyPipeline.of(source)
+                .filter(isEven).get(0)).getRawValue(), is(2));
+    }
+
+    @Test
+    public void testFilteredRandomAccess() throws EvaluationException {
+        CountingVariable bound = new CountingVariable(-1);
+        IOperator isNonNegative = new CurriedOperator(Operators.RELATIONAL_LT, bound);
+        ValueTypeListProxyPipeline filtered = ValueTypeListProxyPipeline.of(new ChangingList()).filter(isNonNegative);
+
+        int length = filtered.getLength();
+        assertThat(length, is(4));
+        int calls = bound.reads;
+        assertThat("the predicate was called", calls > 0, is(true));
+        for (int i = 0; i < length; i++) {
+            assertThat(((ValueTypeInteger.ValueInteger) filtered.get(i)).getRawValue(), is(i));
+        }
+        assertThat("random access does not call the predicate again", bound.reads, is(calls));
+    }
+
+    private static class CountingVariable extends DummyVariableInteger {
+
+        private int reads = 0;
+
+        public CountingVariable(int value) {
+            super(ValueTypeInteger.ValueInteger.of(value));
+        }
+
+        @Override
+        public ValueTypeInteger.ValueInteger getValue() {
+            reads++;
+            return super.getValue();
+        }
+    }
+
+    private static class ChangingList extends ValueTypeListProxyBase<ValueTypeInteger, ValueTypeInteger.ValueInteger> {
+
+        private int offset = 0;
+
+        public ChangingList() {
+            super("changing", ValueTypes.INTEGER);
+        }
+
+        @Override
+        public int getLength() throws EvaluationException {
+            return 4;
+        }
+
+        @Override
+        public ValueTypeInteger.ValueInteger get(int index) throws EvaluationException {
+            return ValueTypeInteger.ValueInteger.of(index + offset);
+        }
+
+        @Override
+        public boolean isInfinite() {
+            return false;
+        }
+    }
+
+}
@@ -0,0 +1,126 @@
+package org.cyclops.integrateddynamics.core.network;
+
+import com.google.common.collect.Sets;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.Set;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Test the dependency graph.
+ * @author rubensworks
+ */
+public class TestDependencyGraph {
+
+    private DependencyGraph<Integer> graph;
+
+    private static Set<Integer> set(Integer... nodes) {
+        return Sets.newHashSet(nodes);
+    }
+
+    @Before
+    public void before() {
+        graph = new DependencyGraph<Integer>();
+    }
+
+    @Test
+    public void testEmpty() {
+        assertThat(graph.getDependencies(0).isEmpty(), is(true));
+        assertThat(graph.getTransitiveDependents(Collections.singleton(0)), is(Collections.singleton(0)));
+        assertThat(graph.isCyclic(0), is(false));
+    }
+
+    @Test
+    public void testTransitiveDependents() {
+        graph.setDependencies(1, set(0));
+        graph.setDependencies(2, set(1));
+        graph.setDependencies(3, set(0, 2));
+        graph.setDependencies(4, set(5));
+
+        assertThat(graph.getDependencies(3), is(set(0, 2)));
+        assertThat(graph.getTransitiveDependents(Collections.singleton(0)), is(set(0, 1, 2, 3)));
+        assertThat(graph.getTransitiveDependents(Collections.singleton(2)), is(set(2, 3)));
+        assertThat(graph.getTransitiveDependents(Collections.singleton(5)), is(set(4, 5)));
+        assertThat(graph.isCyclic(0), is(false));
+        assertThat(graph.isCyclic(3), is(false));
+    }
+
+    @Test
+    public void testReplaceDependencies() {
+        graph.setDependencies(1, set(0));
+        graph.setDependencies(1, set(2));
+
+        assertThat(graph.getTransitiveDependents(Collections.singleton(0)), is(Collections.singleton(0)));
+        assertThat(graph.getTransitiveDependents(Collections.singleton(2)), is(set(1, 2)));
+
+        graph.removeDependencies(1);
+        assertThat(graph.getTransitiveDependents(Collections.singleton(2)), is(Collections.singleton(2)));
+    }
+
+    @Test
+    public void testSelfCycle() {
+        graph.setDependencies(0, set(0));
+        assertThat(graph.isCyclic(0), is(true));
+
+        graph.removeDependencies(0);
+        assertThat(graph.isCyclic(0), is(false));
+    }
+
+    @Test
+    public void testCycle() {
+        graph.setDependencies(1, set(0));
+        graph.setDependencies(2, set(1));
+        graph.setDependencies(3, set(2));
+        assertThat(graph.isCyclic(0), is(false));
+
+        // Close the cycle 0 -> 2 -> 1 -> 0, node 3 only depends on the cycle.
+        graph.setDependencies(0, set(2));
+        assertThat(graph.isCyclic(0), is(true));
+        assertThat(graph.isCyclic(1), is(true));
+        assertThat(graph.isCyclic(2), is(true));
+        assertThat(graph.isCyclic(3), is(false));
+        assertThat(graph.getTransitiveDependents(Collections.singleton(0)), is(set(0, 1, 2, 3)));
+
+        // Break the cycle at another node than where it was closed.
+        graph.removeDependencies(1);
+        assertThat(graph.isCyclic(0), is(false));
+        assertThat(graph.isCyclic(1), is(false));
+        assertThat(graph.isCyclic(2), is(false));
+    }
+
+    @Test
+    public void testOverlappingCycles() {
+        // Two cycles that share node 0: 0 -> 1 -> 0 and 0 -> 2 -> 3 -> 0.
+        graph.setDependencies(1, set(0));
+        graph.setDependencies(3, set(2));
+        graph.setDependencies(2, set(0));
+        graph.setDependencies(0, set(1, 3));
+        graph.setDependencies(4, set(3));
+        assertThat(graph.isCyclic(0), is(true));
+        assertThat(graph.isCyclic(1), is(true));
+        assertThat(graph.isCyclic(2), is(true));
+        assertThat(graph.isCyclic(3), is(true));
+        assertThat(graph.isCyclic(4), is(false));
+
+        // Breaking one cycle keeps the other.
+        graph.setDependencies(0, set(3));
+        assertThat(graph.isCyclic(0), is(true));
+        assertThat(graph.isCyclic(1), is(false));
+        assertThat(graph.isCyclic(2), is(true));
+        assertThat(graph.isCyclic(3), is(true));
+
+        // A cycle that does not contain the changed node is kept when the node leaves it.
+        graph.setDependencies(1, set(2));
+        graph.setDependencies(2, set(0, 1));
+        graph.setDependencies(0, Collections.<Integer>emptySet());
+        assertThat(graph.isCyclic(0), is(false));
+        assertThat(graph.isCyclic(1), is(true));
+        assertThat(graph.isCyclic(2), is(true));
+        assertThat(graph.isCyclic(3), is(false));
+    }
+
+}
@@ -0,0 +1,121 @@
+package org.cyclops.integrateddynamics.core.network;
+
+import net.minecraft.util.math.BlockPos;
+import net.minecraftforge.common.capabilities.CapabilityDispatcher;
+import org.cyclops.cyclopscore.datastructure.DimPos;
+import org.cyclops.integrateddynamics.api.network.INetworkElement;
+import org.cyclops.integrateddynamics.api.path.IPathElement;
+import org.cyclops.integrateddynamics.core.path.Cluster;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Test the sleeping of networks in unloaded dimensions.
+ * @author rubensworks
+ */
+public class TestNetworkSleep {
+
+    private static final int DIMENSION = 7;
+
+    private DummyNetwork network;
+
+    @Before
+    public void before() {
+        Cluster cluster = new Cluster();
+        cluster.add(new DummyPathElement(DimPos.of(DIMENSION, new BlockPos(0, 0, 0))));
+        cluster.add(new DummyPathElement(DimPos.of(DIMENSION, new BlockPos(40, 0, 0))));
+        network = new DummyNetwork(cluster);
+        network.initialize(true);
+    }
+
+    @Test
+    public void testDimension() {
+        assertThat(network.getDimension(), is(DIMENSION));
+    }
+
+    @Test
+    public void testLoadedDimension() {
+        network.dimensionLoaded = true;
+        assertThat(network.shouldSleep(), is(false));
+    }
+
+    @Test
+    public void testUnloadedDimension() {
+        network.dimensionLoaded = false;
+        assertThat(network.shouldSleep(), is(true));
+        network.sleep();
+        assertThat(network.isSleeping(), is(true));
+        assertThat(network.getSleepingDimension(), is(DIMENSION));
+        assertThat(network.sleepChanges, is(1));
+
+        network.onChunkLoad(1, 1);
+        assertThat("a chunk without path elements does not wake the network", network.isSleeping(), is(true));
+
+        network.onChunkLoad(2, 0);
+        assertThat("a chunk with a path element wakes the network", network.isSleeping(), is(false));
+        assertThat(network.getSleepingDimension(), is((Integer) null));
+        assertThat(network.sleepChanges, is(2));
+    }
+
+    private static class DummyNetwork extends Network {
+
+        private boolean dimensionLoaded = true;
+        private int sleepChanges = 0;
+
+        public DummyNetwork(Cluster pathElements) {
+            super(pathElements);
+        }
+
+        @Override
+        protected CapabilityDispatcher gatherCapabilities() {
+            return null;
+        }
+
+        @Override
+        protected List<INetworkElement> derivePathElement(IPathElement pathElement, boolean networkPreinit) {
+            return Collections.emptyList();
+        }
+
+        @Override
+        protected boolean isDimensionLoaded(int dimension) {
+            return dimensionLoaded;
+        }
+
+        @Override
+        protected void onSleepChanged() {
+            sleepChanges++;
+        }
+    }
+
+    private static class DummyPathElement implements IPathElement {
+
+        private final DimPos position;
+
+        public DummyPathElement(DimPos position) {
+            this.position = position;
+        }
+
+        @Override
+        public DimPos getPosition() {
+            return position;
+        }
+
+        @Override
+        public Set<IPathElement> getReachableElements() {
+            return Collections.emptySet();
+        }
+
+        @Override
+        public int compareTo(Object o) {
+            return getPosition().compareTo(((IPathElement) o).getPosition());
+        }
+    }
+
+}
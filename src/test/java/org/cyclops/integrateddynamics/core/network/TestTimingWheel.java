@@ -0,0 +1,125 @@
+package org.cyclops.integrateddynamics.core.network;
+
+import com.google.common.collect.Lists;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Test the timing wheel scheduler.
+ * @author rubensworks
+ */
+public class TestTimingWheel {
+
+    private TimingWheel<Integer> wheel;
+
+    @Before
+    public void before() {
+        wheel = new TimingWheel<Integer>();
+    }
+
+    protected void skip(int ticks) {
+        for (int i = 0; i < ticks; i++) {
+            assertThat("no elements are due", wheel.advance().isEmpty(), is(true));
+        }
+    }
+
+    @Test
+    public void testEmpty() {
+        assertThat(wheel.size(), is(0));
+        assertThat(wheel.advance().isEmpty(), is(true));
+        assertThat(wheel.getCurrentTick(), is(1L));
+    }
+
+    @Test
+    public void testImmediate() {
+        wheel.schedule(1, 0);
+        assertThat(wheel.isScheduled(1), is(true));
+        assertThat(Lists.newArrayList(wheel.advance()), is(Collections.singletonList(1)));
+        assertThat(wheel.isScheduled(1), is(false));
+        assertThat(wheel.size(), is(0));
+    }
+
+    @Test
+    public void testOrderedOnSameTick() {
+        wheel.schedule(3, 5);
+        wheel.schedule(1, 5);
+        wheel.schedule(2, 5);
+        skip(5);
+        assertThat(Lists.newArrayList(wheel.advance()), is(Lists.newArrayList(1, 2, 3)));
+    }
+
+    @Test
+    public void testCascade() {
+        wheel.schedule(1, 100);
+        wheel.schedule(2, 5000);
+        wheel.schedule(3, 300000);
+        skip(100);
+        assertThat(Lists.newArrayList(wheel.advance()), is(Collections.singletonList(1)));
+        skip(5000 - 101);
+        assertThat(Lists.newArrayList(wheel.advance()), is(Collections.singletonList(2)));
+        skip(300000 - 5001);
+        assertThat(Lists.newArrayList(wheel.advance()), is(Collections.singletonList(3)));
+        assertThat(wheel.size(), is(0));
+    }
+
+    @Test
+    public void testUnschedule() {
+        wheel.schedule(1, 10);
+        skip(4);
+        assertThat(wheel.unschedule(1), is(6));
+        assertThat(wheel.unschedule(1), is(-1));
+        skip(100);
+    }
+
+    @Test
+    public void testReschedule() {
+        wheel.schedule(1, 10);
+        wheel.schedule(1, 2);
+        assertThat(wheel.size(), is(1));
+        skip(2);
+        assertThat(Lists.newArrayList(wheel.advance()), is(Collections.singletonList(1)));
+        skip(20);
+    }
+
+    protected void assertInterval(int interval) {
+        wheel.schedule(1, 0);
+        long lastTick = -1;
+        for (int i = 0; i < 250; i++) {
+            long tick = wheel.getCurrentTick();
+            if (wheel.advance().contains(1)) {
+                if (lastTick >= 0) {
+                    assertThat("element is due every " + interval + " ticks", tick - lastTick, is((long) interval));
+                }
+                lastTick = tick;
+                wheel.schedule(1, interval - 1);
+            }
+        }
+        assertThat("element was due", lastTick >= 250 - interval, is(true));
+    }
+
+    @Test
+    public void testRescheduleInterval1() {
+        assertInterval(1);
+    }
+
+    @Test
+    public void testRescheduleInterval2() {
+        assertInterval(2);
+    }
+
+    @Test
+    public void testRescheduleInterval5() {
+        assertInterval(5);
+    }
+
+    @Test
+    public void testRescheduleInterval100() {
+        assertInterval(100);
+    }
+
+}
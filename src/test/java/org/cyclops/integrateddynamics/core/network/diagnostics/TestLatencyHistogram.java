@@ -0,0 +1,53 @@
+package org.cyclops.integrateddynamics.core.network.diagnostics;
+
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test the latency histogram.
+ * @author rubensworks
+ */
+public class TestLatencyHistogram {
+
+    protected static void assertWithinBucket(long actual, long expected) {
+        assertTrue(String.format("%s is close to %s", actual, expected), actual >= expected && actual <= expected * 1.25);
+    }
+
+    @Test
+    public void testEmpty() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertThat(histogram.getCount(), is(0L));
+        assertThat(histogram.getPercentile(0.5), is(0L));
+        assertThat(histogram.getMean(), is(0L));
+    }
+
+    @Test
+    public void testBuckets() {
+        long previousUpperBound = 0;
+        for (long value = 1; value < (1L << 40); value = value * 3 / 2 + 1) {
+            int bucket = LatencyHistogram.getBucket(value);
+            long upperBound = LatencyHistogram.getBucketUpperBound(bucket);
+            assertTrue(value + " is in its bucket", value < upperBound || bucket == LatencyHistogram.getBucket(Long.MAX_VALUE));
+            assertTrue("buckets are ordered", upperBound >= previousUpperBound);
+            previousUpperBound = upperBound;
+        }
+    }
+
+    @Test
+    public void testPercentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(i * 1000L);
+        }
+        assertThat(histogram.getCount(), is(1000L));
+        assertThat(histogram.getMax(), is(1000000L));
+        assertThat(histogram.getMean(), is(500500L));
+        assertWithinBucket(histogram.getPercentile(0.5), 500000L);
+        assertWithinBucket(histogram.getPercentile(0.99), 990000L);
+        assertThat(histogram.getPercentile(1), is(1000000L));
+    }
+
+}
@@ -0,0 +1,207 @@
+package org.cyclops.integrateddynamics.core.path;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Test the cluster builder on synthetic line, grid and tree topologies.
+ * @author rubensworks
+ */
+public class TestClusterBuilder {
+
+    private static final int[] SIZES = new int[]{1000, 10000, 100000};
+
+    private static final ClusterBuilder<Node> BUILDER = new ClusterBuilder<Node>() {
+        @Override
+        protected int getDimension(Node element) {
+            return element.dimension;
+        }
+
+        @Override
+        protected long getPosition(Node element) {
+            return element.position;
+        }
+
+        @Override
+        protected Iterable<Node> getNeighbours(Node element) {
+            return element.neighbours;
+        }
+    };
+
+    protected static void connect(Node a, Node b) {
+        a.neighbours.add(b);
+        b.neighbours.add(a);
+    }
+
+    protected static Node[] createNodes(int size) {
+        return createNodes(0, size);
+    }
+
+    protected static Node[] createNodes(int dimension, int size) {
+        Node[] nodes = new Node[size];
+        for (int i = 0; i < size; i++) {
+            nodes[i] = new Node(dimension, i);
+        }
+        return nodes;
+    }
+
+    protected static Node[] createLine(int size) {
+        return createLine(0, size);
+    }
+
+    protected static Node[] createLine(int dimension, int size) {
+        Node[] nodes = createNodes(dimension, size);
+        for (int i = 1; i < size; i++) {
+            connect(nodes[i - 1], nodes[i]);
+        }
+        return nodes;
+    }
+
+    protected static Node[] createGrid(int size) {
+        int width = (int) Math.sqrt(size);
+        Node[] nodes = createNodes(width * width);
+        for (int x = 0; x < width; x++) {
+            for (int z = 0; z < width; z++) {
+                if (x > 0) connect(nodes[(x - 1) * width + z], nodes[x * width + z]);
+                if (z > 0) connect(nodes[x * width + z - 1], nodes[x * width + z]);
+            }
+        }
+        return nodes;
+    }
+
+    protected static Node[] createTree(int size) {
+        Node[] nodes = createNodes(size);
+        for (int i = 1; i < size; i++) {
+            connect(nodes[(i - 1) / 3], nodes[i]);
+        }
+        return nodes;
+    }
+
+    protected static void assertCluster(String topology, Node[] nodes, Node head) {
+        Set<Node> cluster = Sets.newHashSetWithExpectedSize(nodes.length);
+        BUILDER.build(head, cluster);
+        assertThat(topology + " cluster contains all nodes", cluster.size(), is(nodes.length));
+    }
+
+    @Test
+    public void testLine() {
+        for (int size : SIZES) {
+            Node[] nodes = createLine(size);
+            assertCluster("Line", nodes, nodes[size / 2]);
+        }
+    }
+
+    @Test
+    public void testGrid() {
+        for (int size : SIZES) {
+            Node[] nodes = createGrid(size);
+            assertCluster("Grid", nodes, nodes[0]);
+        }
+    }
+
+    @Test
+    public void testTree() {
+        for (int size : SIZES) {
+            Node[] nodes = createTree(size);
+            assertCluster("Tree", nodes, nodes[size - 1]);
+        }
+    }
+
+    @Test
+    public void testDisconnected() {
+        Node[] nodes = createLine(10);
+        Node other = new Node(0, 100);
+        connect(other, new Node(0, 101));
+        Set<Node> cluster = Sets.newHashSet();
+        BUILDER.build(nodes[0], cluster);
+        assertThat(cluster.size(), is(10));
+        assertThat(cluster.contains(other), is(false));
+    }
+
+    @Test
+    public void testDimensions() {
+        Node a = new Node(0, 1);
+        Node b = new Node(1, 1);
+        connect(a, b);
+        Set<Node> cluster = Sets.newHashSet();
+        BUILDER.build(a, cluster);
+        assertThat("same position in another dimension is a different element", cluster.size(), is(2));
+    }
+
+    @Test
+    public void testDetachedNone() {
+        // A ring stays connected when one node is removed.
+        Node[] nodes = createLine(100);
+        connect(nodes[0], nodes[99]);
+        removeNode(nodes[50]);
+        List<List<Node>> detached = BUILDER.getDetachedClusters(Lists.newArrayList(nodes[49], nodes[51]));
+        assertThat(detached.size(), is(0));
+    }
+
+    @Test
+    public void testDetachedSmallest() {
+        Node[] nodes = createLine(10000);
+        removeNode(nodes[10]);
+        List<List<Node>> detached = BUILDER.getDetachedClusters(Lists.newArrayList(nodes[9], nodes[11]));
+        assertThat(detached.size(), is(1));
+        assertThat(detached.get(0).size(), is(10));
+        assertThat(Sets.newHashSet(detached.get(0)).contains(nodes[0]), is(true));
+    }
+
+    @Test
+    public void testDetachedMultiple() {
+        // A star of three arms with different lengths around a removed center.
+        Node center = new Node(0, -1);
+        Node[] arm1 = createLine(0, 5);
+        Node[] arm2 = createLine(1, 50);
+        Node[] arm3 = createLine(2, 500);
+        connect(center, arm1[0]);
+        connect(center, arm2[0]);
+        connect(center, arm3[0]);
+        removeNode(center);
+        List<List<Node>> detached = BUILDER.getDetachedClusters(Lists.newArrayList(arm1[0], arm2[0], arm3[0]));
+        assertThat(detached.size(), is(2));
+        assertThat(detached.get(0).size() + detached.get(1).size(), is(55));
+    }
+
+    protected static void removeNode(Node node) {
+        for (Node neighbour : node.neighbours) {
+            neighbour.neighbours.remove(node);
+        }
+        node.neighbours.clear();
+    }
+
+    @Test
+    public void testPositionSet() {
+        PositionSet set = new PositionSet();
+        for (int i = 0; i < 1000; i++) {
+            assertThat(set.add(i % 3, i * 31L), is(true));
+        }
+        for (int i = 0; i < 1000; i++) {
+            assertThat(set.add(i % 3, i * 31L), is(false));
+            assertThat(set.contains(i % 3, i * 31L), is(true));
+            assertThat(set.contains((i + 1) % 3, i * 31L), is(false));
+        }
+        assertThat(set.size(), is(1000));
+    }
+
+    private static class Node {
+
+        private final int dimension;
+        private final long position;
+        private final List<Node> neighbours = Lists.newArrayListWithCapacity(4);
+
+        private Node(int dimension, long position) {
+            this.dimension = dimension;
+            this.position = position;
+        }
+    }
+
+}